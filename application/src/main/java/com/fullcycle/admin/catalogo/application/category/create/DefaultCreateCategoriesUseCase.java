@@ -0,0 +1,90 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.domain.BatchResult;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+import static io.vavr.API.Try;
+
+public class DefaultCreateCategoriesUseCase extends CreateCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultCreateCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public List<Either<Notification, CreateCategoryOutput>> execute(final List<CreateCategoryCommand> someCommands) {
+        final var categories = new ArrayList<Category>(someCommands.size());
+        final var notifications = new ArrayList<Notification>(someCommands.size());
+
+        for (final var aCommand : someCommands) {
+            final var notification = Notification.create();
+            final var aCategory = Category.newCategory(aCommand.name(), aCommand.description(), aCommand.isActive());
+            aCategory.validate(notification);
+
+            categories.add(aCategory);
+            notifications.add(notification);
+        }
+
+        final var validCategories = new ArrayList<Category>(categories.size());
+        for (int i = 0; i < categories.size(); i++) {
+            if (!notifications.get(i).hasError()) {
+                validCategories.add(categories.get(i));
+            }
+        }
+
+        final var created = create(validCategories);
+        final Set<CategoryID> createdIds = created
+                .map(result -> result.created().stream().map(Category::getId).collect(Collectors.toSet()))
+                .getOrElse(Set.of());
+        final Map<CategoryID, Throwable> causes = created
+                .map(result -> result.causes(Category::getId))
+                .getOrElse(Map.of());
+
+        final var results = new ArrayList<Either<Notification, CreateCategoryOutput>>(categories.size());
+        for (int i = 0; i < categories.size(); i++) {
+            final var aCategory = categories.get(i);
+            final var notification = notifications.get(i);
+
+            if (notification.hasError()) {
+                results.add(Left(notification));
+            } else if (createdIds.contains(aCategory.getId())) {
+                results.add(Right(CreateCategoryOutput.from(aCategory)));
+            } else {
+                results.add(Left(created.isFailure()
+                        ? Notification.create(created.getCause())
+                        : Notification.create(notPersisted(aCategory, causes.get(aCategory.getId())))));
+            }
+        }
+        return results;
+    }
+
+    private Try<BatchResult<Category>> create(final List<Category> someCategories) {
+        if (someCategories.isEmpty()) {
+            return Try.success(BatchResult.of(List.of()));
+        }
+        return Try(() -> this.categoryGateway.createAll(someCategories));
+    }
+
+    static Error notPersisted(final Category aCategory, final Throwable cause) {
+        return cause == null
+                ? new Error("Category '%s' could not be persisted".formatted(aCategory.getName()))
+                : new Error("Category '%s' could not be persisted: %s".formatted(aCategory.getName(), cause.getMessage()));
+    }
+}
@@ -0,0 +1,122 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.application.imports.ImportLine;
+import com.fullcycle.admin.catalogo.application.imports.ImportLineError;
+import com.fullcycle.admin.catalogo.application.imports.ImportOutput;
+import com.fullcycle.admin.catalogo.domain.BatchResult;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Try;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static io.vavr.API.Try;
+
+public class DefaultImportCategoriesUseCase extends ImportCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final int batchSize;
+
+    public DefaultImportCategoriesUseCase(final CategoryGateway categoryGateway, final int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("'batchSize' must be greater than zero");
+        }
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.batchSize = batchSize;
+    }
+
+    // Lê no máximo batchSize linhas por vez e só puxa o próximo lote depois de gravar o atual:
+    // a memória fica limitada ao lote, por maior que seja o arquivo
+    @Override
+    public ImportOutput execute(final ImportCategoriesCommand aCommand) {
+        final var lines = aCommand.lines();
+        final var batch = new ArrayList<ImportLine<CreateCategoryCommand>>(this.batchSize);
+
+        long total = 0;
+        long imported = 0;
+
+        while (lines.hasNext()) {
+            batch.add(lines.next());
+            total++;
+
+            if (batch.size() == this.batchSize) {
+                imported += importBatch(batch, aCommand.errors());
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            imported += importBatch(batch, aCommand.errors());
+        }
+
+        return ImportOutput.with(total, imported);
+    }
+
+    private long importBatch(
+            final List<ImportLine<CreateCategoryCommand>> someLines,
+            final Consumer<ImportLineError> errors
+    ) {
+        final var rows = someLines.parallelStream()
+                .map(DefaultImportCategoriesUseCase::validate)
+                .toList();
+
+        final var validCategories = rows.stream()
+                .filter(row -> !row.notification().hasError())
+                .map(Row::category)
+                .toList();
+
+        final var created = create(validCategories);
+        final Set<CategoryID> createdIds = created
+                .map(result -> result.created().stream().map(Category::getId).collect(Collectors.toSet()))
+                .getOrElse(Set.of());
+        final Map<CategoryID, Throwable> causes = created
+                .map(result -> result.causes(Category::getId))
+                .getOrElse(Map.of());
+
+        // O relatório sai na thread de quem chamou e na ordem do arquivo
+        for (final var row : rows) {
+            final var notification = row.notification();
+            if (!notification.hasError() && !createdIds.contains(row.category().getId())) {
+                notification.append(created.isFailure()
+                        ? new Error(created.getCause().getMessage())
+                        : DefaultCreateCategoriesUseCase.notPersisted(row.category(), causes.get(row.category().getId())));
+            }
+            if (notification.hasError()) {
+                errors.accept(ImportLineError.with(row.line(), notification.getErrors()));
+            }
+        }
+
+        return createdIds.size();
+    }
+
+    private static Row validate(final ImportLine<CreateCategoryCommand> aLine) {
+        if (aLine.value().isLeft()) {
+            return new Row(aLine.number(), null, aLine.value().getLeft());
+        }
+
+        final var aCommand = aLine.value().get();
+        final var notification = Notification.create();
+        final var aCategory = Category.newCategory(aCommand.name(), aCommand.description(), aCommand.isActive());
+        aCategory.validate(notification);
+
+        return new Row(aLine.number(), aCategory, notification);
+    }
+
+    private Try<BatchResult<Category>> create(final List<Category> someCategories) {
+        if (someCategories.isEmpty()) {
+            return Try.success(BatchResult.of(List.of()));
+        }
+        return Try(() -> this.categoryGateway.createAll(someCategories));
+    }
+
+    private record Row(long line, Category category, Notification notification) {
+    }
+}
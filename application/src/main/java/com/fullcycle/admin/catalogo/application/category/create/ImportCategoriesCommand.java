@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.application.imports.ImportLine;
+import com.fullcycle.admin.catalogo.application.imports.ImportLineError;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+public record ImportCategoriesCommand(
+        Iterator<ImportLine<CreateCategoryCommand>> lines,
+        Consumer<ImportLineError> errors
+) {
+
+    public static ImportCategoriesCommand with(
+            final Iterator<ImportLine<CreateCategoryCommand>> someLines,
+            final Consumer<ImportLineError> anErrorSink
+    ) {
+        return new ImportCategoriesCommand(someLines, anErrorSink);
+    }
+}
@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.application.imports.ImportOutput;
+
+public abstract class ImportCategoriesUseCase
+        extends UseCase<ImportCategoriesCommand, ImportOutput> {
+}
@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryPreview;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import reactor.core.publisher.Mono;
+
+// Leituras sem bloqueio para a variante WebFlux; as escritas continuam no CategoryGateway.
+// Fica na aplicação, e não no domínio, para o domínio seguir sem dependências (o Mono é do Reactor)
+public interface ReactiveCategoryGateway {
+
+    Mono<Category> findById(CategoryID anId);
+
+    Mono<Pagination<CategoryPreview>> findAllPreviews(SearchQuery aQuery);
+}
@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.export;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalogo.domain.category.CategoryQueryGateway;
+
+import java.util.Objects;
+
+public class DefaultExportCategoriesUseCase extends ExportCategoriesUseCase {
+
+    private final CategoryQueryGateway categoryQueryGateway;
+
+    public DefaultExportCategoriesUseCase(final CategoryQueryGateway categoryQueryGateway) {
+        this.categoryQueryGateway = Objects.requireNonNull(categoryQueryGateway);
+    }
+
+    // Cada registro é entregue ao sink assim que lido, sem montar a lista inteira em memória
+    @Override
+    public void execute(final ExportCategoriesCommand aCommand) {
+        this.categoryQueryGateway.streamAllPreviews(
+                aCommand.terms(),
+                aPreview -> aCommand.sink().accept(CategoryListOutput.from(aPreview))
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.export;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+
+import java.util.function.Consumer;
+
+public record ExportCategoriesCommand(
+        String terms,
+        Consumer<CategoryListOutput> sink
+) {
+
+    public static ExportCategoriesCommand with(final String aTerms, final Consumer<CategoryListOutput> aSink) {
+        return new ExportCategoriesCommand(aTerms, aSink);
+    }
+}
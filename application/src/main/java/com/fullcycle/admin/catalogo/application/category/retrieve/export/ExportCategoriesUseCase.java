@@ -0,0 +1,6 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.export;
+
+import com.fullcycle.admin.catalogo.application.UnitUseCase;
+
+public abstract class ExportCategoriesUseCase extends UnitUseCase<ExportCategoriesCommand> {
+}
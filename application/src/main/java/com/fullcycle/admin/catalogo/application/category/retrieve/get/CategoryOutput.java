@@ -12,7 +12,8 @@ public record CategoryOutput(
         boolean isActive,
         Instant createdAt,
         Instant updatedAt,
-        Instant deletedAt
+        Instant deletedAt,
+        long version
 ) {
 
     public static CategoryOutput from(final Category aCategory) {
@@ -23,7 +24,8 @@ public record CategoryOutput(
                 aCategory.isActive(),
                 aCategory.getCreatedAt(),
                 aCategory.getUpdatedAt(),
-                aCategory.getDeletedAt()
+                aCategory.getDeletedAt(),
+                aCategory.getVersion()
         );
     }
 }
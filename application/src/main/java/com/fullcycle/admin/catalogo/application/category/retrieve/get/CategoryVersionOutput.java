@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.domain.AggregateVersion;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+
+import java.time.Instant;
+
+public record CategoryVersionOutput(
+        CategoryID id,
+        long version,
+        Instant updatedAt
+) {
+
+    public static CategoryVersionOutput with(final CategoryID anId, final AggregateVersion aVersion) {
+        return new CategoryVersionOutput(anId, aVersion.version(), aVersion.updatedAt());
+    }
+}
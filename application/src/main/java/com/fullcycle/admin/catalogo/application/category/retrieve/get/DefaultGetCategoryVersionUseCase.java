@@ -0,0 +1,27 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+
+import java.util.Objects;
+
+// Só versão e updatedAt: suficiente para o GET condicional, sem carregar o agregado
+public class DefaultGetCategoryVersionUseCase extends GetCategoryVersionUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultGetCategoryVersionUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public CategoryVersionOutput execute(final String anIn) {
+        final var anCategoryID = CategoryID.from(anIn);
+
+        return this.categoryGateway.findVersionById(anCategoryID)
+                .map(aVersion -> CategoryVersionOutput.with(anCategoryID, aVersion))
+                .orElseThrow(() -> NotFoundException.with(Category.class, anCategoryID));
+    }
+}
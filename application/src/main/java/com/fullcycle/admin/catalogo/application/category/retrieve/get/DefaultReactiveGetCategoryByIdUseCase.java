@@ -0,0 +1,27 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.ReactiveCategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+public class DefaultReactiveGetCategoryByIdUseCase extends ReactiveGetCategoryByIdUseCase {
+
+    private final ReactiveCategoryGateway categoryGateway;
+
+    public DefaultReactiveGetCategoryByIdUseCase(final ReactiveCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Mono<CategoryOutput> execute(final String anIn) {
+        final var anCategoryID = CategoryID.from(anIn);
+
+        return this.categoryGateway.findById(anCategoryID)
+                .map(CategoryOutput::from)
+                .switchIfEmpty(Mono.error(() -> NotFoundException.with(Category.class, anCategoryID)));
+    }
+}
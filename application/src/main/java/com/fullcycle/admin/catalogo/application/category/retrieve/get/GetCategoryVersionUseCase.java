@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+public abstract class GetCategoryVersionUseCase
+        extends UseCase<String, CategoryVersionOutput> {
+}
@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import reactor.core.publisher.Mono;
+
+public abstract class ReactiveGetCategoryByIdUseCase
+        extends UseCase<String, Mono<CategoryOutput>> {
+}
@@ -2,6 +2,7 @@ package com.fullcycle.admin.catalogo.application.category.retrieve.list;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryPreview;
 
 import java.time.Instant;
 
@@ -24,4 +25,15 @@ public record CategoryListOutput(
                 aCategory.getDeletedAt()
         );
     }
+
+    public static CategoryListOutput from(final CategoryPreview aPreview) {
+        return new CategoryListOutput(
+                aPreview.id(),
+                aPreview.name(),
+                aPreview.description(),
+                aPreview.isActive(),
+                aPreview.createdAt(),
+                aPreview.deletedAt()
+        );
+    }
 }
@@ -1,6 +1,6 @@
 package com.fullcycle.admin.catalogo.application.category.retrieve.list;
 
-import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryQueryGateway;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 
@@ -8,15 +8,15 @@ import java.util.Objects;
 
 public class DefaultListCategoriesUseCase extends ListCategoriesUseCase {
 
-    private final CategoryGateway categoryGateway;
+    private final CategoryQueryGateway categoryQueryGateway;
 
-    public DefaultListCategoriesUseCase(final CategoryGateway categoryGateway) {
-        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    public DefaultListCategoriesUseCase(final CategoryQueryGateway categoryQueryGateway) {
+        this.categoryQueryGateway = Objects.requireNonNull(categoryQueryGateway);
     }
 
     @Override
     public Pagination<CategoryListOutput> execute(final SearchQuery aQuery) {
-        return this.categoryGateway.findAll(aQuery)
+        return this.categoryQueryGateway.findAllPreviews(aQuery)
                 .map(CategoryListOutput::from);
     }
 }
@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.list;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.ReactiveCategoryGateway;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+public class DefaultReactiveListCategoriesUseCase extends ReactiveListCategoriesUseCase {
+
+    private final ReactiveCategoryGateway categoryGateway;
+
+    public DefaultReactiveListCategoriesUseCase(final ReactiveCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Mono<Pagination<CategoryListOutput>> execute(final SearchQuery aQuery) {
+        return this.categoryGateway.findAllPreviews(aQuery)
+                .map(aPage -> aPage.map(CategoryListOutput::from));
+    }
+}
@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.list;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import reactor.core.publisher.Mono;
+
+public abstract class ReactiveListCategoriesUseCase
+        extends UseCase<SearchQuery, Mono<Pagination<CategoryListOutput>>> {
+}
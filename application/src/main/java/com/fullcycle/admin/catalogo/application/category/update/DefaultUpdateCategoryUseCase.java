@@ -3,6 +3,7 @@ package com.fullcycle.admin.catalogo.application.category.update;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
@@ -29,9 +30,15 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
         final var aDescription = aCommand.description();
         final var isActive = aCommand.isActive();
 
-        final var aCategory = this.categoryGateway.findById(anId)
+        // Sem cache e sem réplica: a versão carregada é a que vai no WHERE version = ? do update,
+        // e com If-Match só segue adiante quando é a mesma que o cliente mandou
+        final var aCategory = this.categoryGateway.findByIdForUpdate(anId)
                 .orElseThrow(notFound(anId));
 
+        if (aCommand.expectedVersion() != null && aCommand.expectedVersion() != aCategory.getVersion()) {
+            throw ConflictException.with(Category.class, anId, aCommand.expectedVersion());
+        }
+
         final var notification = Notification.create();
         aCategory
                 .update(aName, aDescription, isActive)
@@ -41,8 +48,14 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
     }
 
     private Either<Notification, UpdateCategoryOutput> update(final Category aCategory) {
-        return Try(() -> this.categoryGateway.update(aCategory))
-                .toEither()
+        final var result = Try(() -> this.categoryGateway.update(aCategory));
+
+        // Outra escrita venceu entre a leitura e o UPDATE: não é erro de validação
+        if (result.isFailure() && result.getCause() instanceof ConflictException conflict) {
+            throw conflict;
+        }
+
+        return result.toEither()
                 .bimap(Notification::create, UpdateCategoryOutput::from);
     }
 
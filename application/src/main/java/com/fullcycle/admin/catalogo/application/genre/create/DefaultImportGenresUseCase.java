@@ -0,0 +1,160 @@
+package com.fullcycle.admin.catalogo.application.genre.create;
+
+import com.fullcycle.admin.catalogo.application.imports.ImportLine;
+import com.fullcycle.admin.catalogo.application.imports.ImportLineError;
+import com.fullcycle.admin.catalogo.application.imports.ImportOutput;
+import com.fullcycle.admin.catalogo.domain.BatchResult;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Try;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static io.vavr.API.Try;
+
+public class DefaultImportGenresUseCase extends ImportGenresUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+    private final int batchSize;
+
+    public DefaultImportGenresUseCase(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final int batchSize
+    ) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("'batchSize' must be greater than zero");
+        }
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public ImportOutput execute(final ImportGenresCommand aCommand) {
+        final var lines = aCommand.lines();
+        final var batch = new ArrayList<ImportLine<CreateGenreCommand>>(this.batchSize);
+
+        long total = 0;
+        long imported = 0;
+
+        while (lines.hasNext()) {
+            batch.add(lines.next());
+            total++;
+
+            if (batch.size() == this.batchSize) {
+                imported += importBatch(batch, aCommand.errors());
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            imported += importBatch(batch, aCommand.errors());
+        }
+
+        return ImportOutput.with(total, imported);
+    }
+
+    private long importBatch(
+            final List<ImportLine<CreateGenreCommand>> someLines,
+            final Consumer<ImportLineError> errors
+    ) {
+        final var rows = someLines.parallelStream()
+                .map(DefaultImportGenresUseCase::validate)
+                .toList();
+
+        // Uma única consulta de categorias para o lote inteiro, em vez de um existsByIds por gênero
+        final var requestedIds = rows.stream()
+                .filter(row -> !row.notification().hasError())
+                .flatMap(row -> row.categories().stream())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        final Set<CategoryID> existingIds = requestedIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(this.categoryGateway.existsByIds(requestedIds));
+
+        final var validGenres = new ArrayList<Genre>(rows.size());
+        for (final var row : rows) {
+            if (row.notification().hasError()) {
+                continue;
+            }
+
+            final var missingIds = row.categories().stream()
+                    .filter(id -> !existingIds.contains(id))
+                    .map(CategoryID::getValue)
+                    .collect(Collectors.joining(","));
+            if (!missingIds.isEmpty()) {
+                row.notification().append(new Error("Some categories could not be found: %s".formatted(missingIds)));
+                continue;
+            }
+
+            row.genre().addCategory(row.categories());
+            validGenres.add(row.genre());
+        }
+
+        final var created = create(validGenres);
+        final Set<GenreID> createdIds = created
+                .map(result -> result.created().stream().map(Genre::getId).collect(Collectors.toSet()))
+                .getOrElse(Set.of());
+        final Map<GenreID, Throwable> causes = created
+                .map(result -> result.causes(Genre::getId))
+                .getOrElse(Map.of());
+
+        for (final var row : rows) {
+            final var notification = row.notification();
+            if (!notification.hasError() && !createdIds.contains(row.genre().getId())) {
+                notification.append(created.isFailure()
+                        ? new Error(created.getCause().getMessage())
+                        : notPersisted(row.genre(), causes.get(row.genre().getId())));
+            }
+            if (notification.hasError()) {
+                errors.accept(ImportLineError.with(row.line(), notification.getErrors()));
+            }
+        }
+
+        return createdIds.size();
+    }
+
+    private static Row validate(final ImportLine<CreateGenreCommand> aLine) {
+        if (aLine.value().isLeft()) {
+            return new Row(aLine.number(), null, List.of(), aLine.value().getLeft());
+        }
+
+        final var aCommand = aLine.value().get();
+        final var notification = Notification.create();
+        final var aGenre = notification.validate(() -> Genre.newGenre(aCommand.name(), aCommand.isActive()));
+        final var categories = Objects.isNull(aCommand.categories())
+                ? List.<CategoryID>of()
+                : aCommand.categories().stream().distinct().map(CategoryID::from).toList();
+
+        return new Row(aLine.number(), aGenre, categories, notification);
+    }
+
+    private Try<BatchResult<Genre>> create(final List<Genre> someGenres) {
+        if (someGenres.isEmpty()) {
+            return Try.success(BatchResult.of(List.of()));
+        }
+        return Try(() -> this.genreGateway.createAll(someGenres));
+    }
+
+    private static Error notPersisted(final Genre aGenre, final Throwable cause) {
+        return cause == null
+                ? new Error("Genre '%s' could not be persisted".formatted(aGenre.getName()))
+                : new Error("Genre '%s' could not be persisted: %s".formatted(aGenre.getName(), cause.getMessage()));
+    }
+
+    private record Row(long line, Genre genre, List<CategoryID> categories, Notification notification) {
+    }
+}
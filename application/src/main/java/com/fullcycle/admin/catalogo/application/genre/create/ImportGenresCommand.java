@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalogo.application.genre.create;
+
+import com.fullcycle.admin.catalogo.application.imports.ImportLine;
+import com.fullcycle.admin.catalogo.application.imports.ImportLineError;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+public record ImportGenresCommand(
+        Iterator<ImportLine<CreateGenreCommand>> lines,
+        Consumer<ImportLineError> errors
+) {
+
+    public static ImportGenresCommand with(
+            final Iterator<ImportLine<CreateGenreCommand>> someLines,
+            final Consumer<ImportLineError> anErrorSink
+    ) {
+        return new ImportGenresCommand(someLines, anErrorSink);
+    }
+}
@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.genre.create;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.application.imports.ImportOutput;
+
+public abstract class ImportGenresUseCase
+        extends UseCase<ImportGenresCommand, ImportOutput> {
+}
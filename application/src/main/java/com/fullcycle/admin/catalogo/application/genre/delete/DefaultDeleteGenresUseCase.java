@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalogo.application.genre.delete;
+
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+
+import java.util.List;
+
+public class DefaultDeleteGenresUseCase extends DeleteGenresUseCase {
+
+    private final GenreGateway gateway;
+
+    public DefaultDeleteGenresUseCase(GenreGateway gateway) {
+        this.gateway = gateway;
+    }
+
+    @Override
+    public void execute(List<String> someIds) {
+        this.gateway.deleteAllById(someIds.stream().map(GenreID::from).toList());
+    }
+}
@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.genre.delete;
+
+import com.fullcycle.admin.catalogo.application.UnitUseCase;
+
+import java.util.List;
+
+public abstract class DeleteGenresUseCase
+        extends UnitUseCase<List<String>> {
+}
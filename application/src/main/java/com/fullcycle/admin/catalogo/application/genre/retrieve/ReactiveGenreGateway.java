@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve;
+
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.genre.GenrePreview;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveGenreGateway {
+
+    Mono<Genre> findById(GenreID anId);
+
+    Mono<Pagination<GenrePreview>> findAllPreviews(SearchQuery aQuery, boolean withCategories);
+}
@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.export;
+
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
+import com.fullcycle.admin.catalogo.domain.genre.GenreQueryGateway;
+
+import java.util.Objects;
+
+public class DefaultExportGenresUseCase extends ExportGenresUseCase {
+
+    private final GenreQueryGateway genreQueryGateway;
+
+    public DefaultExportGenresUseCase(final GenreQueryGateway genreQueryGateway) {
+        this.genreQueryGateway = Objects.requireNonNull(genreQueryGateway);
+    }
+
+    @Override
+    public void execute(final ExportGenresCommand aCommand) {
+        this.genreQueryGateway.streamAllPreviews(
+                aCommand.terms(),
+                aPreview -> aCommand.sink().accept(GenreListOutput.from(aPreview))
+        );
+    }
+}
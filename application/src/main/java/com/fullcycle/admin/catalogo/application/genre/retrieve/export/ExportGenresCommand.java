@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.export;
+
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
+
+import java.util.function.Consumer;
+
+public record ExportGenresCommand(
+        String terms,
+        Consumer<GenreListOutput> sink
+) {
+
+    public static ExportGenresCommand with(final String aTerms, final Consumer<GenreListOutput> aSink) {
+        return new ExportGenresCommand(aTerms, aSink);
+    }
+}
@@ -0,0 +1,6 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.export;
+
+import com.fullcycle.admin.catalogo.application.UnitUseCase;
+
+public abstract class ExportGenresUseCase extends UnitUseCase<ExportGenresCommand> {
+}
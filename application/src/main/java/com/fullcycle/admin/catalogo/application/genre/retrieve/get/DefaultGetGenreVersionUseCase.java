@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.get;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+
+// Lê só versão e updatedAt do gênero, sem as categorias
+public class DefaultGetGenreVersionUseCase extends GetGenreVersionUseCase {
+
+    private final GenreGateway gateway;
+
+    public DefaultGetGenreVersionUseCase(final GenreGateway gateway) {
+        this.gateway = gateway;
+    }
+
+    @Override
+    public GenreVersionOutput execute(final String anIn) {
+        final var anId = GenreID.from(anIn);
+
+        return this.gateway.findVersionById(anId)
+                .map(aVersion -> GenreVersionOutput.with(anId, aVersion))
+                .orElseThrow(() -> NotFoundException.with(Genre.class, anId));
+    }
+}
@@ -0,0 +1,27 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.genre.retrieve.ReactiveGenreGateway;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+public class DefaultReactiveGetGenreByIdUseCase extends ReactiveGetGenreByIdUseCase {
+
+    private final ReactiveGenreGateway gateway;
+
+    public DefaultReactiveGetGenreByIdUseCase(final ReactiveGenreGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public Mono<GenreOutput> execute(final String anIn) {
+        final var anId = GenreID.from(anIn);
+
+        return this.gateway.findById(anId)
+                .map(GenreOutput::from)
+                .switchIfEmpty(Mono.error(() -> NotFoundException.with(Genre.class, anId)));
+    }
+}
@@ -13,7 +13,8 @@ public record GenreOutput(
         List<String> categories,
         Instant createdAt,
         Instant updatedAt,
-        Instant deletedAt
+        Instant deletedAt,
+        long version
 ) {
 
     public static GenreOutput from(final Genre genre) {
@@ -24,7 +25,8 @@ public record GenreOutput(
                 genre.getCategories().stream().map(CategoryID::getValue).toList(),
                 genre.getCreatedAt(),
                 genre.getUpdatedAt(),
-                genre.getDeletedAt()
+                genre.getDeletedAt(),
+                genre.getVersion()
         );
     }
 }
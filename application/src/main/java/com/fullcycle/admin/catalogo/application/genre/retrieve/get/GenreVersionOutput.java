@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.get;
+
+import com.fullcycle.admin.catalogo.domain.AggregateVersion;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+
+import java.time.Instant;
+
+public record GenreVersionOutput(
+        GenreID id,
+        long version,
+        Instant updatedAt
+) {
+
+    public static GenreVersionOutput with(final GenreID anId, final AggregateVersion aVersion) {
+        return new GenreVersionOutput(anId, aVersion.version(), aVersion.updatedAt());
+    }
+}
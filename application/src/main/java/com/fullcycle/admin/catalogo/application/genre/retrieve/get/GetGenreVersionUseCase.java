@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+public abstract class GetGenreVersionUseCase
+        extends UseCase<String, GenreVersionOutput> {
+}
@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import reactor.core.publisher.Mono;
+
+public abstract class ReactiveGetGenreByIdUseCase
+        extends UseCase<String, Mono<GenreOutput>> {
+}
@@ -1,6 +1,6 @@
 package com.fullcycle.admin.catalogo.application.genre.retrieve.list;
 
-import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreQueryGateway;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 
@@ -8,15 +8,16 @@ import java.util.Objects;
 
 public class DefaultListGenreUseCase extends ListGenreUseCase {
 
-    private final GenreGateway genreGateway;
+    private final GenreQueryGateway genreQueryGateway;
 
-    public DefaultListGenreUseCase(final GenreGateway genreGateway) {
-        this.genreGateway = Objects.requireNonNull(genreGateway);
+    public DefaultListGenreUseCase(final GenreQueryGateway genreQueryGateway) {
+        this.genreQueryGateway = Objects.requireNonNull(genreQueryGateway);
     }
 
     @Override
     public Pagination<GenreListOutput> execute(final SearchQuery aQuery) {
-        return this.genreGateway.findAll(aQuery)
+        // A listagem não devolve as categorias: genres_categories nem é consultada
+        return this.genreQueryGateway.findAllPreviews(aQuery, false)
                 .map(GenreListOutput::from);
     }
 }
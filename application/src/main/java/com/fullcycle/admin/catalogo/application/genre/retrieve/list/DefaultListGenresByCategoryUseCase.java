@@ -0,0 +1,37 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.list;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+
+import java.util.Objects;
+
+public class DefaultListGenresByCategoryUseCase extends ListGenresByCategoryUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+
+    public DefaultListGenresByCategoryUseCase(final CategoryGateway categoryGateway, final GenreGateway genreGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public Pagination<GenreListOutput> execute(final ListGenresByCategoryCommand aCommand) {
+        final var categoryIds = aCommand.categoryIds().stream().distinct().toList();
+
+        // Categoria inexistente é 404, e não uma página vazia
+        final var found = this.categoryGateway.existsByIds(categoryIds);
+        categoryIds.stream()
+                .filter(id -> !found.contains(id))
+                .findFirst()
+                .ifPresent(id -> {
+                    throw NotFoundException.with(Category.class, id);
+                });
+
+        return this.genreGateway.findAllByCategories(categoryIds, aCommand.match(), aCommand.query())
+                .map(GenreListOutput::from);
+    }
+}
@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.list;
+
+import com.fullcycle.admin.catalogo.application.genre.retrieve.ReactiveGenreGateway;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+public class DefaultReactiveListGenreUseCase extends ReactiveListGenreUseCase {
+
+    private final ReactiveGenreGateway gateway;
+
+    public DefaultReactiveListGenreUseCase(final ReactiveGenreGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public Mono<Pagination<GenreListOutput>> execute(final SearchQuery aQuery) {
+        // Mesmo contrato da listagem bloqueante: sem as categorias de cada gênero
+        return this.gateway.findAllPreviews(aQuery, false)
+                .map(aPage -> aPage.map(GenreListOutput::from));
+    }
+}
@@ -2,6 +2,7 @@ package com.fullcycle.admin.catalogo.application.genre.retrieve.list;
 
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenrePreview;
 
 import java.time.Instant;
 import java.util.List;
@@ -29,4 +30,18 @@ public record GenreListOutput(
                 aGenre.getUpdatedAt()
         );
     }
+
+    public static GenreListOutput from(final GenrePreview aPreview) {
+        return new GenreListOutput(
+                aPreview.id().getValue(),
+                aPreview.name(),
+                aPreview.isActive(),
+                aPreview.categories().stream()
+                        .map(CategoryID::getValue)
+                        .toList(),
+                aPreview.createdAt(),
+                aPreview.deletedAt(),
+                aPreview.updatedAt()
+        );
+    }
 }
@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.list;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.CategoryMatch;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+
+import java.util.List;
+
+public record ListGenresByCategoryCommand(
+        List<CategoryID> categoryIds,
+        CategoryMatch match,
+        SearchQuery query
+) {
+
+    public static ListGenresByCategoryCommand with(
+            final List<CategoryID> someCategoryIds,
+            final CategoryMatch aMatch,
+            final SearchQuery aQuery
+    ) {
+        return new ListGenresByCategoryCommand(someCategoryIds, aMatch, aQuery);
+    }
+}
@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.list;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import reactor.core.publisher.Mono;
+
+public abstract class ReactiveListGenreUseCase extends UseCase<SearchQuery, Mono<Pagination<GenreListOutput>>> {
+}
@@ -3,6 +3,7 @@ package com.fullcycle.admin.catalogo.application.genre.update;
 import com.fullcycle.admin.catalogo.domain.Identifier;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
@@ -38,9 +39,14 @@ public class DefaultUpdateGenreUseCase extends UpdateGenreUseCase {
         final var categories = anInput.categories();
         final var notification = Notification.create();
 
-        final var actualGenre = this.gateway.findById(anInput.id())
+        // Mesma regra das categorias: a versão conferida com o If-Match é a que vai no WHERE do update
+        final var actualGenre = this.gateway.findByIdForUpdate(anInput.id())
                 .orElseThrow(notFound(anInput.id()));
 
+        if (anInput.expectedVersion() != null && anInput.expectedVersion() != actualGenre.getVersion()) {
+            throw ConflictException.with(Genre.class, anInput.id(), anInput.expectedVersion());
+        }
+
         notification.append(validateCategories(toCategoryID(categories)));
         final var aGenre = notification.validate(() -> actualGenre.update(
                 aName, isActive, categories.stream().map(CategoryID::from).toList()));
@@ -50,15 +56,18 @@ public class DefaultUpdateGenreUseCase extends UpdateGenreUseCase {
             throw new NotificationException("Could not update Genre (%s)".formatted(anInput.id()), notification);
         }
 
-        aGenre.addCategory(categories.stream().map(CategoryID::from).toList());
-
         return update(aGenre).get();
 
     }
 
     private Either<Notification, UpdateGenreOutput> update(final Genre aGenre) {
-        return Try(() -> this.gateway.update(aGenre))
-                .toEither()
+        final var result = Try(() -> this.gateway.update(aGenre));
+
+        if (result.isFailure() && result.getCause() instanceof ConflictException conflict) {
+            throw conflict;
+        }
+
+        return result.toEither()
                 .bimap(Notification::create, UpdateGenreOutput::from);
     }
 
@@ -9,11 +9,17 @@ public record UpdateGenreCommand(
         GenreID id,
         String name,
         boolean isActive,
-        List<String> categories
+        List<String> categories,
+        Long expectedVersion
 ) {
 
     public static UpdateGenreCommand with(final GenreID id, final String aName,
                                           final Boolean isActive, final List<String> categories) {
-        return new UpdateGenreCommand(id, aName, Objects.isNull(isActive) || isActive, categories);
+        return with(id, aName, isActive, categories, null);
+    }
+
+    public static UpdateGenreCommand with(final GenreID id, final String aName, final Boolean isActive,
+                                          final List<String> categories, final Long expectedVersion) {
+        return new UpdateGenreCommand(id, aName, Objects.isNull(isActive) || isActive, categories, expectedVersion);
     }
 }
@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalogo.application.imports;
+
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+
+public record ImportLine<T>(
+        long number,
+        Either<Notification, T> value
+) {
+
+    public static <T> ImportLine<T> of(final long aNumber, final T aValue) {
+        return new ImportLine<>(aNumber, Right(aValue));
+    }
+
+    public static <T> ImportLine<T> malformed(final long aNumber, final String aMessage) {
+        return new ImportLine<>(aNumber, Left(Notification.create(new Error(aMessage))));
+    }
+}
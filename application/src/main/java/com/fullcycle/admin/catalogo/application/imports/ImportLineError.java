@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalogo.application.imports;
+
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+public record ImportLineError(
+        long line,
+        List<Error> errors
+) {
+
+    public static ImportLineError with(final long aLine, final List<Error> someErrors) {
+        return new ImportLineError(aLine, List.copyOf(someErrors));
+    }
+}
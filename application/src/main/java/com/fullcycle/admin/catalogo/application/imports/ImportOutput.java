@@ -0,0 +1,12 @@
+package com.fullcycle.admin.catalogo.application.imports;
+
+public record ImportOutput(
+        long total,
+        long imported,
+        long failed
+) {
+
+    public static ImportOutput with(final long aTotal, final long anImported) {
+        return new ImportOutput(aTotal, anImported, aTotal - anImported);
+    }
+}
@@ -0,0 +1,139 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.domain.BatchResult;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CreateCategoriesUseCaseTest {
+
+    @InjectMocks
+    private DefaultCreateCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenValidAndInvalidCommands_whenCallsCreateCategories_shouldPersistOnlyValidOnes() {
+        final var expectedErrorMessage = "'name' should not be null";
+
+        final var commands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with(null, null, true),
+                CreateCategoryCommand.with("Séries", null, true)
+        );
+
+        when(categoryGateway.createAll(anyList()))
+                .thenAnswer(call -> BatchResult.of(call.<List<Category>>getArgument(0)));
+
+        final var actualResults = useCase.execute(commands);
+
+        Assertions.assertEquals(3, actualResults.size());
+        Assertions.assertTrue(actualResults.get(0).isRight());
+        Assertions.assertTrue(actualResults.get(1).isLeft());
+        Assertions.assertEquals(expectedErrorMessage, actualResults.get(1).getLeft().firstError().message());
+        Assertions.assertTrue(actualResults.get(2).isRight());
+
+        Mockito.verify(categoryGateway, times(1)).createAll(argThat(categories ->
+                categories.size() == 2
+                        && "Filmes".equals(categories.get(0).getName())
+                        && "Séries".equals(categories.get(1).getName())
+        ));
+    }
+
+    @Test
+    public void givenCategoriesNotPersisted_whenCallsCreateCategories_shouldReturnNotificationForThem() {
+        final var commands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with("Séries", null, true)
+        );
+
+        when(categoryGateway.createAll(anyList()))
+                .thenAnswer(call -> BatchResult.of(List.of(call.<List<Category>>getArgument(0).get(0))));
+
+        final var actualResults = useCase.execute(commands);
+
+        Assertions.assertTrue(actualResults.get(0).isRight());
+        Assertions.assertTrue(actualResults.get(1).isLeft());
+        Assertions.assertEquals(
+                "Category 'Séries' could not be persisted",
+                actualResults.get(1).getLeft().firstError().message()
+        );
+    }
+
+    @Test
+    public void givenABatchRolledBack_whenCallsCreateCategories_shouldReturnItsCauseForTheItemsInIt() {
+        final var expectedCause = "Duplicate entry for key 'PRIMARY'";
+
+        final var commands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with("Séries", null, true)
+        );
+
+        when(categoryGateway.createAll(anyList()))
+                .thenAnswer(call -> {
+                    final var categories = call.<List<Category>>getArgument(0);
+                    return new BatchResult<>(
+                            List.of(categories.get(0)),
+                            List.of(new BatchResult.Failure<>(List.of(categories.get(1)), new IllegalStateException(expectedCause)))
+                    );
+                });
+
+        final var actualResults = useCase.execute(commands);
+
+        Assertions.assertTrue(actualResults.get(0).isRight());
+        Assertions.assertEquals(
+                "Category 'Séries' could not be persisted: " + expectedCause,
+                actualResults.get(1).getLeft().firstError().message()
+        );
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsCreateCategories_shouldReturnNotificationForEveryValidItem() {
+        final var expectedErrorMessage = "Gateway error";
+
+        final var commands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with(null, null, true)
+        );
+
+        when(categoryGateway.createAll(anyList()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var actualResults = useCase.execute(commands);
+
+        Assertions.assertEquals(expectedErrorMessage, actualResults.get(0).getLeft().firstError().message());
+        Assertions.assertEquals("'name' should not be null", actualResults.get(1).getLeft().firstError().message());
+    }
+
+    @Test
+    public void givenOnlyInvalidCommands_whenCallsCreateCategories_shouldNotCallGateway() {
+        final var commands = List.of(CreateCategoryCommand.with(null, null, true));
+
+        final var actualResults = useCase.execute(commands);
+
+        Assertions.assertTrue(actualResults.get(0).isLeft());
+        Mockito.verify(categoryGateway, times(0)).createAll(any());
+    }
+}
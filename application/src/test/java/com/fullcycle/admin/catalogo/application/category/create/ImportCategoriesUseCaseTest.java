@@ -0,0 +1,145 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.application.imports.ImportLine;
+import com.fullcycle.admin.catalogo.application.imports.ImportLineError;
+import com.fullcycle.admin.catalogo.domain.BatchResult;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ImportCategoriesUseCaseTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    private DefaultImportCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+        useCase = new DefaultImportCategoriesUseCase(categoryGateway, BATCH_SIZE);
+    }
+
+    @Test
+    public void givenValidInvalidAndMalformedLines_whenCallsImport_shouldPersistValidOnesInBatchesAndReportTheRest() {
+        final var expectedErrorMessage = "'name' should not be null";
+        final var expectedMalformedMessage = "Malformed record: unexpected end-of-input";
+
+        final var lines = List.of(
+                ImportLine.of(1, CreateCategoryCommand.with("Filmes", null, true)),
+                ImportLine.of(2, CreateCategoryCommand.with(null, null, true)),
+                ImportLine.<CreateCategoryCommand>malformed(4, expectedMalformedMessage),
+                ImportLine.of(5, CreateCategoryCommand.with("Séries", null, true)),
+                ImportLine.of(6, CreateCategoryCommand.with("Documentários", null, false))
+        );
+
+        when(categoryGateway.createAll(anyList()))
+                .thenAnswer(call -> BatchResult.of(call.<List<Category>>getArgument(0)));
+
+        final var actualErrors = new ArrayList<ImportLineError>();
+        final var actualOutput = useCase.execute(ImportCategoriesCommand.with(lines.iterator(), actualErrors::add));
+
+        Assertions.assertEquals(5, actualOutput.total());
+        Assertions.assertEquals(3, actualOutput.imported());
+        Assertions.assertEquals(2, actualOutput.failed());
+
+        Assertions.assertEquals(2, actualErrors.size());
+        Assertions.assertEquals(2, actualErrors.get(0).line());
+        Assertions.assertEquals(expectedErrorMessage, actualErrors.get(0).errors().get(0).message());
+        Assertions.assertEquals(4, actualErrors.get(1).line());
+        Assertions.assertEquals(expectedMalformedMessage, actualErrors.get(1).errors().get(0).message());
+
+        // Lotes de 2 linhas: [1, 2] grava 1, [4, 5] grava 1 e [6] grava 1
+        Mockito.verify(categoryGateway, times(3)).createAll(argThat(categories -> categories.size() == 1));
+    }
+
+    @Test
+    public void givenABatchThatFailsToPersist_whenCallsImport_shouldReportItsLinesAndKeepGoing() {
+        final var expectedErrorMessage = "Gateway error";
+
+        final var lines = List.of(
+                ImportLine.of(1, CreateCategoryCommand.with("Filmes", null, true)),
+                ImportLine.of(2, CreateCategoryCommand.with("Séries", null, true)),
+                ImportLine.of(3, CreateCategoryCommand.with("Documentários", null, true))
+        );
+
+        when(categoryGateway.createAll(anyList()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage))
+                .thenAnswer(call -> BatchResult.of(call.<List<Category>>getArgument(0)));
+
+        final var actualErrors = new ArrayList<ImportLineError>();
+        final var actualOutput = useCase.execute(ImportCategoriesCommand.with(lines.iterator(), actualErrors::add));
+
+        Assertions.assertEquals(3, actualOutput.total());
+        Assertions.assertEquals(1, actualOutput.imported());
+        Assertions.assertEquals(2, actualOutput.failed());
+
+        Assertions.assertEquals(List.of(1L, 2L), actualErrors.stream().map(ImportLineError::line).toList());
+        Assertions.assertEquals(expectedErrorMessage, actualErrors.get(0).errors().get(0).message());
+
+        Mockito.verify(categoryGateway, times(1)).createAll(argThat(categories ->
+                categories.size() == 1 && "Documentários".equals(categories.get(0).getName())
+        ));
+    }
+
+    @Test
+    public void givenABatchRolledBackByTheGateway_whenCallsImport_shouldReportTheCauseOnEachOfItsLines() {
+        final var expectedCause = "Data too long for column 'name'";
+
+        final var lines = List.of(
+                ImportLine.of(1, CreateCategoryCommand.with("Filmes", null, true)),
+                ImportLine.of(2, CreateCategoryCommand.with("Séries", null, true))
+        );
+
+        when(categoryGateway.createAll(anyList()))
+                .thenAnswer(call -> new BatchResult<>(
+                        List.of(),
+                        List.of(new BatchResult.Failure<>(call.<List<Category>>getArgument(0), new IllegalStateException(expectedCause)))
+                ));
+
+        final var actualErrors = new ArrayList<ImportLineError>();
+        final var actualOutput = useCase.execute(ImportCategoriesCommand.with(lines.iterator(), actualErrors::add));
+
+        Assertions.assertEquals(0, actualOutput.imported());
+        Assertions.assertEquals(List.of(1L, 2L), actualErrors.stream().map(ImportLineError::line).toList());
+        Assertions.assertEquals(
+                "Category 'Filmes' could not be persisted: " + expectedCause,
+                actualErrors.get(0).errors().get(0).message()
+        );
+        Assertions.assertEquals(
+                "Category 'Séries' could not be persisted: " + expectedCause,
+                actualErrors.get(1).errors().get(0).message()
+        );
+    }
+
+    @Test
+    public void givenAnEmptyBody_whenCallsImport_shouldNotTouchTheGateway() {
+        final var actualOutput = useCase.execute(ImportCategoriesCommand.with(
+                List.<ImportLine<CreateCategoryCommand>>of().iterator(),
+                error -> Assertions.fail("no error expected")
+        ));
+
+        Assertions.assertEquals(0, actualOutput.total());
+        Assertions.assertEquals(0, actualOutput.imported());
+        Assertions.assertEquals(0, actualOutput.failed());
+
+        Mockito.verify(categoryGateway, times(0)).createAll(Mockito.<List<Category>>any());
+    }
+}
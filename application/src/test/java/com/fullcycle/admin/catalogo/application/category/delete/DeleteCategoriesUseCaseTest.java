@@ -0,0 +1,58 @@
+package com.fullcycle.admin.catalogo.application.category.delete;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+public class DeleteCategoriesUseCaseTest {
+
+    @InjectMocks
+    private DefaultDeleteCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenValidIds_whenCallsDeleteCategories_shouldDeleteAllInOneCall() {
+        final var expectedIds = List.of(CategoryID.unique(), CategoryID.unique());
+
+        doNothing()
+                .when(categoryGateway).deleteAllById(any());
+
+        Assertions.assertDoesNotThrow(() -> useCase.execute(expectedIds.stream().map(CategoryID::getValue).toList()));
+
+        Mockito.verify(categoryGateway, times(1)).deleteAllById(eq(expectedIds));
+    }
+
+    @Test
+    public void givenValidIds_whenGatewayThrowsException_shouldReturnException() {
+        final var expectedIds = List.of(CategoryID.unique());
+
+        doThrow(new IllegalStateException("Gateway error"))
+                .when(categoryGateway).deleteAllById(any());
+
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> useCase.execute(expectedIds.stream().map(CategoryID::getValue).toList()));
+    }
+}
@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.export;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryPreview;
+import com.fullcycle.admin.catalogo.domain.category.CategoryQueryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+public class ExportCategoriesUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultExportCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryQueryGateway categoryQueryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryQueryGateway);
+    }
+
+    @Test
+    public void givenAValidCommand_whenCallsExportCategories_thenShouldDeliverEveryCategoryToTheSink() {
+        final var previews = Stream.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Séries", null, true)
+        ).map(CategoryPreview::from).toList();
+
+        final var expectedTerms = "s";
+        final var expectedItems = previews.stream().map(CategoryListOutput::from).toList();
+
+        doAnswer(invocation -> {
+            previews.forEach(invocation.<Consumer<CategoryPreview>>getArgument(1));
+            return null;
+        }).when(categoryQueryGateway).streamAllPreviews(eq(expectedTerms), any());
+
+        final var actualItems = new ArrayList<CategoryListOutput>();
+        useCase.execute(ExportCategoriesCommand.with(expectedTerms, actualItems::add));
+
+        Assertions.assertEquals(expectedItems, actualItems);
+    }
+}
@@ -0,0 +1,67 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GetCategoryVersionUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultGetCategoryVersionUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    public void givenAValidId_whenCallsGetCategoryVersion_shouldReturnTheVersionWithoutLoadingTheCategory() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId();
+        final var expectedVersion = 3L;
+
+        when(categoryGateway.findVersionById(eq(expectedId)))
+                .thenReturn(Optional.of(new AggregateVersion(expectedVersion, aCategory.getUpdatedAt())));
+
+        final var actualOutput = useCase.execute(expectedId.getValue());
+
+        Assertions.assertEquals(expectedId, actualOutput.id());
+        Assertions.assertEquals(expectedVersion, actualOutput.version());
+        Assertions.assertEquals(aCategory.getUpdatedAt(), actualOutput.updatedAt());
+        verify(categoryGateway, never()).findById(any());
+    }
+
+    @Test
+    public void givenAInvalidId_whenCallsGetCategoryVersion_shouldReturnNotFound() {
+        final var expectedErrorMessage = "Category with ID 123 was not found";
+        final var expectedId = CategoryID.from("123");
+
+        when(categoryGateway.findVersionById(eq(expectedId)))
+                .thenReturn(Optional.empty());
+
+        final var actualException = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> useCase.execute(expectedId.getValue())
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
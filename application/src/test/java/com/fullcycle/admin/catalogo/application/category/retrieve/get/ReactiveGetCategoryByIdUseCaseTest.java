@@ -0,0 +1,61 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.application.category.retrieve.ReactiveCategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveGetCategoryByIdUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultReactiveGetCategoryByIdUseCase useCase;
+
+    @Mock
+    private ReactiveCategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    public void givenAValidId_whenCallsGetCategory_shouldEmitCategory() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId();
+
+        when(categoryGateway.findById(eq(expectedId)))
+                .thenReturn(Mono.just(aCategory.clone()));
+
+        final var actualCategory = useCase.execute(expectedId.getValue()).block();
+
+        Assertions.assertEquals(CategoryOutput.from(aCategory), actualCategory);
+    }
+
+    @Test
+    public void givenAnUnknownId_whenCallsGetCategory_shouldEmitNotFound() {
+        final var expectedErrorMessage = "Category with ID 123 was not found";
+        final var expectedId = CategoryID.from("123");
+
+        when(categoryGateway.findById(eq(expectedId)))
+                .thenReturn(Mono.empty());
+
+        final var actualResult = useCase.execute(expectedId.getValue());
+
+        final var actualException = Assertions.assertThrows(NotFoundException.class, actualResult::block);
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
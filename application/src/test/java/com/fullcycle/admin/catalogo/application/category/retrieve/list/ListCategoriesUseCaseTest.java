@@ -1,7 +1,8 @@
 package com.fullcycle.admin.catalogo.application.category.retrieve.list;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
-import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryPreview;
+import com.fullcycle.admin.catalogo.domain.category.CategoryQueryGateway;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import org.junit.jupiter.api.Assertions;
@@ -14,6 +15,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
@@ -25,7 +27,7 @@ public class ListCategoriesUseCaseTest {
     private DefaultListCategoriesUseCase useCase;
 
     @Mock
-    private CategoryGateway categoryGateway;
+    private CategoryQueryGateway categoryGateway;
 
     @BeforeEach
     void cleanUp() {
@@ -34,10 +36,10 @@ public class ListCategoriesUseCaseTest {
 
     @Test
     public void givenAValidQuery_whenCallsListCategories_thenShouldReturnCategories() {
-        final var categories = List.of(
+        final var categories = Stream.of(
                 Category.newCategory("Filmes", null, true),
                 Category.newCategory("Series", null, true)
-        );
+        ).map(CategoryPreview::from).toList();
 
         final var expectedPage = 0;
         final var expectedPerPage = 10;
@@ -54,7 +56,7 @@ public class ListCategoriesUseCaseTest {
         final var expectedItemsCount = 2;
         final var expectedResult = expectedPagination.map(CategoryListOutput::from);
 
-        when(categoryGateway.findAll(eq(aQuery)))
+        when(categoryGateway.findAllPreviews(eq(aQuery)))
                 .thenReturn(expectedPagination);
 
         final var actualResult = useCase.execute(aQuery);
@@ -68,7 +70,7 @@ public class ListCategoriesUseCaseTest {
 
     @Test
     public void givenAValidQuery_whenHasNoResults_thenShouldReturnEmptyCategories() {
-        final var categories = List.<Category>of();
+        final var categories = List.<CategoryPreview>of();
 
         final var expectedPage = 0;
         final var expectedPerPage = 10;
@@ -85,7 +87,7 @@ public class ListCategoriesUseCaseTest {
         final var expectedItemsCount = 0;
         final var expectedResult = expectedPagination.map(CategoryListOutput::from);
 
-        when(categoryGateway.findAll(eq(aQuery)))
+        when(categoryGateway.findAllPreviews(eq(aQuery)))
                 .thenReturn(expectedPagination);
 
         final var actualResult = useCase.execute(aQuery);
@@ -109,7 +111,7 @@ public class ListCategoriesUseCaseTest {
         final var aQuery =
                 new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
-        when(categoryGateway.findAll(eq(aQuery)))
+        when(categoryGateway.findAllPreviews(eq(aQuery)))
                 .thenThrow(new IllegalStateException(expectedErrorMessage));
 
         final var actualException =
@@ -0,0 +1,68 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.list;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.application.category.retrieve.ReactiveCategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryPreview;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveListCategoriesUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultReactiveListCategoriesUseCase useCase;
+
+    @Mock
+    private ReactiveCategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    public void givenAValidQuery_whenCallsListCategories_thenShouldEmitCategories() {
+        final var categories = List.of(
+                CategoryPreview.from(Category.newCategory("Filmes", null, true)),
+                CategoryPreview.from(Category.newCategory("Series", null, true))
+        );
+
+        final var aQuery = new SearchQuery(0, 10, "", "createdAt", "asc");
+        final var expectedPagination = new Pagination<>(0, 10, categories.size(), categories);
+        final var expectedResult = expectedPagination.map(CategoryListOutput::from);
+
+        when(categoryGateway.findAllPreviews(eq(aQuery)))
+                .thenReturn(Mono.just(expectedPagination));
+
+        final var actualResult = useCase.execute(aQuery).block();
+
+        Assertions.assertEquals(expectedResult, actualResult);
+    }
+
+    @Test
+    public void givenAValidQuery_whenGatewayFails_thenShouldEmitTheError() {
+        final var expectedErrorMessage = "Gateway error";
+        final var aQuery = new SearchQuery(0, 10, "", "createdAt", "asc");
+
+        when(categoryGateway.findAllPreviews(eq(aQuery)))
+                .thenReturn(Mono.error(new IllegalStateException(expectedErrorMessage)));
+
+        final var actualResult = useCase.execute(aQuery);
+
+        final var actualException = Assertions.assertThrows(IllegalStateException.class, actualResult::block);
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
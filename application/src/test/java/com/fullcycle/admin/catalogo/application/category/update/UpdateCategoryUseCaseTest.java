@@ -3,6 +3,7 @@ package com.fullcycle.admin.catalogo.application.category.update;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -52,7 +53,7 @@ public class UpdateCategoryUseCaseTest {
                 expectedIsActive
         );
 
-        when(categoryGateway.findById(eq(expectedId)))
+        when(categoryGateway.findByIdForUpdate(eq(expectedId)))
                 .thenReturn(Optional.of(Category.with(aCategory)));
 
         when(categoryGateway.update(any()))
@@ -63,7 +64,7 @@ public class UpdateCategoryUseCaseTest {
         Assertions.assertNotNull(actualOutput);
         Assertions.assertNotNull(actualOutput.id());
 
-        Mockito.verify(categoryGateway, times(1)).findById(eq(expectedId));
+        Mockito.verify(categoryGateway, times(1)).findByIdForUpdate(eq(expectedId));
 
         Mockito.verify(categoryGateway, times(1)).update(argThat(
                 aUpdatedCategory ->
@@ -93,7 +94,7 @@ public class UpdateCategoryUseCaseTest {
         final var aCommand =
                 UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription, expectedIsActive);
 
-        when(categoryGateway.findById(eq(expectedId)))
+        when(categoryGateway.findByIdForUpdate(eq(expectedId)))
                 .thenReturn(Optional.of(Category.with(aCategory)));
 
         final var notification = useCase.execute(aCommand).getLeft();
@@ -121,7 +122,7 @@ public class UpdateCategoryUseCaseTest {
                 expectedIsActive
         );
 
-        when(categoryGateway.findById(eq(expectedId)))
+        when(categoryGateway.findByIdForUpdate(eq(expectedId)))
                 .thenReturn(Optional.of(Category.with(aCategory)));
 
         when(categoryGateway.update(any()))
@@ -135,7 +136,7 @@ public class UpdateCategoryUseCaseTest {
         Assertions.assertNotNull(actualOutput);
         Assertions.assertNotNull(actualOutput.id());
 
-        Mockito.verify(categoryGateway, times(1)).findById(eq(expectedId));
+        Mockito.verify(categoryGateway, times(1)).findByIdForUpdate(eq(expectedId));
 
         Mockito.verify(categoryGateway, times(1)).update(argThat(
                 aUpdatedCategory ->
@@ -168,7 +169,7 @@ public class UpdateCategoryUseCaseTest {
                 expectedIsActive
         );
 
-        when(categoryGateway.findById(eq(expectedId)))
+        when(categoryGateway.findByIdForUpdate(eq(expectedId)))
                 .thenReturn(Optional.of(Category.with(aCategory)));
 
         when(categoryGateway.update(any()))
@@ -206,7 +207,7 @@ public class UpdateCategoryUseCaseTest {
                 expectedIsActive
         );
 
-        when(categoryGateway.findById(eq(CategoryID.from(expectedId))))
+        when(categoryGateway.findByIdForUpdate(eq(CategoryID.from(expectedId))))
                 .thenReturn(Optional.empty());
 
         final var actualException =
@@ -214,8 +215,44 @@ public class UpdateCategoryUseCaseTest {
 
         Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
 
-        Mockito.verify(categoryGateway, times(1)).findById(eq(CategoryID.from(expectedId)));
+        Mockito.verify(categoryGateway, times(1)).findByIdForUpdate(eq(CategoryID.from(expectedId)));
 
         Mockito.verify(categoryGateway, times(0)).update(any());
     }
+
+    @Test
+    public void givenAStaleExpectedVersion_whenCallsUpdateCategory_shouldThrowConflictWithoutUpdating() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        final var expectedId = aCategory.getId();
+        final var expectedErrorMessage = "Category with ID %s is no longer at version 3".formatted(expectedId.getValue());
+
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true, 3L);
+
+        when(categoryGateway.findByIdForUpdate(eq(expectedId)))
+                .thenReturn(Optional.of(Category.with(aCategory)));
+
+        final var actualException =
+                Assertions.assertThrows(ConflictException.class, () -> useCase.execute(aCommand));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        Mockito.verify(categoryGateway, times(0)).update(any());
+    }
+
+    @Test
+    public void givenAConcurrentWrite_whenGatewayThrowsConflict_shouldPropagateItInsteadOfANotification() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        final var expectedId = aCategory.getId();
+
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true, 0L);
+
+        when(categoryGateway.findByIdForUpdate(eq(expectedId)))
+                .thenReturn(Optional.of(Category.with(aCategory)));
+        when(categoryGateway.update(any()))
+                .thenThrow(ConflictException.with(Category.class, expectedId, 0));
+
+        Assertions.assertThrows(ConflictException.class, () -> useCase.execute(aCommand));
+
+        Mockito.verify(categoryGateway, times(1)).update(any());
+    }
 }
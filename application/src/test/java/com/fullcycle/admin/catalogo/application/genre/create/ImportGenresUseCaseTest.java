@@ -0,0 +1,137 @@
+package com.fullcycle.admin.catalogo.application.genre.create;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.application.imports.ImportLine;
+import com.fullcycle.admin.catalogo.application.imports.ImportLineError;
+import com.fullcycle.admin.catalogo.domain.BatchResult;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.StreamSupport;
+
+import static org.mockito.Mockito.*;
+
+public class ImportGenresUseCaseTest extends UseCaseTest {
+
+    private static final int BATCH_SIZE = 10;
+
+    private DefaultImportGenresUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway, genreGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        useCase = new DefaultImportGenresUseCase(categoryGateway, genreGateway, BATCH_SIZE);
+    }
+
+    @Test
+    public void givenGenresSharingCategories_whenCallsImport_shouldLookUpCategoriesOncePerBatch() {
+        final var filmes = CategoryID.unique();
+        final var series = CategoryID.unique();
+        final var missing = CategoryID.unique();
+
+        final var expectedMissingMessage = "Some categories could not be found: %s".formatted(missing.getValue());
+        final var expectedNameMessage = "'name' should not be null";
+
+        final var lines = List.of(
+                ImportLine.of(1, CreateGenreCommand.with("Ação", true, List.of(filmes.getValue(), series.getValue()))),
+                ImportLine.of(2, CreateGenreCommand.with("Drama", true, List.of(series.getValue()))),
+                ImportLine.of(3, CreateGenreCommand.with("Terror", true, List.of(filmes.getValue(), missing.getValue()))),
+                ImportLine.of(4, CreateGenreCommand.with(null, true, List.of())),
+                ImportLine.of(5, CreateGenreCommand.with("Comédia", false, List.of()))
+        );
+
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of(filmes, series));
+        when(genreGateway.createAll(anyList())).thenAnswer(call -> BatchResult.of(call.<List<Genre>>getArgument(0)));
+
+        final var actualErrors = new ArrayList<ImportLineError>();
+        final var actualOutput = useCase.execute(ImportGenresCommand.with(lines.iterator(), actualErrors::add));
+
+        Assertions.assertEquals(5, actualOutput.total());
+        Assertions.assertEquals(3, actualOutput.imported());
+        Assertions.assertEquals(2, actualOutput.failed());
+
+        Assertions.assertEquals(2, actualErrors.size());
+        Assertions.assertEquals(3, actualErrors.get(0).line());
+        Assertions.assertEquals(expectedMissingMessage, actualErrors.get(0).errors().get(0).message());
+        Assertions.assertEquals(4, actualErrors.get(1).line());
+        Assertions.assertEquals(expectedNameMessage, actualErrors.get(1).errors().get(0).message());
+
+        verify(categoryGateway, times(1)).existsByIds(argThat(ids ->
+                Set.copyOf(StreamSupport.stream(ids.spliterator(), false).toList())
+                        .equals(Set.of(filmes, series, missing))
+        ));
+        verify(genreGateway, times(1)).createAll(argThat(genres ->
+                genres.size() == 3
+                        && genres.get(0).getCategories().equals(List.of(filmes, series))
+                        && genres.get(1).getCategories().equals(List.of(series))
+                        && genres.get(2).getCategories().isEmpty()
+        ));
+    }
+
+    @Test
+    public void givenGenresWithoutCategories_whenCallsImport_shouldNotQueryCategories() {
+        final var lines = List.of(
+                ImportLine.of(1, CreateGenreCommand.with("Ação", true, List.of())),
+                ImportLine.of(2, CreateGenreCommand.with("Drama", true, List.of()))
+        );
+
+        when(genreGateway.createAll(anyList())).thenAnswer(call -> BatchResult.of(call.<List<Genre>>getArgument(0)));
+
+        final var actualOutput = useCase.execute(ImportGenresCommand.with(
+                lines.iterator(),
+                error -> Assertions.fail("no error expected")
+        ));
+
+        Assertions.assertEquals(2, actualOutput.imported());
+
+        verify(categoryGateway, never()).existsByIds(any());
+    }
+
+    @Test
+    public void givenABatchRolledBackByTheGateway_whenCallsImport_shouldReportTheCauseOnEachOfItsLines() {
+        final var expectedCause = "Lock wait timeout exceeded";
+
+        final var lines = List.of(
+                ImportLine.of(1, CreateGenreCommand.with("Ação", true, List.of())),
+                ImportLine.of(2, CreateGenreCommand.with("Drama", true, List.of()))
+        );
+
+        when(genreGateway.createAll(anyList())).thenAnswer(call -> new BatchResult<>(
+                List.of(),
+                List.of(new BatchResult.Failure<>(call.<List<Genre>>getArgument(0), new IllegalStateException(expectedCause)))
+        ));
+
+        final var actualErrors = new ArrayList<ImportLineError>();
+        final var actualOutput = useCase.execute(ImportGenresCommand.with(lines.iterator(), actualErrors::add));
+
+        Assertions.assertEquals(0, actualOutput.imported());
+        Assertions.assertEquals(2, actualErrors.size());
+        Assertions.assertEquals(
+                "Genre 'Ação' could not be persisted: " + expectedCause,
+                actualErrors.get(0).errors().get(0).message()
+        );
+        Assertions.assertEquals(
+                "Genre 'Drama' could not be persisted: " + expectedCause,
+                actualErrors.get(1).errors().get(0).message()
+        );
+    }
+}
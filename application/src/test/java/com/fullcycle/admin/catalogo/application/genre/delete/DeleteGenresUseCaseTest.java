@@ -0,0 +1,43 @@
+package com.fullcycle.admin.catalogo.application.genre.delete;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DeleteGenresUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private GenreGateway gateway;
+
+    @InjectMocks
+    private DefaultDeleteGenresUseCase useCase;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(gateway);
+    }
+
+    @Test
+    public void givenValidIds_whenCallsDeleteGenres_shouldDeleteAllInOneCall() {
+        final var expectedIds = List.of(GenreID.unique(), GenreID.unique());
+
+        doNothing()
+                .when(gateway).deleteAllById(any());
+
+        Assertions.assertDoesNotThrow(() -> useCase.execute(expectedIds.stream().map(GenreID::getValue).toList()));
+
+        Mockito.verify(gateway, times(1)).deleteAllById(eq(expectedIds));
+    }
+}
@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.export;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenrePreview;
+import com.fullcycle.admin.catalogo.domain.genre.GenreQueryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+public class ExportGenresUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultExportGenresUseCase useCase;
+
+    @Mock
+    private GenreQueryGateway genreQueryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(genreQueryGateway);
+    }
+
+    @Test
+    public void givenAValidCommand_whenCallsExportGenres_thenShouldDeliverEveryGenreToTheSink() {
+        final var acao = Genre.newGenre("Ação", true);
+        acao.addCategory(CategoryID.from("123"));
+        final var previews = List.of(GenrePreview.from(acao), GenrePreview.from(Genre.newGenre("Drama", false)));
+
+        final String expectedTerms = null;
+        final var expectedItems = previews.stream().map(GenreListOutput::from).toList();
+
+        doAnswer(invocation -> {
+            previews.forEach(invocation.<Consumer<GenrePreview>>getArgument(1));
+            return null;
+        }).when(genreQueryGateway).streamAllPreviews(eq(expectedTerms), any());
+
+        final var actualItems = new ArrayList<GenreListOutput>();
+        useCase.execute(ExportGenresCommand.with(expectedTerms, actualItems::add));
+
+        Assertions.assertEquals(expectedItems, actualItems);
+        Assertions.assertEquals(List.of("123"), actualItems.get(0).categories());
+    }
+}
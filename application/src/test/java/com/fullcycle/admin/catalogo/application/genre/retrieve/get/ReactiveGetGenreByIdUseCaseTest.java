@@ -0,0 +1,67 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.ReactiveGenreGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveGetGenreByIdUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultReactiveGetGenreByIdUseCase useCase;
+
+    @Mock
+    private ReactiveGenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(genreGateway);
+    }
+
+    @Test
+    public void givenAValidId_whenCallsGetGenre_shouldEmitGenreWithCategories() {
+        final var expectedCategories = List.of(CategoryID.from("123"), CategoryID.from("456"));
+
+        final var aGenre = Genre.newGenre("Ação", true)
+                .addCategory(expectedCategories);
+        final var expectedId = aGenre.getId();
+
+        when(genreGateway.findById(eq(expectedId)))
+                .thenReturn(Mono.just(aGenre));
+
+        final var actualGenre = useCase.execute(expectedId.getValue()).block();
+
+        Assertions.assertEquals(expectedId.getValue(), actualGenre.id());
+        Assertions.assertEquals(aGenre.getName(), actualGenre.name());
+        Assertions.assertEquals(List.of("123", "456"), actualGenre.categories());
+    }
+
+    @Test
+    public void givenAnUnknownId_whenCallsGetGenre_shouldEmitNotFound() {
+        final var expectedErrorMessage = "Genre with ID 123 was not found";
+        final var expectedId = GenreID.from("123");
+
+        when(genreGateway.findById(eq(expectedId)))
+                .thenReturn(Mono.empty());
+
+        final var actualResult = useCase.execute(expectedId.getValue());
+
+        final var actualException = Assertions.assertThrows(NotFoundException.class, actualResult::block);
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
@@ -2,7 +2,8 @@ package com.fullcycle.admin.catalogo.application.genre.retrieve.list;
 
 import com.fullcycle.admin.catalogo.application.UseCaseTest;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
-import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenrePreview;
+import com.fullcycle.admin.catalogo.domain.genre.GenreQueryGateway;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import org.junit.jupiter.api.Assertions;
@@ -13,6 +14,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
@@ -24,7 +26,7 @@ public class ListGenreUseCaseTest extends UseCaseTest {
     private DefaultListGenreUseCase useCase;
 
     @Mock
-    private GenreGateway gateway;
+    private GenreQueryGateway gateway;
 
     @Override
     protected List<Object> getMocks() {
@@ -33,10 +35,10 @@ public class ListGenreUseCaseTest extends UseCaseTest {
 
     @Test
     public void givenAValidQuery_whenCallsListGenres_thenShouldReturnGenres() {
-        final var genres = List.of(
+        final var genres = Stream.of(
                 Genre.newGenre("Ação", true),
                 Genre.newGenre("Comédia", true)
-        );
+        ).map(GenrePreview::from).toList();
 
         final var expectedPage = 0;
         final var expectedPerPage = 10;
@@ -53,7 +55,7 @@ public class ListGenreUseCaseTest extends UseCaseTest {
         final var expectedItemsCount = 2;
         final var expectedResult = expectedPagination.map(GenreListOutput::from);
 
-        when(gateway.findAll(eq(aQuery)))
+        when(gateway.findAllPreviews(eq(aQuery), eq(false)))
                 .thenReturn(expectedPagination);
 
         final var actualResult = useCase.execute(aQuery);
@@ -67,7 +69,7 @@ public class ListGenreUseCaseTest extends UseCaseTest {
 
     @Test
     public void givenAValidQuery_whenHasNoResults_thenShouldReturnEmptyGenres() {
-        final var genres = List.<Genre>of();
+        final var genres = List.<GenrePreview>of();
 
         final var expectedPage = 0;
         final var expectedPerPage = 10;
@@ -84,7 +86,7 @@ public class ListGenreUseCaseTest extends UseCaseTest {
         final var expectedItemsCount = 0;
         final var expectedResult = expectedPagination.map(GenreListOutput::from);
 
-        when(gateway.findAll(eq(aQuery)))
+        when(gateway.findAllPreviews(eq(aQuery), eq(false)))
                 .thenReturn(expectedPagination);
 
         final var actualResult = useCase.execute(aQuery);
@@ -108,7 +110,7 @@ public class ListGenreUseCaseTest extends UseCaseTest {
         final var aQuery =
                 new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
-        when(gateway.findAll(eq(aQuery)))
+        when(gateway.findAllPreviews(eq(aQuery), eq(false)))
                 .thenThrow(new IllegalStateException(expectedErrorMessage));
 
         final var actualException =
@@ -0,0 +1,84 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.list;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.genre.CategoryMatch;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ListGenresByCategoryUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultListGenresByCategoryUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway, genreGateway);
+    }
+
+    @Test
+    public void givenExistingCategories_whenCallsListGenresByCategory_thenShouldReturnGenres() {
+        final var filmes = CategoryID.from("123");
+        final var series = CategoryID.from("456");
+        final var genres = List.of(
+                Genre.newGenre("Ação", true).addCategory(filmes),
+                Genre.newGenre("Drama", true).addCategory(filmes).addCategory(series)
+        );
+
+        final var expectedCategories = List.of(filmes, series);
+        final var expectedMatch = CategoryMatch.ALL;
+        final var aQuery = new SearchQuery(0, 10, "", "name", "asc");
+        final var expectedPagination = new Pagination<>(0, 10, genres.size(), genres);
+
+        when(categoryGateway.existsByIds(eq(expectedCategories)))
+                .thenReturn(expectedCategories);
+        when(genreGateway.findAllByCategories(eq(expectedCategories), eq(expectedMatch), eq(aQuery)))
+                .thenReturn(expectedPagination);
+
+        final var actualResult = useCase.execute(ListGenresByCategoryCommand.with(
+                List.of(filmes, series, filmes), expectedMatch, aQuery));
+
+        Assertions.assertEquals(expectedPagination.map(GenreListOutput::from), actualResult);
+        Assertions.assertEquals(2, actualResult.total());
+    }
+
+    @Test
+    public void givenAMissingCategory_whenCallsListGenresByCategory_thenShouldThrowNotFound() {
+        final var filmes = CategoryID.from("123");
+        final var missing = CategoryID.from("456");
+        final var expectedErrorMessage = "Category with ID 456 was not found";
+
+        when(categoryGateway.existsByIds(any()))
+                .thenReturn(List.of(filmes));
+
+        final var actualException = Assertions.assertThrows(NotFoundException.class, () -> useCase.execute(
+                ListGenresByCategoryCommand.with(
+                        List.of(filmes, missing), CategoryMatch.ANY, new SearchQuery(0, 10, "", "name", "asc"))));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        verify(genreGateway, never()).findAllByCategories(any(), any(), any());
+    }
+}
@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.list;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.ReactiveGenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenrePreview;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveListGenreUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultReactiveListGenreUseCase useCase;
+
+    @Mock
+    private ReactiveGenreGateway gateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(gateway);
+    }
+
+    @Test
+    public void givenAValidQuery_whenCallsListGenres_thenShouldEmitGenresWithoutLoadingCategories() {
+        final var genres = Stream.of(
+                Genre.newGenre("Ação", true),
+                Genre.newGenre("Comédia", true)
+        ).map(GenrePreview::from).toList();
+
+        final var aQuery = new SearchQuery(0, 10, "", "createdAt", "asc");
+        final var expectedPagination = new Pagination<>(0, 10, genres.size(), genres);
+        final var expectedResult = expectedPagination.map(GenreListOutput::from);
+
+        when(gateway.findAllPreviews(eq(aQuery), eq(false)))
+                .thenReturn(Mono.just(expectedPagination));
+
+        final var actualResult = useCase.execute(aQuery).block();
+
+        Assertions.assertEquals(expectedResult, actualResult);
+    }
+}
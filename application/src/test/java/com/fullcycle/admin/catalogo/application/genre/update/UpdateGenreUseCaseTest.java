@@ -47,7 +47,7 @@ public class UpdateGenreUseCaseTest extends UseCaseTest {
 
         final var aCommand = UpdateGenreCommand.with(expectedId, expectedName, expectedIsActive, expectedCategories);
 
-        when(genreGateway.findById(eq(expectedId)))
+        when(genreGateway.findByIdForUpdate(eq(expectedId)))
                 .thenReturn(Optional.of(aGenre));
 
         when(genreGateway.update(any()))
@@ -59,7 +59,7 @@ public class UpdateGenreUseCaseTest extends UseCaseTest {
         Assertions.assertNotNull(actualOutput.id());
         Assertions.assertEquals(expectedName, aGenre.getName());
 
-        verify(genreGateway, times(1)).findById(eq(expectedId));
+        verify(genreGateway, times(1)).findByIdForUpdate(eq(expectedId));
         verify(genreGateway, times(1)).update(argThat(genre -> genre.getName().equals(expectedName)));
     }
 
@@ -74,7 +74,7 @@ public class UpdateGenreUseCaseTest extends UseCaseTest {
 
         final var aCommand = UpdateGenreCommand.with(expectedId, expectedName, expectedIsActive, expectedCategoriesIds);
 
-        when(genreGateway.findById(eq(expectedId)))
+        when(genreGateway.findByIdForUpdate(eq(expectedId)))
                 .thenReturn(Optional.of(aGenre));
 
         when(categoryGateway.existsByIds(any()))
@@ -88,11 +88,12 @@ public class UpdateGenreUseCaseTest extends UseCaseTest {
         Assertions.assertNotNull(actualOutput);
         Assertions.assertNotNull(actualOutput.id());
 
-        verify(genreGateway, times(1)).findById(eq(expectedId));
+        verify(genreGateway, times(1)).findByIdForUpdate(eq(expectedId));
         verify(categoryGateway, times(1)).existsByIds(eq(expectedCategories));
         verify(genreGateway, times(1)).update(argThat(genre ->
                 genre.getName().equals(expectedName)
                         && genre.isActive() == expectedIsActive
+                        && genre.getCategories().equals(expectedCategories)
         ));
     }
 
@@ -106,7 +107,7 @@ public class UpdateGenreUseCaseTest extends UseCaseTest {
 
         final var aCommand = UpdateGenreCommand.with(expectedId, expectedName, expectedIsActive, expectedCategories);
 
-        when(genreGateway.findById(eq(expectedId)))
+        when(genreGateway.findByIdForUpdate(eq(expectedId)))
                 .thenReturn(Optional.of(aGenre));
 
         when(genreGateway.update(any()))
@@ -117,7 +118,7 @@ public class UpdateGenreUseCaseTest extends UseCaseTest {
         Assertions.assertNotNull(actualOutput);
         Assertions.assertNotNull(actualOutput.id());
 
-        verify(genreGateway, times(1)).findById(eq(expectedId));
+        verify(genreGateway, times(1)).findByIdForUpdate(eq(expectedId));
         verify(genreGateway, times(1)).update(any());
         verify(categoryGateway, times(0)).existsByIds(any());
     }
@@ -133,7 +134,7 @@ public class UpdateGenreUseCaseTest extends UseCaseTest {
 
         final var aCommand = UpdateGenreCommand.with(expectedId, expectedName, expectedIsActive, expectedCategoriesIds);
 
-        when(genreGateway.findById(eq(expectedId)))
+        when(genreGateway.findByIdForUpdate(eq(expectedId)))
                 .thenReturn(Optional.of(aGenre));
 
         // Apenas uma categoria existe
@@ -147,7 +148,7 @@ public class UpdateGenreUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(1, actualException.getErrors().size());
         Assertions.assertEquals("Some categories could not be found: 456", actualException.getErrors().get(0).message());
 
-        verify(genreGateway, times(1)).findById(eq(expectedId));
+        verify(genreGateway, times(1)).findByIdForUpdate(eq(expectedId));
         verify(categoryGateway, times(1)).existsByIds(any());
         verify(genreGateway, never()).update(any());
     }
@@ -162,7 +163,7 @@ public class UpdateGenreUseCaseTest extends UseCaseTest {
 
         final var aCommand = UpdateGenreCommand.with(expectedId, expectedName, expectedIsActive, expectedCategories);
 
-        when(genreGateway.findById(eq(expectedId)))
+        when(genreGateway.findByIdForUpdate(eq(expectedId)))
                 .thenReturn(Optional.of(aGenre));
 
         final var actualException =
@@ -172,7 +173,7 @@ public class UpdateGenreUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(1, actualException.getErrors().size());
         Assertions.assertEquals("'name' should not be empty", actualException.getErrors().get(0).message());
 
-        verify(genreGateway, times(1)).findById(eq(expectedId));
+        verify(genreGateway, times(1)).findByIdForUpdate(eq(expectedId));
         verify(categoryGateway, never()).existsByIds(any());
         verify(genreGateway, never()).update(any());
     }
@@ -187,12 +188,12 @@ public class UpdateGenreUseCaseTest extends UseCaseTest {
 
         final var aCommand = UpdateGenreCommand.with(expectedId, expectedName, expectedIsActive, expectedCategories);
 
-        when(genreGateway.findById(eq(expectedId)))
+        when(genreGateway.findByIdForUpdate(eq(expectedId)))
                 .thenReturn(Optional.empty());
 
         Assertions.assertThrows(NotFoundException.class, () -> useCase.execute(aCommand));
 
-        verify(genreGateway, times(1)).findById(eq(expectedId));
+        verify(genreGateway, times(1)).findByIdForUpdate(eq(expectedId));
         verify(categoryGateway, never()).existsByIds(any());
         verify(genreGateway, never()).update(any());
     }
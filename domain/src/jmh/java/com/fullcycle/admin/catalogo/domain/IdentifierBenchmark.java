@@ -0,0 +1,117 @@
+package com.fullcycle.admin.catalogo.domain;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// ./gradlew :domain:jmh — compara o CategoryID atual com o antigo, que embrulhava a String.
+// As chaves de busca são instâncias novas (iguais, não idênticas), como quando chegam de um request
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdentifierBenchmark {
+
+    @Param({"10", "1000"})
+    private int size;
+
+    private Set<StringId> stringSet;
+    private Map<StringId, Integer> stringMap;
+    private StringId[] stringKeys;
+
+    private Set<CategoryID> uuidSet;
+    private Map<CategoryID, Integer> uuidMap;
+    private CategoryID[] uuidKeys;
+
+    @Setup
+    public void setup() {
+        this.stringSet = new HashSet<>();
+        this.stringMap = new HashMap<>();
+        this.stringKeys = new StringId[this.size];
+        this.uuidSet = new HashSet<>();
+        this.uuidMap = new HashMap<>();
+        this.uuidKeys = new CategoryID[this.size];
+
+        for (int i = 0; i < this.size; i++) {
+            final var aValue = UUID.randomUUID().toString();
+
+            this.stringSet.add(new StringId(aValue));
+            this.stringMap.put(new StringId(aValue), i);
+            this.stringKeys[i] = new StringId(aValue);
+
+            this.uuidSet.add(CategoryID.from(aValue));
+            this.uuidMap.put(CategoryID.from(aValue), i);
+            this.uuidKeys[i] = CategoryID.from(aValue);
+        }
+    }
+
+    @Benchmark
+    public void setContainsString(final Blackhole bh) {
+        for (final var aKey : this.stringKeys) {
+            bh.consume(this.stringSet.contains(aKey));
+        }
+    }
+
+    @Benchmark
+    public void setContainsUuid(final Blackhole bh) {
+        for (final var aKey : this.uuidKeys) {
+            bh.consume(this.uuidSet.contains(aKey));
+        }
+    }
+
+    @Benchmark
+    public void mapGetString(final Blackhole bh) {
+        for (final var aKey : this.stringKeys) {
+            bh.consume(this.stringMap.get(aKey));
+        }
+    }
+
+    @Benchmark
+    public void mapGetUuid(final Blackhole bh) {
+        for (final var aKey : this.uuidKeys) {
+            bh.consume(this.uuidMap.get(aKey));
+        }
+    }
+
+    // Cópia do CategoryID anterior: hashCode com Objects.hash (array de varargs a cada chamada)
+    private static final class StringId {
+
+        private final String value;
+
+        private StringId(final String value) {
+            this.value = Objects.requireNonNull(value);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            return this.value.equals(((StringId) o).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.value);
+        }
+    }
+}
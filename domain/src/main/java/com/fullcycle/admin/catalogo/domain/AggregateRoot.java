@@ -1,8 +1,40 @@
 package com.fullcycle.admin.catalogo.domain;
 
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+import com.fullcycle.admin.catalogo.domain.events.EventType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 public abstract class AggregateRoot<ID extends Identifier> extends Entity<ID> {
 
+    private List<DomainEvent> events = new ArrayList<>();
+
     protected AggregateRoot(final ID id) {
         super(id);
     }
-}
\ No newline at end of file
+
+    public List<DomainEvent> getEvents() {
+        return Collections.unmodifiableList(events);
+    }
+
+    public void clearEvents() {
+        this.events.clear();
+    }
+
+    // Um agregado recém-criado (ou já alterado na mesma operação) não precisa de outro 'updated'
+    protected void registerEvent(final DomainEvent anEvent) {
+        if (anEvent.type() == EventType.UPDATED && !this.events.isEmpty()) {
+            return;
+        }
+        this.events.add(anEvent);
+    }
+
+    @Override
+    protected Object clone() throws CloneNotSupportedException {
+        @SuppressWarnings("unchecked") final var copy = (AggregateRoot<ID>) super.clone();
+        copy.events = new ArrayList<>(this.events);
+        return copy;
+    }
+}
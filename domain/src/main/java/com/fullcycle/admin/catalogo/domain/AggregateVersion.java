@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.domain;
+
+import java.time.Instant;
+
+// Versão de um agregado sem carregá-lo: o suficiente para ETag, Last-Modified e If-Match
+public record AggregateVersion(long version, Instant updatedAt) {
+}
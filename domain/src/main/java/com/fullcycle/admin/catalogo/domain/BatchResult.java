@@ -0,0 +1,32 @@
+package com.fullcycle.admin.catalogo.domain;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// Resultado de uma gravação em lotes: o que entrou e, para cada lote desfeito, os itens dele e o motivo
+public record BatchResult<T>(List<T> created, List<BatchResult.Failure<T>> failures) {
+
+    public BatchResult {
+        created = List.copyOf(created);
+        failures = List.copyOf(failures);
+    }
+
+    public static <T> BatchResult<T> of(final List<T> created) {
+        return new BatchResult<>(created, List.of());
+    }
+
+    public <K> Map<K, Throwable> causes(final Function<T, K> key) {
+        final var causes = new HashMap<K, Throwable>();
+        failures.forEach(failure -> failure.items().forEach(item -> causes.put(key.apply(item), failure.cause())));
+        return causes;
+    }
+
+    public record Failure<T>(List<T> items, Throwable cause) {
+
+        public Failure {
+            items = List.copyOf(items);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.fullcycle.admin.catalogo.domain;
+
+import java.util.Objects;
+import java.util.UUID;
+
+public abstract class UuidIdentifier extends Identifier {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final long mostSigBits;
+    private final long leastSigBits;
+
+    // Valores fora do formato UUID (ids legados, entrada do usuário) são guardados como vieram
+    private final String raw;
+    private final int hash;
+
+    // Forma textual montada só quando alguém pede
+    private String value;
+
+    protected UuidIdentifier(final UUID anId) {
+        Objects.requireNonNull(anId);
+        this.mostSigBits = anId.getMostSignificantBits();
+        this.leastSigBits = anId.getLeastSignificantBits();
+        this.raw = null;
+        this.hash = Long.hashCode(this.mostSigBits ^ this.leastSigBits);
+    }
+
+    protected UuidIdentifier(final String aValue) {
+        Objects.requireNonNull(aValue);
+        if (isCanonical(aValue)) {
+            this.mostSigBits = parse(aValue, 0, 8) << 32 | parse(aValue, 9, 13) << 16 | parse(aValue, 14, 18);
+            this.leastSigBits = parse(aValue, 19, 23) << 48 | parse(aValue, 24, 36);
+            this.raw = null;
+            this.hash = Long.hashCode(this.mostSigBits ^ this.leastSigBits);
+        } else {
+            this.mostSigBits = 0;
+            this.leastSigBits = 0;
+            this.raw = aValue;
+            this.hash = aValue.hashCode();
+        }
+    }
+
+    @Override
+    public String getValue() {
+        if (this.raw != null) {
+            return this.raw;
+        }
+
+        var aValue = this.value;
+        if (aValue == null) {
+            aValue = format(this.mostSigBits, this.leastSigBits);
+            this.value = aValue;
+        }
+        return aValue;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final UuidIdentifier that = (UuidIdentifier) o;
+        return this.hash == that.hash
+                && this.mostSigBits == that.mostSigBits
+                && this.leastSigBits == that.leastSigBits
+                && Objects.equals(this.raw, that.raw);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    private static boolean isCanonical(final String aValue) {
+        if (aValue.length() != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            final char c = aValue.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (digit(c) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long parse(final String aValue, final int from, final int to) {
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            result = result << 4 | digit(aValue.charAt(i));
+        }
+        return result;
+    }
+
+    // Character.digit aceitaria dígitos de outros alfabetos (árabe, fullwidth); só ASCII, como no UuidUtils
+    private static int digit(final char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    private static String format(final long msb, final long lsb) {
+        final var chars = new char[36];
+        hex(chars, 0, msb >>> 32, 8);
+        chars[8] = '-';
+        hex(chars, 9, msb >>> 16, 4);
+        chars[13] = '-';
+        hex(chars, 14, msb, 4);
+        chars[18] = '-';
+        hex(chars, 19, lsb >>> 48, 4);
+        chars[23] = '-';
+        hex(chars, 24, lsb, 12);
+        return new String(chars);
+    }
+
+    private static void hex(final char[] chars, final int offset, final long aValue, final int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            chars[offset + (digits - 1 - i)] = HEX[(int) (aValue >>> (i * 4)) & 0xF];
+        }
+    }
+}
@@ -13,6 +13,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
     private Instant createdAt;
     private Instant updatedAt;
     private Instant deletedAt;
+    private long version;
 
     private Category(
             final CategoryID anId,
@@ -21,7 +22,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
             final boolean isActive,
             final Instant aCreationDate,
             final Instant aUpdateDate,
-            final Instant aDeleteDate
+            final Instant aDeleteDate,
+            final long aVersion
     ) {
         super(anId);
         this.name = aName;
@@ -30,13 +32,16 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         this.createdAt = Objects.requireNonNull(aCreationDate, "'createdAt' should not be null");
         this.updatedAt = Objects.requireNonNull(aUpdateDate, "'updatedAt' should not be null");
         this.deletedAt = aDeleteDate;
+        this.version = aVersion;
     }
 
     public static Category newCategory(final String aName, final String aDescription, final boolean isActive) {
         final var id = CategoryID.unique();
         final var now = Instant.now();
         final var deletedAt = isActive ? null : now;
-        return new Category(id, aName, aDescription, isActive, now, now, deletedAt);
+        final var aCategory = new Category(id, aName, aDescription, isActive, now, now, deletedAt, 0);
+        aCategory.registerEvent(CategoryEvent.created(id));
+        return aCategory;
     }
 
     public static Category with(
@@ -46,7 +51,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
             final boolean active,
             final Instant createdAt,
             final Instant updatedAt,
-            final Instant deletedAt
+            final Instant deletedAt,
+            final long version
     ) {
         return new Category(
                 anId,
@@ -55,7 +61,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
                 active,
                 createdAt,
                 updatedAt,
-                deletedAt
+                deletedAt,
+                version
         );
     }
 
@@ -67,7 +74,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
                 aCategory.isActive(),
                 aCategory.createdAt,
                 aCategory.updatedAt,
-                aCategory.deletedAt
+                aCategory.deletedAt,
+                aCategory.version
         );
     }
 
@@ -80,6 +88,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         this.deletedAt = null;
         this.active = true;
         this.updatedAt = Instant.now();
+        registerEvent(CategoryEvent.updated(getId()));
         return this;
     }
 
@@ -90,6 +99,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
 
         this.active = false;
         this.updatedAt = Instant.now();
+        registerEvent(CategoryEvent.updated(getId()));
         return this;
     }
 
@@ -106,6 +116,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         this.name = aName;
         this.description = aDescription;
         this.updatedAt = Instant.now();
+        registerEvent(CategoryEvent.updated(getId()));
         return this;
     }
 
@@ -137,6 +148,11 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         return deletedAt;
     }
 
+    // Versão lida do banco; só a persistência avança o valor, a cada escrita
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public Category clone() {
         try {
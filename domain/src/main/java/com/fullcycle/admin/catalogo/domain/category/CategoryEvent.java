@@ -0,0 +1,37 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+import com.fullcycle.admin.catalogo.domain.events.EventType;
+
+import java.time.Instant;
+
+public record CategoryEvent(
+        String id,
+        EventType type,
+        Instant occurredOn
+) implements DomainEvent {
+
+    public static final String AGGREGATE_TYPE = "category";
+
+    public static CategoryEvent created(final CategoryID anId) {
+        return new CategoryEvent(anId.getValue(), EventType.CREATED, Instant.now());
+    }
+
+    public static CategoryEvent updated(final CategoryID anId) {
+        return new CategoryEvent(anId.getValue(), EventType.UPDATED, Instant.now());
+    }
+
+    public static CategoryEvent deleted(final CategoryID anId) {
+        return new CategoryEvent(anId.getValue(), EventType.DELETED, Instant.now());
+    }
+
+    @Override
+    public String aggregateType() {
+        return AGGREGATE_TYPE;
+    }
+
+    @Override
+    public String aggregateId() {
+        return id;
+    }
+}
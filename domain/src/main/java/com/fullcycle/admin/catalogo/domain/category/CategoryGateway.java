@@ -1,5 +1,7 @@
 package com.fullcycle.admin.catalogo.domain.category;
 
+import com.fullcycle.admin.catalogo.domain.AggregateVersion;
+import com.fullcycle.admin.catalogo.domain.BatchResult;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 
@@ -10,10 +12,19 @@ public interface CategoryGateway {
 
     Category create(Category aCategory);
 
+    BatchResult<Category> createAll(List<Category> someCategories);
+
     void deleteById(CategoryID anId);
 
+    void deleteAllById(List<CategoryID> someIds);
+
     Optional<Category> findById(CategoryID anId);
 
+    // Leitura que antecede uma escrita: nunca de uma cópia atrasada (cache ou réplica)
+    Optional<Category> findByIdForUpdate(CategoryID anId);
+
+    Optional<AggregateVersion> findVersionById(CategoryID anId);
+
     Category update(Category aCategory);
 
     Pagination<Category> findAll(SearchQuery aQuery);
@@ -1,16 +1,17 @@
 package com.fullcycle.admin.catalogo.domain.category;
 
-import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.UuidIdentifier;
 
-import java.util.Objects;
 import java.util.UUID;
 
-public class CategoryID extends Identifier {
-    private final String value;
+public class CategoryID extends UuidIdentifier {
 
     private CategoryID(final String value) {
-        Objects.requireNonNull(value);
-        this.value = value;
+        super(value);
+    }
+
+    private CategoryID(final UUID value) {
+        super(value);
     }
 
     public static CategoryID unique() {
@@ -22,24 +23,6 @@ public class CategoryID extends Identifier {
     }
 
     public static CategoryID from(final UUID anId) {
-        return new CategoryID(anId.toString().toLowerCase());
-    }
-
-    @Override
-    public String getValue() {
-        return value;
-    }
-
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        final CategoryID that = (CategoryID) o;
-        return getValue().equals(that.getValue());
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hash(getValue());
+        return new CategoryID(anId);
     }
 }
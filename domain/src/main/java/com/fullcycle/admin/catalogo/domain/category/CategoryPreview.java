@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import java.time.Instant;
+
+public record CategoryPreview(
+        CategoryID id,
+        String name,
+        String description,
+        boolean isActive,
+        Instant createdAt,
+        Instant deletedAt
+) {
+
+    public static CategoryPreview from(final Category aCategory) {
+        return new CategoryPreview(
+                aCategory.getId(),
+                aCategory.getName(),
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                aCategory.getCreatedAt(),
+                aCategory.getDeletedAt()
+        );
+    }
+}
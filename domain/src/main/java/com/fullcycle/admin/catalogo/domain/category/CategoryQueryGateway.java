@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+
+import java.util.function.Consumer;
+
+public interface CategoryQueryGateway {
+
+    Pagination<CategoryPreview> findAllPreviews(SearchQuery aQuery);
+
+    void streamAllPreviews(String terms, Consumer<CategoryPreview> aConsumer);
+}
@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CategorySearchIndex {
+
+    void index(Category aCategory);
+
+    void remove(CategoryID anId);
+
+    Optional<List<CategoryID>> search(String terms);
+}
@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalogo.domain.events;
+
+import java.time.Instant;
+
+public interface DomainEvent {
+
+    String aggregateType();
+
+    String aggregateId();
+
+    EventType type();
+
+    Instant occurredOn();
+}
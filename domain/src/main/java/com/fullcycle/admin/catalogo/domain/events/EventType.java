@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.domain.events;
+
+public enum EventType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalogo.domain.genre;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.util.Arrays;
+
+public enum CategoryMatch {
+    ANY,
+    ALL;
+
+    public static CategoryMatch of(final String aMatch) {
+        if (aMatch == null || aMatch.isBlank()) {
+            return ANY;
+        }
+
+        return Arrays.stream(values())
+                .filter(match -> match.name().equalsIgnoreCase(aMatch.trim()))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(
+                        new Error("'match' must be one of any or all")));
+    }
+}
@@ -20,6 +20,7 @@ public class Genre extends AggregateRoot<GenreID> {
     private Instant createdAt;
     private Instant updatedAt;
     private Instant deletedAt;
+    private long version;
 
     protected Genre(final GenreID genreID,
             final String aName,
@@ -27,7 +28,8 @@ public class Genre extends AggregateRoot<GenreID> {
             final Instant aCreatedAt,
             final Instant aUpdatedAt,
             final Instant aDeletedAt,
-            final ArrayList<CategoryID> categories) {
+            final ArrayList<CategoryID> categories,
+            final long aVersion) {
         super(genreID);
         this.name = aName;
         this.isActive = isActive;
@@ -35,12 +37,15 @@ public class Genre extends AggregateRoot<GenreID> {
         this.updatedAt = aUpdatedAt;
         this.deletedAt = aDeletedAt;
         this.categories = categories;
+        this.version = aVersion;
         selfValidate();
     }
 
     public static Genre newGenre(String aName, boolean isActive) {
-        return new Genre(GenreID.unique(), aName, isActive, Instant.now(), Instant.now(), null,
-                new ArrayList<>());
+        final var aGenre = new Genre(GenreID.unique(), aName, isActive, Instant.now(), Instant.now(), null,
+                new ArrayList<>(), 0);
+        aGenre.registerEvent(GenreEvent.created(aGenre.getId()));
+        return aGenre;
     }
 
     public static Genre with(final GenreID genreID,
@@ -49,8 +54,9 @@ public class Genre extends AggregateRoot<GenreID> {
             final Instant createdAt,
             final Instant updatedAt,
             final Instant deletedAt,
-            final ArrayList<CategoryID> categories) {
-        return new Genre(genreID, name, isActive, createdAt, updatedAt, deletedAt, categories);
+            final ArrayList<CategoryID> categories,
+            final long version) {
+        return new Genre(genreID, name, isActive, createdAt, updatedAt, deletedAt, categories, version);
     }
 
     public static Genre with(final Genre aGenre) {
@@ -61,7 +67,8 @@ public class Genre extends AggregateRoot<GenreID> {
                 aGenre.createdAt,
                 aGenre.updatedAt,
                 aGenre.deletedAt,
-                aGenre.categories);
+                aGenre.categories,
+                aGenre.version);
     }
 
     @Override
@@ -117,6 +124,10 @@ public class Genre extends AggregateRoot<GenreID> {
         this.deletedAt = deletedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     public Genre deactivate() {
         if (this.deletedAt == null) {
             this.deletedAt = Instant.now();
@@ -124,6 +135,7 @@ public class Genre extends AggregateRoot<GenreID> {
 
         this.isActive = false;
         this.updatedAt = Instant.now();
+        registerEvent(GenreEvent.updated(getId()));
         return this;
     }
 
@@ -131,6 +143,7 @@ public class Genre extends AggregateRoot<GenreID> {
         this.deletedAt = null;
         this.isActive = true;
         this.updatedAt = Instant.now();
+        registerEvent(GenreEvent.updated(getId()));
         return this;
     }
 
@@ -140,6 +153,7 @@ public class Genre extends AggregateRoot<GenreID> {
         this.categories = Objects.nonNull(categories) ? new ArrayList<>(categories) : new ArrayList<>();
         this.updatedAt = Instant.now();
         selfValidate();
+        registerEvent(GenreEvent.updated(getId()));
         return this;
     }
 
@@ -157,6 +171,7 @@ public class Genre extends AggregateRoot<GenreID> {
         }
         this.categories.add(categoryID);
         this.updatedAt = Instant.now();
+        registerEvent(GenreEvent.updated(getId()));
         return this;
     }
 
@@ -169,6 +184,7 @@ public class Genre extends AggregateRoot<GenreID> {
         }
         this.categories.remove(categoryID);
         this.updatedAt = Instant.now();
+        registerEvent(GenreEvent.updated(getId()));
         return this;
     }
 
@@ -178,6 +194,7 @@ public class Genre extends AggregateRoot<GenreID> {
         }
         this.categories.addAll(categories);
         this.updatedAt = Instant.now();
+        registerEvent(GenreEvent.updated(getId()));
         return this;
 
     }
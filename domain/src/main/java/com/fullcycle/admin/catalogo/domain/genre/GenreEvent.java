@@ -0,0 +1,37 @@
+package com.fullcycle.admin.catalogo.domain.genre;
+
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+import com.fullcycle.admin.catalogo.domain.events.EventType;
+
+import java.time.Instant;
+
+public record GenreEvent(
+        String id,
+        EventType type,
+        Instant occurredOn
+) implements DomainEvent {
+
+    public static final String AGGREGATE_TYPE = "genre";
+
+    public static GenreEvent created(final GenreID anId) {
+        return new GenreEvent(anId.getValue(), EventType.CREATED, Instant.now());
+    }
+
+    public static GenreEvent updated(final GenreID anId) {
+        return new GenreEvent(anId.getValue(), EventType.UPDATED, Instant.now());
+    }
+
+    public static GenreEvent deleted(final GenreID anId) {
+        return new GenreEvent(anId.getValue(), EventType.DELETED, Instant.now());
+    }
+
+    @Override
+    public String aggregateType() {
+        return AGGREGATE_TYPE;
+    }
+
+    @Override
+    public String aggregateId() {
+        return id;
+    }
+}
@@ -1,19 +1,38 @@
 package com.fullcycle.admin.catalogo.domain.genre;
 
+import com.fullcycle.admin.catalogo.domain.AggregateVersion;
+import com.fullcycle.admin.catalogo.domain.BatchResult;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface GenreGateway {
 
     Genre create(Genre genre);
 
+    BatchResult<Genre> createAll(List<Genre> genres);
+
     void deleteById(GenreID id);
 
+    void deleteAllById(List<GenreID> ids);
+
     Optional<Genre> findById(GenreID id);
 
+    // Leitura que antecede uma escrita: nunca de uma cópia atrasada (cache ou réplica)
+    Optional<Genre> findByIdForUpdate(GenreID id);
+
+    Optional<AggregateVersion> findVersionById(GenreID id);
+
     Genre update(Genre genre);
 
     Pagination<Genre> findAll(SearchQuery query);
+
+    default Pagination<Genre> findAllByCategory(CategoryID categoryId, SearchQuery query) {
+        return findAllByCategories(List.of(categoryId), CategoryMatch.ANY, query);
+    }
+
+    Pagination<Genre> findAllByCategories(List<CategoryID> categoryIds, CategoryMatch match, SearchQuery query);
 }
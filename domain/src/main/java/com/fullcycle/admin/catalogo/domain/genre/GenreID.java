@@ -1,17 +1,17 @@
 package com.fullcycle.admin.catalogo.domain.genre;
 
-import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.UuidIdentifier;
 
-import java.util.Objects;
 import java.util.UUID;
 
-public class GenreID extends Identifier {
-
-    private final String value;
+public class GenreID extends UuidIdentifier {
 
     public GenreID(String value) {
-        Objects.requireNonNull(value);
-        this.value = value;
+        super(value);
+    }
+
+    private GenreID(final UUID value) {
+        super(value);
     }
 
     public static GenreID from(final String anId) {
@@ -19,28 +19,10 @@ public class GenreID extends Identifier {
     }
 
     public static GenreID from(final UUID anId) {
-        return new GenreID(anId.toString().toLowerCase());
+        return new GenreID(anId);
     }
 
     public static GenreID unique() {
         return GenreID.from(UUID.randomUUID());
     }
-
-    @Override
-    public String getValue() {
-        return this.value;
-    }
-
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        final GenreID that = (GenreID) o;
-        return getValue().equals(that.getValue());
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hash(getValue());
-    }
 }
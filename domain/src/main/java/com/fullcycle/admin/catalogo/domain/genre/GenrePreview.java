@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.domain.genre;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+
+import java.time.Instant;
+import java.util.List;
+
+public record GenrePreview(
+        GenreID id,
+        String name,
+        boolean isActive,
+        List<CategoryID> categories,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant deletedAt
+) {
+
+    public static GenrePreview from(final Genre aGenre) {
+        return new GenrePreview(
+                aGenre.getId(),
+                aGenre.getName(),
+                aGenre.isActive(),
+                List.copyOf(aGenre.getCategories()),
+                aGenre.getCreatedAt(),
+                aGenre.getUpdatedAt(),
+                aGenre.getDeletedAt()
+        );
+    }
+}
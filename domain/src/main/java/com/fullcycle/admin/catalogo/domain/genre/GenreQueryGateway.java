@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.domain.genre;
+
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+
+import java.util.function.Consumer;
+
+public interface GenreQueryGateway {
+
+    default Pagination<GenrePreview> findAllPreviews(SearchQuery query) {
+        return findAllPreviews(query, true);
+    }
+
+    Pagination<GenrePreview> findAllPreviews(SearchQuery query, boolean withCategories);
+
+    void streamAllPreviews(String terms, Consumer<GenrePreview> aConsumer);
+}
@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalogo.domain.genre;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface GenreSearchIndex {
+
+    void index(Genre aGenre);
+
+    void remove(GenreID anId);
+
+    Optional<List<GenreID>> search(String terms);
+}
@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.domain.pagination;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.util.Arrays;
+
+public enum CountMode {
+    EXACT,
+    ESTIMATED,
+    NONE;
+
+    public static CountMode of(final String aMode) {
+        if (aMode == null || aMode.isBlank()) {
+            return EXACT;
+        }
+
+        return Arrays.stream(values())
+                .filter(mode -> mode.name().equalsIgnoreCase(aMode.trim()))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(
+                        new Error("'count' must be one of exact, estimated or none")));
+    }
+}
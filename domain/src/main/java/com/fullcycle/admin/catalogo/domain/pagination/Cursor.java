@@ -0,0 +1,62 @@
+package com.fullcycle.admin.catalogo.domain.pagination;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+public record Cursor(
+        String sort,
+        String value,
+        String id
+) {
+
+    private static final String SEPARATOR = ".";
+    private static final String NULL_VALUE = "~";
+
+    public Cursor {
+        Objects.requireNonNull(sort, "'sort' should not be null");
+        Objects.requireNonNull(id, "'id' should not be null");
+    }
+
+    public static Cursor of(final String aSort, final String aValue, final String anId) {
+        return new Cursor(aSort, aValue, anId);
+    }
+
+    public static Cursor decode(final String aToken) {
+        final var parts = aToken == null ? new String[0] : aToken.split("\\" + SEPARATOR, -1);
+        if (parts.length != 3) {
+            throw invalid();
+        }
+
+        try {
+            return new Cursor(decodePart(parts[0]), decodePart(parts[1]), decodePart(parts[2]));
+        } catch (final IllegalArgumentException | NullPointerException ex) {
+            throw invalid();
+        }
+    }
+
+    public String encode() {
+        return encodePart(sort) + SEPARATOR + encodePart(value) + SEPARATOR + encodePart(id);
+    }
+
+    private static String encodePart(final String aPart) {
+        if (aPart == null) {
+            return NULL_VALUE;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(aPart.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodePart(final String aPart) {
+        if (NULL_VALUE.equals(aPart)) {
+            return null;
+        }
+        return new String(Base64.getUrlDecoder().decode(aPart), StandardCharsets.UTF_8);
+    }
+
+    private static DomainException invalid() {
+        return DomainException.with(new Error("'after' is not a valid pagination cursor"));
+    }
+}
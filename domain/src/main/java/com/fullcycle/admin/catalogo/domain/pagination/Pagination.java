@@ -6,15 +6,21 @@ import java.util.function.Function;
 public record Pagination<T>(
         int currentPage,
         int perPage,
-        long total,
-        List<T> items
+        Long total,
+        List<T> items,
+        String next,
+        boolean hasMore
 ) {
 
+    public Pagination(final int currentPage, final int perPage, final long total, final List<T> items) {
+        this(currentPage, perPage, total, items, null, (long) (currentPage + 1) * perPage < total);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final List<R> aNewList = this.items.stream()
                 .map(mapper)
                 .toList();
 
-        return new Pagination<>(currentPage(), perPage(), total(), aNewList);
+        return new Pagination<>(currentPage(), perPage(), total(), aNewList, next(), hasMore());
     }
 }
@@ -5,6 +5,47 @@ public record SearchQuery(
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String after,
+        CountMode count
 ) {
+
+    public static final String RELEVANCE = "relevance";
+
+    public SearchQuery {
+        count = count != null ? count : CountMode.EXACT;
+    }
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String after
+    ) {
+        this(page, perPage, terms, sort, direction, after, CountMode.EXACT);
+    }
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null);
+    }
+
+    public boolean isCursor() {
+        return after != null && !after.isBlank();
+    }
+
+    public boolean isRelevance() {
+        return RELEVANCE.equalsIgnoreCase(sort);
+    }
+
+    public SearchQuery withSort(final String aSort) {
+        return new SearchQuery(page, perPage, terms, aSort, direction, after, count);
+    }
 }
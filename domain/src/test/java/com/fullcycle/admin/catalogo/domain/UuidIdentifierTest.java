@@ -0,0 +1,70 @@
+package com.fullcycle.admin.catalogo.domain;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+public class UuidIdentifierTest {
+
+    @Test
+    public void givenACanonicalString_whenCallsFrom_thenShouldEqualTheIdBuiltFromTheUUID() {
+        final var expectedUuid = UUID.randomUUID();
+        final var expectedValue = expectedUuid.toString();
+
+        final var fromString = CategoryID.from(expectedValue);
+        final var fromUuid = CategoryID.from(expectedUuid);
+
+        Assertions.assertEquals(fromUuid, fromString);
+        Assertions.assertEquals(fromUuid.hashCode(), fromString.hashCode());
+        Assertions.assertEquals(expectedValue, fromString.getValue());
+        Assertions.assertEquals(expectedValue, fromUuid.getValue());
+    }
+
+    @Test
+    public void givenAnUppercaseUuid_whenCallsFrom_thenShouldNormalizeToLowercase() {
+        final var expectedValue = UUID.randomUUID().toString();
+
+        final var actualId = GenreID.from(expectedValue.toUpperCase());
+
+        Assertions.assertEquals(GenreID.from(expectedValue), actualId);
+        Assertions.assertEquals(expectedValue, actualId.getValue());
+    }
+
+    @Test
+    public void givenANonUuidValue_whenCallsFrom_thenShouldKeepTheValueAsIs() {
+        final var expectedValue = "123";
+
+        final var actualId = CategoryID.from(expectedValue);
+
+        Assertions.assertEquals(expectedValue, actualId.getValue());
+        Assertions.assertEquals(CategoryID.from(expectedValue), actualId);
+        Assertions.assertNotEquals(CategoryID.from("456"), actualId);
+    }
+
+    @Test
+    public void givenAUuidWithNonAsciiDigits_whenCallsFrom_thenShouldKeepTheValueAsIs() {
+        // '١' (árabe-índico) e '２', '３' (fullwidth) são dígitos para o Character.digit
+        final var expectedValue = "١２３e4567-e89b-12d3-a456-426614174000";
+
+        final var actualId = CategoryID.from(expectedValue);
+
+        Assertions.assertEquals(expectedValue, actualId.getValue());
+        Assertions.assertNotEquals(CategoryID.from("123e4567-e89b-12d3-a456-426614174000"), actualId);
+    }
+
+    @Test
+    public void givenTheSameValue_whenComparesCategoryAndGenreIds_thenShouldNotBeEqual() {
+        final var aValue = UUID.randomUUID();
+
+        Assertions.assertNotEquals(CategoryID.from(aValue), GenreID.from(aValue));
+    }
+
+    @Test
+    public void givenANullValue_whenCallsFrom_thenShouldThrowNullPointer() {
+        Assertions.assertThrows(NullPointerException.class, () -> CategoryID.from((String) null));
+        Assertions.assertThrows(NullPointerException.class, () -> GenreID.from((UUID) null));
+    }
+}
@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalogo.domain.category;
 
+import com.fullcycle.admin.catalogo.domain.events.EventType;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.validation.handler.ThrowsValidationHandler;
 import org.junit.jupiter.api.Assertions;
@@ -289,4 +290,30 @@ public class CategoryTest {
         Assertions.assertTrue(actualCategory.getUpdatedAt().isAfter(updatedAt));
         Assertions.assertNull(aCategory.getDeletedAt());
     }
+
+    @Test
+    public void givenANewCategory_whenCallsUpdate_thenShouldKeepOnlyTheCreatedEvent() {
+        final var aCategory = Category.newCategory("Film", null, true);
+
+        aCategory.update("Filmes", "A categoria mais assistida", false);
+
+        Assertions.assertEquals(1, aCategory.getEvents().size());
+        Assertions.assertEquals(EventType.CREATED, aCategory.getEvents().get(0).type());
+        Assertions.assertEquals(aCategory.getId().getValue(), aCategory.getEvents().get(0).aggregateId());
+        Assertions.assertEquals(CategoryEvent.AGGREGATE_TYPE, aCategory.getEvents().get(0).aggregateType());
+    }
+
+    @Test
+    public void givenAPersistedCategory_whenCallsUpdateAndClone_thenShouldRegisterOneUpdatedEventPerInstance() {
+        final var aCategory = Category.with(Category.newCategory("Film", null, true));
+        Assertions.assertTrue(aCategory.getEvents().isEmpty());
+
+        aCategory.update("Filmes", null, false);
+        final var aClone = aCategory.clone();
+        aClone.clearEvents();
+
+        Assertions.assertEquals(1, aCategory.getEvents().size());
+        Assertions.assertEquals(EventType.UPDATED, aCategory.getEvents().get(0).type());
+        Assertions.assertTrue(aClone.getEvents().isEmpty());
+    }
 }
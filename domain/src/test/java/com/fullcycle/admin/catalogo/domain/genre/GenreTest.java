@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalogo.domain.genre;
 
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.events.EventType;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
 import com.fullcycle.admin.catalogo.domain.validation.handler.ThrowsValidationHandler;
@@ -221,4 +222,20 @@ public class GenreTest {
         Assertions.assertEquals(expectedIsActive, aGenre.isActive());
         Assertions.assertEquals(1, aGenre.getCategories().size());
     }
+
+    @Test
+    public void givenAPersistedGenre_whenCallsUpdateAndAddCategory_thenShouldRegisterASingleUpdatedEvent() {
+        final var aGenre = Genre.with(Genre.newGenre("Ação", true));
+        Assertions.assertTrue(aGenre.getEvents().isEmpty());
+
+        aGenre.update("Ação", false, List.of(CategoryID.from("123")));
+        aGenre.addCategory(CategoryID.from("456"));
+
+        Assertions.assertEquals(1, aGenre.getEvents().size());
+        Assertions.assertEquals(EventType.UPDATED, aGenre.getEvents().get(0).type());
+        Assertions.assertEquals(GenreEvent.AGGREGATE_TYPE, aGenre.getEvents().get(0).aggregateType());
+
+        aGenre.clearEvents();
+        Assertions.assertTrue(aGenre.getEvents().isEmpty());
+    }
 }
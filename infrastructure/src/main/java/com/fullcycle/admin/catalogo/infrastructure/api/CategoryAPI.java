@@ -3,16 +3,24 @@ package com.fullcycle.admin.catalogo.infrastructure.api;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryBatchItemResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
+import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreListResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
 
 @RequestMapping(value = "categories")
 @Tag(name = "Categories")
@@ -30,19 +38,66 @@ public interface CategoryAPI {
     })
     ResponseEntity<?> createCategory(@RequestBody CreateCategoryRequest input);
 
+    @PostMapping(
+            value = "batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create many categories at once")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "All categories were created"),
+            @ApiResponse(responseCode = "207", description = "Some categories were created; see the per-item results"),
+            @ApiResponse(responseCode = "422", description = "No category was created"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<List<CreateCategoryBatchItemResponse>> createCategories(@RequestBody List<CreateCategoryRequest> input);
+
+    @PostMapping(
+            value = "import",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"},
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(summary = "Import categories from an NDJSON or CSV body, streaming back one line per rejected record and a summary")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import processed; see the per-line errors and the summary"),
+            @ApiResponse(responseCode = "415", description = "The body is neither NDJSON nor CSV"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> importCategories(
+            @RequestHeader(name = HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    );
+
     @GetMapping
     @Operation(summary = "List all categories paginated")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "304", description = "No categories were written since the given ETag"),
             @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    Pagination<CategoryListResponse> listCategories(
+    ResponseEntity<Pagination<CategoryListResponse>> listCategories(
             @RequestParam(name = "search", required = false, defaultValue = "") final String search,
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "after", required = false) final String after,
+            @RequestParam(name = "count", required = false, defaultValue = "exact") final String count,
+            WebRequest request
+    );
+
+    @GetMapping(
+            value = "export",
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(summary = "Export all categories as NDJSON, one category per line")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exported successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> exportCategories(
+            @RequestParam(name = "search", required = false, defaultValue = "") final String search
     );
 
     @GetMapping(
@@ -52,10 +107,35 @@ public interface CategoryAPI {
     @Operation(summary = "Get a category by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Category retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Category has not changed since the given ETag or date"),
             @ApiResponse(responseCode = "404", description = "Category was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    CategoryResponse getById(@PathVariable(name = "id") String id);
+    ResponseEntity<CategoryResponse> getById(@PathVariable(name = "id") String id, WebRequest request);
+
+    @GetMapping(
+            value = "{id}/genres",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "List the genres of a category paginated, optionally combined with other categories")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "404", description = "Category was not found"),
+            @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    Pagination<GenreListResponse> listGenres(
+            @PathVariable(name = "id") final String id,
+            @RequestParam(name = "categories", required = false) final List<String> categories,
+            @RequestParam(name = "match", required = false, defaultValue = "any") final String match,
+            @RequestParam(name = "search", required = false, defaultValue = "") final String search,
+            @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
+            @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
+            @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "after", required = false) final String after,
+            @RequestParam(name = "count", required = false, defaultValue = "exact") final String count
+    );
 
     @PutMapping(
             value = "{id}",
@@ -66,9 +146,15 @@ public interface CategoryAPI {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Category updated successfully"),
             @ApiResponse(responseCode = "404", description = "Category was not found"),
+            @ApiResponse(responseCode = "409", description = "Category was changed by another request in the meantime"),
+            @ApiResponse(responseCode = "412", description = "Category no longer matches the If-Match ETag"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    ResponseEntity<?> updateById(@PathVariable(name = "id") String id, @RequestBody UpdateCategoryRequest input);
+    ResponseEntity<?> updateById(
+            @PathVariable(name = "id") String id,
+            @RequestBody UpdateCategoryRequest input,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    );
 
     @DeleteMapping(
             value = "{id}",
@@ -82,4 +168,13 @@ public interface CategoryAPI {
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
     void deleteById(@PathVariable(name = "id") String id);
+
+    @DeleteMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Delete many categories by their identifiers")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Categories deleted successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    void deleteAllById(@RequestBody List<String> ids);
 }
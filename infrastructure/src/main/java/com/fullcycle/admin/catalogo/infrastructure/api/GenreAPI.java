@@ -11,10 +11,16 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
 
 @RequestMapping(value = "genres")
 @Tag(name = "genre")
@@ -32,23 +38,55 @@ public interface GenreAPI {
     })
     ResponseEntity<?> create(@RequestBody CreateGenreRequest request);
 
+    @PostMapping(
+            value = "import",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"},
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(summary = "Import genres from an NDJSON or CSV body, streaming back one line per rejected record and a summary")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import processed; see the per-line errors and the summary"),
+            @ApiResponse(responseCode = "415", description = "The body is neither NDJSON nor CSV"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> importGenres(
+            @RequestHeader(name = HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    );
+
     @GetMapping
     @Operation(summary = "List all genres paginated")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "304", description = "No genres were written since the given ETag"),
             @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    Pagination<GenreListResponse> list(
-            String search,
-            final int page,
-            final int perPage,
-            final String sort,
-            final String direction
-
+    ResponseEntity<Pagination<GenreListResponse>> list(
+            @RequestParam(name = "search", required = false, defaultValue = "") final String search,
+            @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
+            @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
+            @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "after", required = false) final String after,
+            @RequestParam(name = "count", required = false, defaultValue = "exact") final String count,
+            WebRequest request
     );
 
 
+    @GetMapping(
+            value = "export",
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(summary = "Export all genres as NDJSON, one genre per line")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exported successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "search", required = false, defaultValue = "") final String search
+    );
+
     @GetMapping(
             value = "{id}",
             produces = MediaType.APPLICATION_JSON_VALUE
@@ -56,10 +94,11 @@ public interface GenreAPI {
     @Operation(summary = "Get a Genre by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Genre retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Genre has not changed since the given ETag or date"),
             @ApiResponse(responseCode = "404", description = "Genre was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    GenreResponse getById(@PathVariable(name = "id") String id);
+    ResponseEntity<GenreResponse> getById(@PathVariable(name = "id") String id, WebRequest request);
 
     @PutMapping(
             value = "{id}",
@@ -70,9 +109,15 @@ public interface GenreAPI {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Genre updated successfully"),
             @ApiResponse(responseCode = "404", description = "Genre was not found"),
+            @ApiResponse(responseCode = "409", description = "Genre was changed by another request in the meantime"),
+            @ApiResponse(responseCode = "412", description = "Genre no longer matches the If-Match ETag"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    ResponseEntity<?> updateById(@PathVariable(name = "id") String id, @RequestBody UpdateGenreRequest input);
+    ResponseEntity<?> updateById(
+            @PathVariable(name = "id") String id,
+            @RequestBody UpdateGenreRequest input,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    );
 
     @DeleteMapping(
             value = "{id}",
@@ -86,4 +131,13 @@ public interface GenreAPI {
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
     void deleteById(@PathVariable(name = "id") String id);
+
+    @DeleteMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Delete many genres by their identifiers")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Genres deleted successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    void deleteAllById(@RequestBody List<String> ids);
 }
@@ -1,51 +1,104 @@
 package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.ImportCategoriesCommand;
+import com.fullcycle.admin.catalogo.application.category.create.ImportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.export.ExportCategoriesCommand;
+import com.fullcycle.admin.catalogo.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryVersionUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryCommand;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ListGenresByCategoryCommand;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ListGenresByCategoryUseCase;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.CategoryMatch;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalogo.infrastructure.api.CategoryAPI;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryBatchItemResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
 import com.fullcycle.admin.catalogo.infrastructure.category.presenters.CategoryApiPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.category.presenters.GenreAPIPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.category.presenters.ImportPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreListResponse;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ETagUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ImportUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 @RestController
+@Profile("!reactive")
 public class CategoryController implements CategoryAPI {
 
     private final CreateCategoryUseCase createCategoryUseCase;
+    private final CreateCategoriesUseCase createCategoriesUseCase;
     private final GetCategoryByIdUseCase getCategoryByIdUseCase;
+    private final GetCategoryVersionUseCase getCategoryVersionUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
+    private final DeleteCategoriesUseCase deleteCategoriesUseCase;
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final ExportCategoriesUseCase exportCategoriesUseCase;
+    private final ImportCategoriesUseCase importCategoriesUseCase;
+    private final ListGenresByCategoryUseCase listGenresByCategoryUseCase;
+    private final CacheControl listCacheControl;
 
     public CategoryController(
             final CreateCategoryUseCase createCategoryUseCase,
+            final CreateCategoriesUseCase createCategoriesUseCase,
             final GetCategoryByIdUseCase getCategoryByIdUseCase,
+            final GetCategoryVersionUseCase getCategoryVersionUseCase,
             final UpdateCategoryUseCase updateCategoryUseCase,
             final DeleteCategoryUseCase deleteCategoryUseCase,
-            final ListCategoriesUseCase listCategoriesUseCase
+            final DeleteCategoriesUseCase deleteCategoriesUseCase,
+            final ListCategoriesUseCase listCategoriesUseCase,
+            final ExportCategoriesUseCase exportCategoriesUseCase,
+            final ImportCategoriesUseCase importCategoriesUseCase,
+            final ListGenresByCategoryUseCase listGenresByCategoryUseCase,
+            @Value("${cache.pages.max-age:0s}") final Duration listMaxAge
     ) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
+        this.createCategoriesUseCase = Objects.requireNonNull(createCategoriesUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
+        this.getCategoryVersionUseCase = Objects.requireNonNull(getCategoryVersionUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
+        this.deleteCategoriesUseCase = Objects.requireNonNull(deleteCategoriesUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.exportCategoriesUseCase = Objects.requireNonNull(exportCategoriesUseCase);
+        this.importCategoriesUseCase = Objects.requireNonNull(importCategoriesUseCase);
+        this.listGenresByCategoryUseCase = Objects.requireNonNull(listGenresByCategoryUseCase);
+        this.listCacheControl = ETagUtils.revalidate(listMaxAge);
     }
 
     @Override
@@ -67,29 +120,151 @@ public class CategoryController implements CategoryAPI {
     }
 
     @Override
-    public Pagination<CategoryListResponse> listCategories(
+    public ResponseEntity<List<CreateCategoryBatchItemResponse>> createCategories(final List<CreateCategoryRequest> input) {
+        final var commands = input.stream()
+                .map(item -> CreateCategoryCommand.with(
+                        item.name(),
+                        item.description(),
+                        item.active() != null ? item.active() : true
+                ))
+                .toList();
+
+        final var results = this.createCategoriesUseCase.execute(commands).stream()
+                .map(result -> result.fold(
+                        notification -> new CreateCategoryBatchItemResponse(null, notification.getErrors()),
+                        output -> new CreateCategoryBatchItemResponse(output.id(), null)
+                ))
+                .toList();
+
+        final var created = results.stream().filter(item -> item.id() != null).count();
+
+        final HttpStatus status;
+        if (created == results.size()) {
+            status = HttpStatus.CREATED;
+        } else if (created == 0) {
+            status = HttpStatus.UNPROCESSABLE_ENTITY;
+        } else {
+            status = HttpStatus.MULTI_STATUS;
+        }
+
+        return ResponseEntity.status(status).body(results);
+    }
+
+    @Override
+    public ResponseEntity<Pagination<CategoryListResponse>> listCategories(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String after,
+            final String count,
+            final WebRequest request
     ) {
-        return listCategoriesUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
-                .map(CategoryApiPresenter::present);
+        // A ETag vem do conteúdo da página, não de estado do nó: o 304 vale em qualquer réplica da aplicação.
+        // A página em geral sai do cache do gateway, então a revalidação continua sem ir ao banco
+        final var aQuery = new SearchQuery(page, perPage, search, sort, direction, after, CountMode.of(count));
+        final var aPage = listCategoriesUseCase.execute(aQuery).map(CategoryApiPresenter::present);
+        final var eTag = ETagUtils.ofContent(aPage);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(this.listCacheControl)
+                .body(aPage);
     }
 
     @Override
-    public CategoryResponse getById(final String id) {
-        return CategoryApiPresenter.present(this.getCategoryByIdUseCase.execute(id));
+    public ResponseEntity<StreamingResponseBody> importCategories(final String contentType, final InputStream body) {
+        final var lines = ImportUtils.lines(
+                body,
+                MediaType.parseMediaType(contentType),
+                CreateCategoryRequest.class,
+                input -> CreateCategoryCommand.with(
+                        input.name(),
+                        input.description(),
+                        input.active() != null ? input.active() : true
+                )
+        );
+
+        final StreamingResponseBody response = out -> {
+            final var output = this.importCategoriesUseCase.execute(ImportCategoriesCommand.with(
+                    lines,
+                    error -> Json.writeLine(out, ImportPresenter.present(error))
+            ));
+            Json.writeLine(out, ImportPresenter.present(output));
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(response);
+    }
+
+    // O corpo é escrito direto no output stream do Undertow conforme as linhas chegam do banco
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportCategories(final String search) {
+        final StreamingResponseBody body = out -> this.exportCategoriesUseCase.execute(
+                ExportCategoriesCommand.with(search, output -> Json.writeLine(out, CategoryApiPresenter.present(output)))
+        );
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
+    // GET condicional: compara só a versão (version e updated_at) e responde 304 sem montar nem serializar a categoria
     @Override
-    public ResponseEntity<?> updateById(final String id, final UpdateCategoryRequest input) {
+    public ResponseEntity<CategoryResponse> getById(final String id, final WebRequest request) {
+        if (ETagUtils.isConditional(request)) {
+            final var version = this.getCategoryVersionUseCase.execute(id);
+            final var eTag = ETagUtils.of(version.id().getValue(), version.version());
+            if (request.checkNotModified(eTag, version.updatedAt().toEpochMilli())) {
+                return null;
+            }
+        }
+
+        final var output = this.getCategoryByIdUseCase.execute(id);
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.of(output.id().getValue(), output.version()))
+                .lastModified(output.updatedAt())
+                .body(CategoryApiPresenter.present(output));
+    }
+
+    // O id do path sempre participa do filtro; 'categories' acrescenta as demais
+    @Override
+    public Pagination<GenreListResponse> listGenres(
+            final String id,
+            final List<String> categories,
+            final String match,
+            final String search,
+            final int page,
+            final int perPage,
+            final String sort,
+            final String direction,
+            final String after,
+            final String count
+    ) {
+        final var categoryIds = Stream.concat(Stream.of(id), Optional.ofNullable(categories).orElse(List.of()).stream())
+                .filter(value -> value != null && !value.isBlank())
+                .map(CategoryID::from)
+                .toList();
+
+        final var aQuery = new SearchQuery(page, perPage, search, sort, direction, after, CountMode.of(count));
+        return this.listGenresByCategoryUseCase.execute(
+                        ListGenresByCategoryCommand.with(categoryIds, CategoryMatch.of(match), aQuery))
+                .map(GenreAPIPresenter::present);
+    }
+
+    @Override
+    public ResponseEntity<?> updateById(final String id, final UpdateCategoryRequest input, final String ifMatch) {
         final var aCommand = UpdateCategoryCommand.with(
                 id,
                 input.name(),
                 input.description(),
-                input.active() != null ? input.active() : true
+                input.active() != null ? input.active() : true,
+                ETagUtils.expectedVersion(ifMatch, CategoryID.from(id).getValue())
         );
 
         final Function<Notification, ResponseEntity<?>> onError = notification ->
@@ -106,4 +281,9 @@ public class CategoryController implements CategoryAPI {
     public void deleteById(final String anId) {
         this.deleteCategoryUseCase.execute(anId);
     }
+
+    @Override
+    public void deleteAllById(final List<String> ids) {
+        this.deleteCategoriesUseCase.execute(ids);
+    }
 }
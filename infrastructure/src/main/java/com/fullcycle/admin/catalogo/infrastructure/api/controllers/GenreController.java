@@ -2,42 +2,81 @@ package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 
 import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreCommand;
 import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.create.ImportGenresCommand;
+import com.fullcycle.admin.catalogo.application.genre.create.ImportGenresUseCase;
 import com.fullcycle.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.delete.DeleteGenresUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.export.ExportGenresCommand;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.export.ExportGenresUseCase;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.get.GetGenreVersionUseCase;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.update.UpdateGenreCommand;
 import com.fullcycle.admin.catalogo.application.genre.update.UpdateGenreUseCase;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.api.GenreAPI;
 import com.fullcycle.admin.catalogo.infrastructure.category.presenters.GenreAPIPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.category.presenters.ImportPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.CreateGenreRequest;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreResponse;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.UpdateGenreRequest;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ETagUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ImportUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.time.Duration;
+import java.util.List;
 
+@RestController
+@Profile("!reactive")
 public class GenreController implements GenreAPI {
 
     private final CreateGenreUseCase createGenreUseCase;
     private final ListGenreUseCase listGenreUseCase;
     private final GetGenreByIdUseCase getGenreByIdUseCase;
+    private final GetGenreVersionUseCase getGenreVersionUseCase;
     private final DeleteGenreUseCase deleteGenreUseCase;
+    private final DeleteGenresUseCase deleteGenresUseCase;
     private final UpdateGenreUseCase updateGenreUseCase;
+    private final ExportGenresUseCase exportGenresUseCase;
+    private final ImportGenresUseCase importGenresUseCase;
+    private final CacheControl listCacheControl;
 
     public GenreController(CreateGenreUseCase createGenreUseCase,
                            ListGenreUseCase listGenreUseCase,
                            GetGenreByIdUseCase getGenreByIdUseCase,
-                           DeleteGenreUseCase deleteGenreUseCase, UpdateGenreUseCase updateGenreUseCase) {
+                           GetGenreVersionUseCase getGenreVersionUseCase,
+                           DeleteGenreUseCase deleteGenreUseCase,
+                           DeleteGenresUseCase deleteGenresUseCase,
+                           UpdateGenreUseCase updateGenreUseCase,
+                           ExportGenresUseCase exportGenresUseCase,
+                           ImportGenresUseCase importGenresUseCase,
+                           @Value("${cache.pages.max-age:0s}") Duration listMaxAge) {
 
         this.createGenreUseCase = createGenreUseCase;
         this.listGenreUseCase = listGenreUseCase;
         this.getGenreByIdUseCase = getGenreByIdUseCase;
+        this.getGenreVersionUseCase = getGenreVersionUseCase;
         this.deleteGenreUseCase = deleteGenreUseCase;
+        this.deleteGenresUseCase = deleteGenresUseCase;
         this.updateGenreUseCase = updateGenreUseCase;
+        this.exportGenresUseCase = exportGenresUseCase;
+        this.importGenresUseCase = importGenresUseCase;
+        this.listCacheControl = ETagUtils.revalidate(listMaxAge);
     }
 
     @Override
@@ -51,26 +90,90 @@ public class GenreController implements GenreAPI {
     }
 
     @Override
-    public Pagination<GenreListResponse> list(final String search,
-                                              final int page,
-                                              final int perPage,
-                                              final String sort,
-                                              final String direction
+    public ResponseEntity<StreamingResponseBody> importGenres(final String contentType, final InputStream body) {
+        // No CSV, um ';' sobrando em categories_id gera ids em branco
+        final var lines = ImportUtils.lines(
+                body,
+                MediaType.parseMediaType(contentType),
+                CreateGenreRequest.class,
+                input -> CreateGenreCommand.with(
+                        input.name(),
+                        input.isActive(),
+                        input.categories().stream().filter(id -> id != null && !id.isBlank()).toList()
+                )
+        );
+
+        final StreamingResponseBody response = out -> {
+            final var output = this.importGenresUseCase.execute(ImportGenresCommand.with(
+                    lines,
+                    error -> Json.writeLine(out, ImportPresenter.present(error))
+            ));
+            Json.writeLine(out, ImportPresenter.present(output));
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(response);
+    }
+
+    @Override
+    public ResponseEntity<Pagination<GenreListResponse>> list(final String search,
+                                                              final int page,
+                                                              final int perPage,
+                                                              final String sort,
+                                                              final String direction,
+                                                              final String after,
+                                                              final String count,
+                                                              final WebRequest request
     ) {
-        return listGenreUseCase.execute(new SearchQuery(
-                        page, perPage, search, sort, direction))
+        final var aPage = listGenreUseCase.execute(new SearchQuery(
+                        page, perPage, search, sort, direction, after, CountMode.of(count)))
                 .map(GenreAPIPresenter::present);
+        final var eTag = ETagUtils.ofContent(aPage);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(this.listCacheControl)
+                .body(aPage);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(final String search) {
+        final StreamingResponseBody body = out -> this.exportGenresUseCase.execute(
+                ExportGenresCommand.with(search, output -> Json.writeLine(out, GenreAPIPresenter.export(output)))
+        );
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
+    // A versão vem só da tabela genres: o 304 não toca em genres_categories
     @Override
-    public GenreResponse getById(final String id) {
-        return GenreAPIPresenter.present(getGenreByIdUseCase.execute(id));
+    public ResponseEntity<GenreResponse> getById(final String id, final WebRequest request) {
+        if (ETagUtils.isConditional(request)) {
+            final var version = this.getGenreVersionUseCase.execute(id);
+            final var eTag = ETagUtils.of(version.id().getValue(), version.version());
+            if (request.checkNotModified(eTag, version.updatedAt().toEpochMilli())) {
+                return null;
+            }
+        }
+
+        final var output = getGenreByIdUseCase.execute(id);
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.of(output.id(), output.version()))
+                .lastModified(output.updatedAt())
+                .body(GenreAPIPresenter.present(output));
     }
 
     @Override
-    public ResponseEntity<?> updateById(final String id, final UpdateGenreRequest input) {
+    public ResponseEntity<?> updateById(final String id, final UpdateGenreRequest input, final String ifMatch) {
         final var command = UpdateGenreCommand.with(
-                GenreID.from(input.id()), input.name(), input.isActive(), input.categories()
+                GenreID.from(input.id()), input.name(), input.isActive(), input.categories(),
+                ETagUtils.expectedVersion(ifMatch, GenreID.from(id).getValue())
         );
 
         final var output = this.updateGenreUseCase.execute(command);
@@ -81,4 +184,9 @@ public class GenreController implements GenreAPI {
     public void deleteById(final String id) {
         this.deleteGenreUseCase.execute(id);
     }
+
+    @Override
+    public void deleteAllById(final List<String> ids) {
+        this.deleteGenresUseCase.execute(ids);
+    }
 }
@@ -1,16 +1,22 @@
 package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.concurrency.GatewayBusyException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 @RestControllerAdvice
+@Profile("!reactive")
 public class GlobalExceptionHandler {
 
     @ExceptionHandler(value = NotFoundException.class)
@@ -18,6 +24,22 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiError.from(ex));
     }
 
+    // Com If-Match o cliente pediu a pré-condição (412); sem ele, outra escrita venceu a corrida (409)
+    @ExceptionHandler(value = ConflictException.class)
+    public ResponseEntity<?> handleConflictException(final ConflictException ex, final WebRequest request) {
+        final var status = request.getHeader(HttpHeaders.IF_MATCH) != null
+                ? HttpStatus.PRECONDITION_FAILED
+                : HttpStatus.CONFLICT;
+        return ResponseEntity.status(status).body(ApiError.from(ex));
+    }
+
+    @ExceptionHandler(value = GatewayBusyException.class)
+    public ResponseEntity<?> handleGatewayBusyException(final GatewayBusyException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ApiError(ex.getMessage(), List.of()));
+    }
+
     @ExceptionHandler(value = DomainException.class)
     public ResponseEntity<?> handleDomainException(final DomainException ex) {
         return ResponseEntity.unprocessableEntity().body(ApiError.from(ex));
@@ -0,0 +1,57 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.ReactiveGetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.ReactiveListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.api.ReactiveCategoryAPI;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryListResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.presenters.CategoryApiPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ETagUtils;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+@RestController
+@Profile("reactive")
+public class ReactiveCategoryController implements ReactiveCategoryAPI {
+
+    private final ReactiveGetCategoryByIdUseCase getCategoryByIdUseCase;
+    private final ReactiveListCategoriesUseCase listCategoriesUseCase;
+
+    public ReactiveCategoryController(
+            final ReactiveGetCategoryByIdUseCase getCategoryByIdUseCase,
+            final ReactiveListCategoriesUseCase listCategoriesUseCase
+    ) {
+        this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
+        this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+    }
+
+    @Override
+    public Mono<Pagination<CategoryListResponse>> listCategories(
+            final String search,
+            final int page,
+            final int perPage,
+            final String sort,
+            final String direction,
+            final String after,
+            final String count
+    ) {
+        final var aQuery = new SearchQuery(page, perPage, search, sort, direction, after, CountMode.of(count));
+        return listCategoriesUseCase.execute(aQuery).map(result -> result.map(CategoryApiPresenter::present));
+    }
+
+    // O WebFlux compara If-None-Match/If-Modified-Since com os cabeçalhos da resposta e troca por um 304 sozinho
+    @Override
+    public Mono<ResponseEntity<CategoryResponse>> getById(final String id) {
+        return getCategoryByIdUseCase.execute(id).map(output -> ResponseEntity.ok()
+                .eTag(ETagUtils.of(output.id().getValue(), output.version()))
+                .lastModified(output.updatedAt())
+                .body(CategoryApiPresenter.present(output)));
+    }
+}
@@ -0,0 +1,56 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
+
+import com.fullcycle.admin.catalogo.application.genre.retrieve.get.ReactiveGetGenreByIdUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ReactiveListGenreUseCase;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.api.ReactiveGenreAPI;
+import com.fullcycle.admin.catalogo.infrastructure.category.presenters.GenreAPIPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreListResponse;
+import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreResponse;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ETagUtils;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+@RestController
+@Profile("reactive")
+public class ReactiveGenreController implements ReactiveGenreAPI {
+
+    private final ReactiveGetGenreByIdUseCase getGenreByIdUseCase;
+    private final ReactiveListGenreUseCase listGenreUseCase;
+
+    public ReactiveGenreController(
+            final ReactiveGetGenreByIdUseCase getGenreByIdUseCase,
+            final ReactiveListGenreUseCase listGenreUseCase
+    ) {
+        this.getGenreByIdUseCase = Objects.requireNonNull(getGenreByIdUseCase);
+        this.listGenreUseCase = Objects.requireNonNull(listGenreUseCase);
+    }
+
+    @Override
+    public Mono<Pagination<GenreListResponse>> list(
+            final String search,
+            final int page,
+            final int perPage,
+            final String sort,
+            final String direction,
+            final String after,
+            final String count
+    ) {
+        final var aQuery = new SearchQuery(page, perPage, search, sort, direction, after, CountMode.of(count));
+        return listGenreUseCase.execute(aQuery).map(result -> result.map(GenreAPIPresenter::present));
+    }
+
+    @Override
+    public Mono<ResponseEntity<GenreResponse>> getById(final String id) {
+        return getGenreByIdUseCase.execute(id).map(output -> ResponseEntity.ok()
+                .eTag(ETagUtils.of(output.id(), output.version()))
+                .lastModified(output.updatedAt())
+                .body(GenreAPIPresenter.present(output)));
+    }
+}
@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalogo.infrastructure.cache;
+
+import java.util.List;
+
+public interface CacheInvalidationListener {
+
+    String cacheName();
+
+    void invalidate(List<String> keys);
+}
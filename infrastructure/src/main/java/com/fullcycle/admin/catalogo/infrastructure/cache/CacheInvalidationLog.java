@@ -0,0 +1,48 @@
+package com.fullcycle.admin.catalogo.infrastructure.cache;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+@Component
+public class CacheInvalidationLog {
+
+    public static final String CATEGORIES = "categories";
+    public static final String GENRES = "genres";
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final EntityManager entityManager;
+
+    public CacheInvalidationLog(final EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    // Gravado na transação da escrita: os outros nós só veem a chave depois do commit
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(final String aCacheName, final Collection<String> someKeys) {
+        final var keys = List.copyOf(someKeys);
+        final var now = Instant.now();
+
+        for (int from = 0; from < keys.size(); from += CHUNK_SIZE) {
+            final var chunk = keys.subList(from, Math.min(from + CHUNK_SIZE, keys.size()));
+            final var sql = "INSERT INTO cache_invalidations (cache_name, cache_key, created_at) VALUES "
+                    + String.join(", ", Collections.nCopies(chunk.size(), "(?, ?, ?)"));
+
+            final var query = this.entityManager.createNativeQuery(sql);
+            var position = 1;
+            for (final var key : chunk) {
+                query.setParameter(position++, aCacheName);
+                query.setParameter(position++, key);
+                query.setParameter(position++, now);
+            }
+            query.executeUpdate();
+        }
+    }
+}
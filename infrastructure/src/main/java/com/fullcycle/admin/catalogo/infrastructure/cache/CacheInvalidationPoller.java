@@ -0,0 +1,161 @@
+package com.fullcycle.admin.catalogo.infrastructure.cache;
+
+import com.fullcycle.admin.catalogo.infrastructure.cache.persistence.CacheInvalidationJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.cache.persistence.CacheInvalidationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Lê o log de invalidação acima da marca d'água (maior id já visto) e remove as chaves dos caches deste nó.
+// Sem thread de réplica marcada, as leituras vão ao primário: o atraso de uma escrita até a remoção
+// fica limitado ao intervalo de leitura.
+public class CacheInvalidationPoller {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationPoller.class);
+
+    private static final int MAX_PENDING_GAPS = 10_000;
+    private static final int CHUNK_SIZE = 500;
+
+    private final CacheInvalidationRepository repository;
+    private final Map<String, List<CacheInvalidationListener>> listeners;
+    private final int batchSize;
+    private final Duration interval;
+    private final Duration grace;
+    private final Duration retention;
+    private final Clock clock;
+
+    private long highWaterMark;
+    // Ids abaixo da marca que ainda não apareceram: transação aberta (commit fora da ordem do id) ou rollback
+    private final NavigableMap<Long, Instant> gaps = new TreeMap<>();
+    private Instant lastPrune;
+    private ScheduledExecutorService scheduler;
+
+    public CacheInvalidationPoller(
+            final CacheInvalidationRepository repository,
+            final Collection<CacheInvalidationListener> listeners,
+            final int batchSize,
+            final Duration interval,
+            final Duration grace,
+            final Duration retention,
+            final Clock clock
+    ) {
+        this.repository = repository;
+        this.listeners = listeners.stream()
+                .collect(Collectors.groupingBy(CacheInvalidationListener::cacheName));
+        this.batchSize = batchSize;
+        this.interval = interval;
+        this.grace = grace;
+        this.retention = retention;
+        this.clock = clock;
+    }
+
+    // Escritas anteriores à subida não interessam: o cache deste nó começa vazio
+    public synchronized void start() {
+        this.highWaterMark = this.repository.findMaxId();
+        this.lastPrune = this.clock.instant();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            final var thread = new Thread(r, "cache-invalidation-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::poll, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+        }
+    }
+
+    public synchronized long highWaterMark() {
+        return this.highWaterMark;
+    }
+
+    public synchronized void poll() {
+        try {
+            dispatch(recoverGaps());
+
+            List<CacheInvalidationJpaEntity> batch;
+            do {
+                batch = this.repository.findAllAfter(this.highWaterMark, PageRequest.of(0, this.batchSize));
+                dispatch(batch);
+                advance(batch);
+            } while (batch.size() == this.batchSize);
+
+            prune();
+        } catch (final RuntimeException ex) {
+            log.warn("Cache invalidation poll failed; it is retried from id {}", this.highWaterMark, ex);
+        }
+    }
+
+    private List<CacheInvalidationJpaEntity> recoverGaps() {
+        this.gaps.values().removeIf(since -> since.plus(this.grace).isBefore(this.clock.instant()));
+        if (this.gaps.isEmpty()) {
+            return List.of();
+        }
+
+        final var ids = List.copyOf(this.gaps.keySet());
+        final var found = new ArrayList<CacheInvalidationJpaEntity>();
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            found.addAll(this.repository.findAllByIdIn(ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()))));
+        }
+        found.forEach(row -> this.gaps.remove(row.getId()));
+        return found;
+    }
+
+    private void advance(final List<CacheInvalidationJpaEntity> batch) {
+        final var now = this.clock.instant();
+        for (final var row : batch) {
+            for (long missing = this.highWaterMark + 1; missing < row.getId(); missing++) {
+                if (this.gaps.size() >= MAX_PENDING_GAPS) {
+                    log.warn("Too many pending cache invalidation gaps; ids from {} to {} are skipped", missing, row.getId() - 1);
+                    break;
+                }
+                this.gaps.put(missing, now);
+            }
+            this.highWaterMark = row.getId();
+        }
+    }
+
+    private void dispatch(final List<CacheInvalidationJpaEntity> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        final var keysByCache = new LinkedHashMap<String, LinkedHashSet<String>>();
+        rows.forEach(row -> keysByCache
+                .computeIfAbsent(row.getCacheName(), name -> new LinkedHashSet<>())
+                .add(row.getCacheKey()));
+
+        keysByCache.forEach((name, keys) -> this.listeners
+                .getOrDefault(name, List.of())
+                .forEach(listener -> listener.invalidate(List.copyOf(keys))));
+    }
+
+    // Todos os nós podem apagar: o delete por data é idempotente
+    private void prune() {
+        final var now = this.clock.instant();
+        if (this.lastPrune.plus(this.interval.multipliedBy(60)).isAfter(now)) {
+            return;
+        }
+
+        this.repository.deleteAllBefore(now.minus(this.retention));
+        this.lastPrune = now;
+    }
+}
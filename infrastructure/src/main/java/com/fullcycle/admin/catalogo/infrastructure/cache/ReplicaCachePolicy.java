@@ -0,0 +1,66 @@
+package com.fullcycle.admin.catalogo.infrastructure.cache;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.datasource.DataSourceRouting;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Com a réplica ligada, as faltas de cache das leituras seguem a rota normal e podem vir de uma cópia
+// atrasada em até replica.max-lag: essas entradas vivem no máximo isso. O cliente preso ao primário pelo
+// read-your-writes não passa pelo cache, que pode ter uma cópia anterior à escrita dele
+@Component
+public class ReplicaCachePolicy {
+
+    private final boolean enabled;
+    private final Duration maxLag;
+
+    public ReplicaCachePolicy(
+            @Value("${replica.enabled:false}") final boolean enabled,
+            @Value("${replica.max-lag:5s}") final Duration maxLag
+    ) {
+        this.enabled = enabled;
+        this.maxLag = maxLag;
+    }
+
+    public boolean bypass() {
+        return this.enabled && DataSourceRouting.primaryRequired();
+    }
+
+    // O Caffeine calcula a expiração na thread que carrega ou grava a entrada, onde está a rota da leitura
+    public Expiry<Object, Object> expireAfterWrite(final Duration ttl) {
+        final var replicaTtl = this.enabled && this.maxLag.compareTo(ttl) < 0 ? this.maxLag : ttl;
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(final Object key, final Object value, final long currentTime) {
+                return (mayReadReplica() ? replicaTtl : ttl).toNanos();
+            }
+
+            @Override
+            public long expireAfterUpdate(
+                    final Object key,
+                    final Object value,
+                    final long currentTime,
+                    final long currentDuration
+            ) {
+                return expireAfterCreate(key, value, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(
+                    final Object key,
+                    final Object value,
+                    final long currentTime,
+                    final long currentDuration
+            ) {
+                return currentDuration;
+            }
+        };
+    }
+
+    // Intenção, não a rota efetiva: com a réplica fora de rotação a carga vai ao primário e só expira antes
+    private boolean mayReadReplica() {
+        return this.enabled && DataSourceRouting.replicaRequested() && !DataSourceRouting.primaryRequired();
+    }
+}
@@ -0,0 +1,28 @@
+package com.fullcycle.admin.catalogo.infrastructure.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Contador de escritas por tipo de agregado: as páginas em cache são chaveadas pela geração,
+// então uma escrita invalida todas de uma vez sem rastrear quais linhas cada página contém
+@Component
+public class WriteGenerations {
+
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public long current(final String aName) {
+        return counter(aName).get();
+    }
+
+    // Chamado depois do commit: quem ler a geração nova já enxerga a escrita no banco
+    public long bump(final String aName) {
+        return counter(aName).incrementAndGet();
+    }
+
+    private AtomicLong counter(final String aName) {
+        return this.generations.computeIfAbsent(aName, key -> new AtomicLong());
+    }
+}
@@ -0,0 +1,47 @@
+package com.fullcycle.admin.catalogo.infrastructure.cache.persistence;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+
+@Entity(name = "CacheInvalidation")
+@Table(name = "cache_invalidations")
+public class CacheInvalidationJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Column(name = "cache_name", nullable = false)
+    private String cacheName;
+
+    @Column(name = "cache_key", nullable = false)
+    private String cacheKey;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    public CacheInvalidationJpaEntity() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public String getCacheKey() {
+        return cacheKey;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,28 @@
+package com.fullcycle.admin.catalogo.infrastructure.cache.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidationJpaEntity, Long> {
+
+    @Query(value = " select c from CacheInvalidation c where c.id > :after order by c.id")
+    List<CacheInvalidationJpaEntity> findAllAfter(@Param("after") long after, Pageable page);
+
+    List<CacheInvalidationJpaEntity> findAllByIdIn(Collection<Long> ids);
+
+    @Query(value = " select coalesce(max(c.id), 0) from CacheInvalidation c")
+    long findMaxId();
+
+    @Transactional
+    @Modifying
+    @Query(value = " delete from CacheInvalidation c where c.createdAt < :before")
+    int deleteAllBefore(@Param("before") Instant before);
+}
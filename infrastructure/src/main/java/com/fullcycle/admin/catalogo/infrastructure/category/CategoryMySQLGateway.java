@@ -1,97 +1,552 @@
 package com.fullcycle.admin.catalogo.infrastructure.category;
 
+import com.fullcycle.admin.catalogo.domain.AggregateVersion;
+import com.fullcycle.admin.catalogo.domain.BatchResult;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryEvent;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryPreview;
+import com.fullcycle.admin.catalogo.domain.category.CategoryQueryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchIndex;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.genre.GenreEvent;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
+import com.fullcycle.admin.catalogo.domain.pagination.Cursor;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.cache.CacheInvalidationLog;
+import com.fullcycle.admin.catalogo.infrastructure.category.filter.CategoryBloomFilter;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
-import org.springframework.data.domain.PageRequest;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.datasource.DataSourceRouting;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.Outbox;
+import com.fullcycle.admin.catalogo.infrastructure.utils.EstimateUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ScrollUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SliceUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SortPlanner;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+import static com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils.after;
+import static com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils.in;
 import static com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils.like;
 
 @Service
-public class CategoryMySQLGateway implements CategoryGateway {
+public class CategoryMySQLGateway implements CategoryGateway, CategoryQueryGateway {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryMySQLGateway.class);
+
+    static final String DEFAULT_SORT = "name";
+
+    // Visível no pacote: o CategoryR2dbcGateway aceita exatamente as mesmas ordenações
+    static final SortPlanner SORTS = SortPlanner.builder(DEFAULT_SORT)
+            .allow("name")
+            // description não tem índice (VARCHAR(4000)); segue aceito por compatibilidade
+            .allow("description")
+            .allow("createdAt", "created_at")
+            .allow("updatedAt", "updated_at")
+            .allow("active", "is_active")
+            .allow("deletedAt", "deleted_at")
+            .build();
+    private static final String TABLE_NAME = "category";
+
+    private static final List<String> COLUMNS =
+            List.of("id", "name", "description", "active", "createdAt", "updatedAt", "deletedAt", "version");
+
+    // A listagem não usa updatedAt
+    private static final List<String> PREVIEW_COLUMNS =
+            List.of("id", "name", "description", "active", "createdAt", "deletedAt");
+
+    // Cada transação grava (ou remove) no máximo CHUNK_SIZE registros
+    private static final int CHUNK_SIZE = 500;
 
     private final CategoryRepository repository;
+    private final GenreRepository genreRepository;
+    private final EntityManager entityManager;
+    private final CategorySearchIndex searchIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final CategoryBloomFilter bloomFilter;
+    private final int exportFetchSize;
+    private final Outbox outbox;
+    private final CacheInvalidationLog invalidations;
 
-    public CategoryMySQLGateway(final CategoryRepository repository) {
+    public CategoryMySQLGateway(
+            final CategoryRepository repository,
+            final GenreRepository genreRepository,
+            final EntityManager entityManager,
+            final CategorySearchIndex searchIndex,
+            final PlatformTransactionManager transactionManager,
+            final CategoryBloomFilter bloomFilter,
+            @Value("${export.fetch-size:" + Integer.MIN_VALUE + "}") final int exportFetchSize,
+            final Outbox outbox,
+            final CacheInvalidationLog invalidations
+    ) {
         this.repository = repository;
+        this.genreRepository = genreRepository;
+        this.entityManager = entityManager;
+        this.searchIndex = searchIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.bloomFilter = bloomFilter;
+        this.exportFetchSize = exportFetchSize;
+        this.outbox = outbox;
+        this.invalidations = invalidations;
     }
 
     @Override
     public Category create(final Category aCategory) {
-        return save(aCategory);
+        // Agregado novo: persist gera só o INSERT, sem o SELECT que o merge do repository.save faz antes
+        final var result = this.transactionTemplate.execute(status -> {
+            final var anEntity = CategoryJpaEntity.from(aCategory);
+            this.entityManager.persist(anEntity);
+            this.outbox.append(Outbox.eventsOf(aCategory, () -> CategoryEvent.created(aCategory.getId())));
+            this.invalidations.publish(CacheInvalidationLog.CATEGORIES, List.of(aCategory.getId().getValue()));
+            return anEntity.toAggregate();
+        });
+
+        aCategory.clearEvents();
+        this.bloomFilter.add(result.getId());
+        this.searchIndex.index(result);
+        return result;
     }
 
+    @Override
+    public BatchResult<Category> createAll(final List<Category> someCategories) {
+        final var created = new ArrayList<Category>(someCategories.size());
+        final var failures = new ArrayList<BatchResult.Failure<Category>>();
+
+        for (int from = 0; from < someCategories.size(); from += CHUNK_SIZE) {
+            final var chunk = someCategories.subList(from, Math.min(from + CHUNK_SIZE, someCategories.size()));
+            try {
+                this.transactionTemplate.executeWithoutResult(status -> persistAll(chunk));
+                chunk.forEach(Category::clearEvents);
+                created.addAll(chunk);
+            } catch (final RuntimeException ex) {
+                // Só o lote com falha é desfeito; os itens dele voltam como falha, com o motivo
+                log.warn("Could not persist a batch of {} categories; the batch was rolled back", chunk.size(), ex);
+                failures.add(new BatchResult.Failure<>(chunk, NestedExceptionUtils.getMostSpecificCause(ex)));
+            }
+        }
+
+        created.forEach(aCategory -> {
+            this.bloomFilter.add(aCategory.getId());
+            this.searchIndex.index(aCategory);
+        });
+        return new BatchResult<>(created, failures);
+    }
+
+    // DELETE direto pelo id: sem o existsById e sem carregar a entidade antes de remover
     @Override
     public void deleteById(final CategoryID anId) {
-        final String anIdValue = anId.getValue();
-        if (this.repository.existsById(anIdValue)) {
-            this.repository.deleteById(anIdValue);
+        if (!UuidUtils.isUuid(anId.getValue())) {
+            return;
+        }
+
+        final var deleted = this.transactionTemplate.execute(status -> {
+            final var genreIds = this.genreRepository.findGenreIdsByCategoryIds(List.of(anId.getValue()));
+            if (this.repository.deleteOneById(anId.getValue()) == 0) {
+                return false;
+            }
+            touchGenres(genreIds);
+            this.outbox.append(List.of(CategoryEvent.deleted(anId)));
+            this.invalidations.publish(CacheInvalidationLog.CATEGORIES, List.of(anId.getValue()));
+            return true;
+        });
+
+        if (Boolean.TRUE.equals(deleted)) {
+            this.searchIndex.remove(anId);
         }
     }
 
+    @Override
+    public void deleteAllById(final List<CategoryID> someIds) {
+        final var ids = someIds.stream().map(CategoryID::getValue).filter(UuidUtils::isUuid).distinct().toList();
+
+        // O DELETE em lote só devolve a contagem: o evento sai para todos os ids de um lote que removeu algo
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            final var chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            this.transactionTemplate.executeWithoutResult(status -> {
+                final var genreIds = this.genreRepository.findGenreIdsByCategoryIds(chunk);
+                if (this.repository.deleteAllByIdIn(chunk) > 0) {
+                    touchGenres(genreIds);
+                    this.outbox.append(chunk.stream().map(id -> CategoryEvent.deleted(CategoryID.from(id))).toList());
+                    this.invalidations.publish(CacheInvalidationLog.CATEGORIES, chunk);
+                }
+            });
+        }
+
+        someIds.forEach(this.searchIndex::remove);
+    }
+
     @Override
     public Optional<Category> findById(final CategoryID anId) {
+        // Ausente no filtro é ausente no banco: responde sem ir ao MySQL.
+        // Ids fora do formato UUID não cabem na coluna BINARY(16), então também não existem
+        if (!UuidUtils.isUuid(anId.getValue()) || !this.bloomFilter.mightContain(anId)) {
+            return Optional.empty();
+        }
         return this.repository.findById(anId.getValue())
                 .map(CategoryJpaEntity::toAggregate);
     }
 
+    @Override
+    public Optional<Category> findByIdForUpdate(final CategoryID anId) {
+        try (final var ignored = DataSourceRouting.usePrimary()) {
+            return findById(anId);
+        }
+    }
+
+    @Override
+    public Optional<AggregateVersion> findVersionById(final CategoryID anId) {
+        if (!UuidUtils.isUuid(anId.getValue()) || !this.bloomFilter.mightContain(anId)) {
+            return Optional.empty();
+        }
+        return this.repository.findVersionById(anId.getValue());
+    }
+
     @Override
     public Category update(final Category aCategory) {
-        return save(aCategory);
+        final var inserted = new AtomicBoolean();
+        final var result = this.transactionTemplate.execute(status -> {
+            final var anId = aCategory.getId().getValue();
+            final var updated = this.repository.updateIfVersion(
+                    anId,
+                    aCategory.getVersion(),
+                    aCategory.getName(),
+                    aCategory.getDescription(),
+                    aCategory.isActive(),
+                    aCategory.getUpdatedAt(),
+                    aCategory.getDeletedAt()
+            );
+
+            final Category saved;
+            if (updated > 0) {
+                saved = Category.with(
+                        aCategory.getId(),
+                        aCategory.getName(),
+                        aCategory.getDescription(),
+                        aCategory.isActive(),
+                        aCategory.getCreatedAt(),
+                        aCategory.getUpdatedAt(),
+                        aCategory.getDeletedAt(),
+                        aCategory.getVersion() + 1
+                );
+            } else if (this.repository.existsById(anId)) {
+                throw ConflictException.with(Category.class, aCategory.getId(), aCategory.getVersion());
+            } else {
+                final var anEntity = CategoryJpaEntity.from(aCategory);
+                this.entityManager.persist(anEntity);
+                inserted.set(true);
+                saved = anEntity.toAggregate();
+            }
+
+            this.outbox.append(Outbox.eventsOf(aCategory, () -> CategoryEvent.updated(aCategory.getId())));
+            this.invalidations.publish(CacheInvalidationLog.CATEGORIES, List.of(aCategory.getId().getValue()));
+            return saved;
+        });
+
+        aCategory.clearEvents();
+        // Linha nova, como no create: sem isso o filtro responderia "não existe" para ela
+        if (inserted.get()) {
+            this.bloomFilter.add(result.getId());
+        }
+        this.searchIndex.index(result);
+        return result;
     }
 
     @Override
     public Pagination<Category> findAll(final SearchQuery aQuery) {
-        // Paginação
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort())
+        return search(aQuery, COLUMNS).map(CategoryMySQLGateway::toAggregate);
+    }
+
+    @Override
+    public Pagination<CategoryPreview> findAllPreviews(final SearchQuery aQuery) {
+        return search(aQuery, PREVIEW_COLUMNS).map(CategoryMySQLGateway::toPreview);
+    }
+
+    @Override
+    public void streamAllPreviews(final String terms, final Consumer<CategoryPreview> aConsumer) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(Object[].class);
+        final var root = query.from(CategoryJpaEntity.class);
+
+        query.multiselect(
+                root.get("id"),
+                root.get("name"),
+                root.get("description"),
+                root.get("active"),
+                root.get("createdAt"),
+                root.get("deletedAt")
         );
+        if (terms != null && !terms.isBlank()) {
+            final Specification<CategoryJpaEntity> nameLike = like("name", terms);
+            final Specification<CategoryJpaEntity> descriptionLike = like("description", terms);
+            query.where(nameLike.or(descriptionLike).toPredicate(root, query, cb));
+        }
+        query.orderBy(cb.asc(root.get("id")));
+
+        this.readOnlyTransactionTemplate.executeWithoutResult(status -> ScrollUtils.forEach(
+                this.entityManager,
+                query,
+                this.exportFetchSize,
+                aRow -> aConsumer.accept(new CategoryPreview(
+                        CategoryID.from((String) aRow[0]),
+                        (String) aRow[1],
+                        (String) aRow[2],
+                        (Boolean) aRow[3],
+                        (Instant) aRow[4],
+                        (Instant) aRow[5]
+                ))
+        ));
+    }
+
+    @Override
+    public List<CategoryID> existsByIds(Iterable<CategoryID> catIds) {
+        // Só os ids que talvez existam são confirmados no banco
+        final var ids = StreamSupport.stream(catIds.spliterator(), false)
+                .filter(this.bloomFilter::mightContain)
+                .map(CategoryID::getValue)
+                .filter(UuidUtils::isUuid)
+                .toList();
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return this.repository.existsByIds(ids).stream().map(CategoryID::from).toList();
+    }
+
+    private Pagination<Tuple> search(final SearchQuery aQuery, final List<String> columns) {
+        final var terms = Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank());
+
+        // Busca pelo índice invertido; indisponível, com termo curto ou com resultados demais cai no LIKE.
+        // Assim o IN com os ids encontrados nunca passa de search.index.max-matches
+        final var matches = terms.flatMap(this.searchIndex::search);
+        if (matches.isPresent() && matches.get().isEmpty()) {
+            return new Pagination<>(aQuery.page(), aQuery.perPage(), 0, List.of());
+        }
+        if (matches.isPresent() && aQuery.isRelevance()) {
+            return findAllByRelevance(aQuery, matches.get(), columns);
+        }
+
+        final var query = aQuery.withSort(aQuery.isRelevance() ? DEFAULT_SORT : SORTS.property(aQuery.sort()));
+
+        final var direction = SortPlanner.direction(query.direction());
+        final var sort = SORTS.sort(query.sort(), direction);
 
         // Busca dinamica pelo criterio terms (name ou description)
-        final var specifications = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isBlank())
-                .map(str -> {
+        final Specification<CategoryJpaEntity> specifications = matches
+                .map(CategoryMySQLGateway::idIn)
+                .or(() -> terms.map(str -> {
                     final Specification<CategoryJpaEntity> nameLike = like("name", str);
                     final Specification<CategoryJpaEntity> descriptionLike = like("description", str);
                     return nameLike.or(descriptionLike);
-                })
+                }))
                 .orElse(null);
 
-        final var pageResult =
-                this.repository.findAll(Specification.where(specifications), page);
+        final var whereClause = query.isCursor()
+                ? Specification.where(specifications).and(after(SliceUtils.cursor(query), direction.isAscending()))
+                : Specification.where(specifications);
+        final var offset = query.isCursor() ? 0L : (long) query.page() * query.perPage();
+
+        // Busca perPage + 1 para saber se existe uma próxima página
+        final var rows = SliceUtils.slice(
+                this.entityManager,
+                CategoryJpaEntity.class,
+                whereClause,
+                sort,
+                offset,
+                query.perPage() + 1,
+                columns
+        );
+
+        final var hasMore = rows.size() > query.perPage();
+        final var items = hasMore ? rows.subList(0, query.perPage()) : rows;
 
         return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CategoryJpaEntity::toAggregate).toList()
+                query.page(),
+                query.perPage(),
+                total(query, specifications, matches),
+                items,
+                hasMore ? SliceUtils.next(items.get(items.size() - 1), query.sort()) : null,
+                hasMore
         );
     }
 
-    @Override
-    public List<CategoryID> existsByIds(Iterable<CategoryID> catIds) {
-        final var ids = StreamSupport.stream(catIds.spliterator(), false)
-                .map(CategoryID::getValue)
+    private Long total(
+            final SearchQuery aQuery,
+            final Specification<CategoryJpaEntity> specifications,
+            final Optional<List<CategoryID>> matches
+    ) {
+        // O índice é local e pode ainda guardar ids removidos em outro nó: só a estimativa se contenta com ele
+        if (matches.isPresent() && aQuery.count() == CountMode.ESTIMATED) {
+            return (long) matches.get().size();
+        }
+
+        final Long estimate = switch (aQuery.count()) {
+            case NONE -> null;
+            case ESTIMATED -> estimate(aQuery);
+            case EXACT -> this.repository.count(Specification.where(specifications));
+        };
+
+        // Sem estatísticas disponíveis (ex.: H2) a estimativa cai para a contagem exata
+        return estimate == null && aQuery.count() == CountMode.ESTIMATED
+                ? this.repository.count(Specification.where(specifications))
+                : estimate;
+    }
+
+    private Long estimate(final SearchQuery aQuery) {
+        final var terms = aQuery.terms();
+        if (terms == null || terms.isBlank()) {
+            return EstimateUtils.tableRows(this.entityManager, TABLE_NAME);
+        }
+
+        final var pattern = "%" + terms.toUpperCase() + "%";
+        return EstimateUtils.explainRows(
+                this.entityManager,
+                "SELECT id FROM category WHERE UPPER(name) LIKE ?1 OR UPPER(description) LIKE ?2",
+                List.of(pattern, pattern)
+        );
+    }
+
+    // Os ids já vêm ranqueados pelo índice: só a página pedida é carregada do banco
+    private Pagination<Tuple> findAllByRelevance(
+            final SearchQuery aQuery,
+            final List<CategoryID> ranked,
+            final List<String> columns
+    ) {
+        final int from;
+        if (aQuery.isCursor()) {
+            final var lastId = CategoryID.from(SliceUtils.cursor(aQuery).id());
+            final var position = ranked.indexOf(lastId);
+            if (position < 0) {
+                throw DomainException.with(new Error("'after' cursor is no longer part of the search results"));
+            }
+            from = position + 1;
+        } else {
+            from = Math.min(aQuery.page() * aQuery.perPage(), ranked.size());
+        }
+
+        final var to = Math.min(from + aQuery.perPage(), ranked.size());
+        final var pageIds = ranked.subList(from, to);
+
+        final var rows = pageIds.isEmpty()
+                ? List.<Tuple>of()
+                : SliceUtils.slice(
+                        this.entityManager,
+                        CategoryJpaEntity.class,
+                        idIn(pageIds),
+                        Sort.unsorted(),
+                        0,
+                        pageIds.size(),
+                        columns
+                );
+
+        final var rowsById = rows.stream()
+                .collect(Collectors.toMap(row -> row.get("id", String.class), Function.identity()));
+
+        final var items = pageIds.stream()
+                .map(id -> rowsById.get(id.getValue()))
+                .filter(Objects::nonNull)
                 .toList();
 
-        return this.repository.existsByIds(ids).stream().map(CategoryID::from).toList();
+        final var next = to < ranked.size() && !pageIds.isEmpty()
+                ? Cursor.of(aQuery.sort(), null, pageIds.get(pageIds.size() - 1).getValue()).encode()
+                : null;
+
+        return new Pagination<>(
+                aQuery.page(),
+                aQuery.perPage(),
+                total(aQuery, idIn(ranked), Optional.of(ranked)),
+                items,
+                next,
+                next != null
+        );
+    }
+
+    // O ON DELETE CASCADE tira a categoria dos gêneros sem passar por eles: o updated_at desses gêneros
+    // avança aqui para que a versão usada no ETag e os caches de gênero enxerguem a mudança
+    private void touchGenres(final List<String> genreIds) {
+        if (genreIds.isEmpty()) {
+            return;
+        }
+
+        final var now = Instant.now();
+        for (int from = 0; from < genreIds.size(); from += CHUNK_SIZE) {
+            this.genreRepository.touchAll(genreIds.subList(from, Math.min(from + CHUNK_SIZE, genreIds.size())), now);
+        }
+        this.outbox.append(genreIds.stream().map(id -> GenreEvent.updated(GenreID.from(id))).toList());
+        this.invalidations.publish(CacheInvalidationLog.GENRES, genreIds);
+    }
+
+    // persist em vez de save: o id já vem preenchido, e o merge faria um SELECT por registro
+    private void persistAll(final List<Category> someCategories) {
+        someCategories.forEach(aCategory -> this.entityManager.persist(CategoryJpaEntity.from(aCategory)));
+        this.outbox.append(someCategories.stream()
+                .flatMap(aCategory -> Outbox.eventsOf(aCategory, () -> CategoryEvent.created(aCategory.getId())).stream())
+                .toList());
+        this.invalidations.publish(
+                CacheInvalidationLog.CATEGORIES,
+                someCategories.stream().map(aCategory -> aCategory.getId().getValue()).toList()
+        );
+        this.entityManager.flush();
+        this.entityManager.clear();
+    }
+
+    private static Category toAggregate(final Tuple aRow) {
+        return Category.with(
+                CategoryID.from(aRow.get("id", String.class)),
+                aRow.get("name", String.class),
+                aRow.get("description", String.class),
+                aRow.get("active", Boolean.class),
+                aRow.get("createdAt", Instant.class),
+                aRow.get("updatedAt", Instant.class),
+                aRow.get("deletedAt", Instant.class),
+                aRow.get("version", Long.class)
+        );
+    }
+
+    private static CategoryPreview toPreview(final Tuple aRow) {
+        return new CategoryPreview(
+                CategoryID.from(aRow.get("id", String.class)),
+                aRow.get("name", String.class),
+                aRow.get("description", String.class),
+                aRow.get("active", Boolean.class),
+                aRow.get("createdAt", Instant.class),
+                aRow.get("deletedAt", Instant.class)
+        );
     }
 
-    private Category save(final Category aCategory) {
-        return this.repository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+    private static Specification<CategoryJpaEntity> idIn(final List<CategoryID> ids) {
+        return in("id", ids.stream().map(CategoryID::getValue).toList());
     }
 }
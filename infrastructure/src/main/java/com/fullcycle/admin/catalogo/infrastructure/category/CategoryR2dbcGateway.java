@@ -0,0 +1,145 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.ReactiveCategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryPreview;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.utils.R2dbcUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SortPlanner;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidUtils;
+import io.r2dbc.spi.Row;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway.DEFAULT_SORT;
+import static com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway.SORTS;
+
+// Sem índice invertido, cache ou cursor: cada leitura é uma consulta R2DBC, que é o que se quer medir
+@Service
+@Profile("reactive")
+public class CategoryR2dbcGateway implements ReactiveCategoryGateway {
+
+    private static final String SELECT_BY_ID = """
+            SELECT id, name, description, active, created_at, updated_at, deleted_at, version
+            FROM category
+            WHERE id = :id""";
+
+    private static final String SELECT_PREVIEWS = """
+            SELECT id, name, description, active, created_at, deleted_at
+            FROM category %s
+            ORDER BY %s %s, id %s
+            LIMIT %d OFFSET %d""";
+
+    private static final String COUNT = "SELECT COUNT(*) AS total FROM category %s";
+
+    private static final String WHERE_TERMS = "WHERE UPPER(name) LIKE :name OR UPPER(description) LIKE :description";
+
+    private final DatabaseClient client;
+
+    public CategoryR2dbcGateway(final DatabaseClient client) {
+        this.client = Objects.requireNonNull(client);
+    }
+
+    @Override
+    public Mono<Category> findById(final CategoryID anId) {
+        if (!UuidUtils.isUuid(anId.getValue())) {
+            return Mono.empty();
+        }
+
+        return this.client.sql(SELECT_BY_ID)
+                .bind("id", UuidUtils.toBytes(anId.getValue()))
+                .map(CategoryR2dbcGateway::toAggregate)
+                .one();
+    }
+
+    @Override
+    public Mono<Pagination<CategoryPreview>> findAllPreviews(final SearchQuery aQuery) {
+        return Mono.defer(() -> {
+            if (aQuery.isCursor()) {
+                return Mono.error(DomainException.with(
+                        new Error("'after' is not supported by the reactive API, use 'page'")));
+            }
+
+            final var sort = R2dbcUtils.column(aQuery.isRelevance() ? DEFAULT_SORT : SORTS.property(aQuery.sort()));
+            final var direction = SortPlanner.direction(aQuery.direction()).name();
+            final var terms = Optional.ofNullable(aQuery.terms()).filter(str -> !str.isBlank());
+            final var where = terms.isPresent() ? WHERE_TERMS : "";
+
+            // Busca perPage + 1 para saber se existe uma próxima página
+            final var sql = SELECT_PREVIEWS.formatted(
+                    where, sort, direction, direction, aQuery.perPage() + 1, (long) aQuery.page() * aQuery.perPage());
+
+            final var rows = bindTerms(this.client.sql(sql), terms)
+                    .map(CategoryR2dbcGateway::toPreview)
+                    .all()
+                    .collectList();
+
+            return Mono.zip(rows, total(aQuery, where, terms)).map(result -> {
+                final var items = result.getT1();
+                final var hasMore = items.size() > aQuery.perPage();
+                return new Pagination<>(
+                        aQuery.page(),
+                        aQuery.perPage(),
+                        result.getT2().orElse(null),
+                        hasMore ? items.subList(0, aQuery.perPage()) : items,
+                        null,
+                        hasMore
+                );
+            });
+        });
+    }
+
+    // ESTIMATED conta como EXACT: a estimativa do servlet depende de EXPLAIN, que não vale o round trip aqui
+    private Mono<Optional<Long>> total(final SearchQuery aQuery, final String where, final Optional<String> terms) {
+        if (aQuery.count() == CountMode.NONE) {
+            return Mono.just(Optional.empty());
+        }
+
+        return bindTerms(this.client.sql(COUNT.formatted(where)), terms)
+                .map(row -> Optional.ofNullable(row.get("total", Long.class)))
+                .one();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindTerms(
+            final DatabaseClient.GenericExecuteSpec aSpec,
+            final Optional<String> terms
+    ) {
+        return terms
+                .map(str -> aSpec.bind("name", R2dbcUtils.like(str)).bind("description", R2dbcUtils.like(str)))
+                .orElse(aSpec);
+    }
+
+    private static Category toAggregate(final Row aRow) {
+        return Category.with(
+                CategoryID.from(R2dbcUtils.id(aRow, "id")),
+                aRow.get("name", String.class),
+                aRow.get("description", String.class),
+                Boolean.TRUE.equals(aRow.get("active", Boolean.class)),
+                R2dbcUtils.instant(aRow, "created_at"),
+                R2dbcUtils.instant(aRow, "updated_at"),
+                R2dbcUtils.instant(aRow, "deleted_at"),
+                Objects.requireNonNullElse(aRow.get("version", Long.class), 0L)
+        );
+    }
+
+    private static CategoryPreview toPreview(final Row aRow) {
+        return new CategoryPreview(
+                CategoryID.from(R2dbcUtils.id(aRow, "id")),
+                aRow.get("name", String.class),
+                aRow.get("description", String.class),
+                Boolean.TRUE.equals(aRow.get("active", Boolean.class)),
+                R2dbcUtils.instant(aRow, "created_at"),
+                R2dbcUtils.instant(aRow, "deleted_at")
+        );
+    }
+}
@@ -0,0 +1,219 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.cache;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.AggregateVersion;
+import com.fullcycle.admin.catalogo.domain.BatchResult;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryPreview;
+import com.fullcycle.admin.catalogo.domain.category.CategoryQueryGateway;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.cache.CacheInvalidationListener;
+import com.fullcycle.admin.catalogo.infrastructure.cache.CacheInvalidationLog;
+import com.fullcycle.admin.catalogo.infrastructure.cache.ReplicaCachePolicy;
+import com.fullcycle.admin.catalogo.infrastructure.cache.WriteGenerations;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+@Primary
+@Component
+public class CachedCategoryGateway implements CategoryGateway, CategoryQueryGateway, CacheInvalidationListener {
+
+    private static final String CACHE_NAME = CacheInvalidationLog.CATEGORIES;
+
+    // Estimativa do peso de uma página: cabeçalhos, id, Instants e flags por item + 2 bytes por caractere
+    private static final int PAGE_BYTES = 128;
+    private static final int PREVIEW_BYTES = 256;
+
+    private final CategoryMySQLGateway delegate;
+    private final Cache<CategoryID, Category> cache;
+    private final Cache<PageKey, Pagination<CategoryPreview>> pages;
+    private final WriteGenerations generations;
+    private final ReplicaCachePolicy replicaCache;
+
+    public CachedCategoryGateway(
+            final CategoryMySQLGateway delegate,
+            @Value("${cache.categories.max-size:10000}") final long maxSize,
+            @Value("${cache.categories.ttl:5m}") final Duration ttl,
+            @Value("${cache.categories.pages.max-bytes:16MB}") final DataSize pagesMaxBytes,
+            @Value("${cache.categories.pages.ttl:1m}") final Duration pagesTtl,
+            final WriteGenerations generations,
+            final ReplicaCachePolicy replicaCache,
+            final ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.generations = generations;
+        this.replicaCache = replicaCache;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(replicaCache.expireAfterWrite(ttl))
+                .recordStats()
+                .build();
+        this.pages = Caffeine.newBuilder()
+                .maximumWeight(pagesMaxBytes.toBytes())
+                .weigher(CachedCategoryGateway::weigh)
+                .expireAfter(replicaCache.expireAfterWrite(pagesTtl))
+                .recordStats()
+                .build();
+
+        // hits, misses e evictions ficam em /actuator/metrics/cache.* com a tag cache=categories
+        meterRegistry.ifAvailable(registry -> {
+            CaffeineCacheMetrics.monitor(registry, this.cache, CACHE_NAME);
+            CaffeineCacheMetrics.monitor(registry, this.pages, CACHE_NAME + "-pages");
+        });
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        final var result = this.delegate.create(aCategory);
+        nextGeneration();
+        this.cache.invalidate(result.getId());
+        return result;
+    }
+
+    @Override
+    public BatchResult<Category> createAll(final List<Category> someCategories) {
+        final var result = this.delegate.createAll(someCategories);
+        nextGeneration();
+        result.created().forEach(aCategory -> this.cache.invalidate(aCategory.getId()));
+        return result;
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        this.delegate.deleteById(anId);
+        nextGeneration();
+        this.cache.invalidate(anId);
+    }
+
+    @Override
+    public void deleteAllById(final List<CategoryID> someIds) {
+        this.delegate.deleteAllById(someIds);
+        nextGeneration();
+        this.cache.invalidateAll(someIds);
+    }
+
+    // O agregado é mutável: o cache guarda e entrega sempre cópias.
+    // Uma escrita entre a leitura no banco e o put avança a geração; nesse caso a cópia lida pode ser
+    // anterior à escrita e é descartada, em vez de ficar no cache até o TTL
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        if (this.replicaCache.bypass()) {
+            return this.delegate.findById(anId);
+        }
+
+        final var cached = this.cache.getIfPresent(anId);
+        if (cached != null) {
+            return Optional.of(Category.with(cached));
+        }
+
+        final var generation = this.generations.current(CACHE_NAME);
+        final var result = this.delegate.findById(anId);
+        result.ifPresent(aCategory -> {
+            this.cache.put(anId, Category.with(aCategory));
+            if (this.generations.current(CACHE_NAME) != generation) {
+                this.cache.invalidate(anId);
+            }
+        });
+        return result;
+    }
+
+    // A escrita confere a versão contra o banco: a entrada em cache pode estar atrás de outro nó
+    @Override
+    public Optional<Category> findByIdForUpdate(final CategoryID anId) {
+        return this.delegate.findByIdForUpdate(anId);
+    }
+
+    // Entrada em cache responde o GET condicional sem ir ao banco
+    @Override
+    public Optional<AggregateVersion> findVersionById(final CategoryID anId) {
+        final var cached = this.replicaCache.bypass() ? null : this.cache.getIfPresent(anId);
+        if (cached != null) {
+            return Optional.of(new AggregateVersion(cached.getVersion(), cached.getUpdatedAt()));
+        }
+        return this.delegate.findVersionById(anId);
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        final var result = this.delegate.update(aCategory);
+        nextGeneration();
+        this.cache.invalidate(result.getId());
+        return result;
+    }
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    // Escritas feitas em outros nós, lidas do log de invalidação
+    @Override
+    public void invalidate(final List<String> keys) {
+        nextGeneration();
+        this.cache.invalidateAll(keys.stream().map(CategoryID::from).toList());
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public List<CategoryID> existsByIds(final Iterable<CategoryID> ids) {
+        return this.delegate.existsByIds(ids);
+    }
+
+    // A geração entra na chave: leituras que começaram antes da escrita gravam sob a geração antiga,
+    // que ninguém mais consulta
+    @Override
+    public Pagination<CategoryPreview> findAllPreviews(final SearchQuery aQuery) {
+        if (this.replicaCache.bypass()) {
+            return this.delegate.findAllPreviews(aQuery);
+        }
+
+        final var aKey = new PageKey(this.generations.current(CACHE_NAME), aQuery);
+        return this.pages.get(aKey, key -> {
+            final var page = this.delegate.findAllPreviews(key.query());
+            return new Pagination<>(
+                    page.currentPage(), page.perPage(), page.total(), List.copyOf(page.items()), page.next(), page.hasMore());
+        });
+    }
+
+    @Override
+    public void streamAllPreviews(final String terms, final Consumer<CategoryPreview> aConsumer) {
+        this.delegate.streamAllPreviews(terms, aConsumer);
+    }
+
+    private void nextGeneration() {
+        this.generations.bump(CACHE_NAME);
+        this.pages.invalidateAll();
+    }
+
+    private static int weigh(final PageKey aKey, final Pagination<CategoryPreview> aPage) {
+        return PAGE_BYTES + aPage.items().stream()
+                .mapToInt(aPreview -> PREVIEW_BYTES + 2 * (length(aPreview.name()) + length(aPreview.description())))
+                .sum();
+    }
+
+    private static int length(final String aValue) {
+        return aValue != null ? aValue.length() : 0;
+    }
+
+    private record PageKey(long generation, SearchQuery query) {
+    }
+}
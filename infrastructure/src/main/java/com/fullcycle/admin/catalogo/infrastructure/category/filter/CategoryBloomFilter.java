@@ -0,0 +1,151 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.filter;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.cache.CacheInvalidationListener;
+import com.fullcycle.admin.catalogo.infrastructure.cache.CacheInvalidationLog;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.filter.BloomFilter;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class CategoryBloomFilter implements CacheInvalidationListener {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final long MIN_CAPACITY = 10_000;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final CategoryRepository repository;
+    private final boolean enabled;
+    private final AtomicLong insertions = new AtomicLong();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    // Varredura longa e bloqueante no banco: fora do ForkJoinPool comum, uma por vez
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(r -> {
+        final var thread = new Thread(r, "category-bloom-filter-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter building;
+    private volatile boolean ready;
+
+    public CategoryBloomFilter(
+            final CategoryRepository repository,
+            @Value("${bloom-filter.categories.enabled:false}") final boolean enabled
+    ) {
+        this.repository = repository;
+        this.enabled = enabled;
+    }
+
+    // A primeira carga também vai para o executor: não segura o evento de ready nem o que vem depois dele
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            scheduleRebuild();
+        }
+    }
+
+    // Reconstrói o filtro a partir da tabela; enquanto não termina tudo é tratado como "talvez existe"
+    public void rebuild() {
+        if (this.rebuilding.compareAndSet(false, true)) {
+            doRebuild();
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        this.rebuilder.shutdownNow();
+    }
+
+    // A flag é tomada já na submissão: chamadas seguidas de add() não enfileiram outras reconstruções
+    private void scheduleRebuild() {
+        if (!this.rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            this.rebuilder.execute(this::doRebuild);
+        } catch (final RejectedExecutionException ex) {
+            this.rebuilding.set(false);
+        }
+    }
+
+    private void doRebuild() {
+        try {
+            final var aFilter = new BloomFilter(Math.max(MIN_CAPACITY, this.repository.count() * 2), FALSE_POSITIVE_RATE);
+            synchronized (this) {
+                this.building = aFilter;
+            }
+
+            var ids = this.repository.findAllIdsAfter(UuidUtils.MIN, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            while (!ids.isEmpty()) {
+                ids.forEach(aFilter::put);
+                ids = this.repository.findAllIdsAfter(ids.get(ids.size() - 1), PageRequest.of(0, REBUILD_BATCH_SIZE));
+            }
+
+            // Escritas feitas durante a varredura já foram gravadas também no novo filtro
+            synchronized (this) {
+                this.insertions.set(this.repository.count());
+                this.filter = aFilter;
+                this.building = null;
+                this.ready = true;
+            }
+        } finally {
+            this.rebuilding.set(false);
+        }
+    }
+
+    public void add(final CategoryID anId) {
+        if (!enabled) {
+            return;
+        }
+
+        synchronized (this) {
+            if (this.filter != null) {
+                this.filter.put(anId.getValue());
+            }
+            if (this.building != null) {
+                this.building.put(anId.getValue());
+            }
+        }
+
+        // Acima da capacidade a taxa de falsos positivos cresce: reconstrói com o dobro do tamanho
+        final var aFilter = this.filter;
+        if (aFilter != null && this.insertions.incrementAndGet() > aFilter.expectedInsertions()) {
+            scheduleRebuild();
+        }
+    }
+
+    @Override
+    public String cacheName() {
+        return CacheInvalidationLog.CATEGORIES;
+    }
+
+    // Categorias criadas em outros nós: sem isso o filtro local responderia "não existe" para elas.
+    // Antes da primeira carga terminar vão todas para o filtro em construção, que a varredura pode ter passado
+    @Override
+    public void invalidate(final List<String> keys) {
+        keys.stream()
+                .map(CategoryID::from)
+                .filter(anId -> !this.ready || !mightContain(anId))
+                .forEach(this::add);
+    }
+
+    // Exclusões não saem do filtro: o id removido vira só um falso positivo, confirmado no banco
+    public boolean mightContain(final CategoryID anId) {
+        return !enabled || !ready || this.filter.mightContain(anId.getValue());
+    }
+}
@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CreateCategoryBatchItemResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("errors") List<Error> errors
+) {
+}
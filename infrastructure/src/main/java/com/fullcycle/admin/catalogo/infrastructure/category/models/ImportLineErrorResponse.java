@@ -0,0 +1,12 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+public record ImportLineErrorResponse(
+        @JsonProperty("line") long line,
+        @JsonProperty("errors") List<Error> errors
+) {
+}
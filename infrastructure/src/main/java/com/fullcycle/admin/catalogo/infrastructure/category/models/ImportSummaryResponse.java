@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record ImportSummaryResponse(
+        @JsonProperty("total") long total,
+        @JsonProperty("imported") long imported,
+        @JsonProperty("failed") long failed
+) {
+}
@@ -1,18 +1,61 @@
 package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
 
+import com.fullcycle.admin.catalogo.domain.AggregateVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
 
     Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable page);
 
+    long count(Specification<CategoryJpaEntity> whereClause);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = " delete from Category c where c.id = :id")
+    int deleteOneById(@Param("id") String id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = " delete from Category c where c.id in :ids")
+    int deleteAllByIdIn(@Param("ids") List<String> ids);
+
+    @Query(value = " select new com.fullcycle.admin.catalogo.domain.AggregateVersion(c.version, c.updatedAt)"
+            + " from Category c where c.id = :id")
+    Optional<AggregateVersion> findVersionById(@Param("id") String id);
+
+    // Só grava se ninguém escreveu desde a leitura: 0 linhas é conflito (ou registro inexistente)
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = " update Category c set c.name = :name, c.description = :description, c.active = :active,"
+            + " c.updatedAt = :updatedAt, c.deletedAt = :deletedAt, c.version = c.version + 1"
+            + " where c.id = :id and c.version = :version")
+    int updateIfVersion(
+            @Param("id") String id,
+            @Param("version") long version,
+            @Param("name") String name,
+            @Param("description") String description,
+            @Param("active") boolean active,
+            @Param("updatedAt") Instant updatedAt,
+            @Param("deletedAt") Instant deletedAt
+    );
+
     @Query(value = " select c.id from Category c where c.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Query(value = " select c.id from Category c where c.id > :after order by c.id")
+    List<String> findAllIdsAfter(@Param("after") String after, Pageable page);
+
+    @Query(value = " select c from Category c where c.id > :after order by c.id")
+    List<CategoryJpaEntity> findAllAfter(@Param("after") String after, Pageable page);
 }
@@ -23,6 +23,19 @@ public interface GenreAPIPresenter {
         );
     }
 
+    // A exportação leva as categorias, que a listagem paginada não mostra
+    static GenreResponse export(final GenreListOutput output) {
+        return new GenreResponse(
+                output.id(),
+                output.name(),
+                output.categories(),
+                output.isActive(),
+                output.createdAt(),
+                output.deletedAt(),
+                output.updatedAt()
+        );
+    }
+
     static GenreListResponse present(final GenreListOutput output) {
         return new GenreListResponse(
                 output.id(),
@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.presenters;
+
+import com.fullcycle.admin.catalogo.application.imports.ImportLineError;
+import com.fullcycle.admin.catalogo.application.imports.ImportOutput;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.ImportLineErrorResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.ImportSummaryResponse;
+
+public interface ImportPresenter {
+
+    static ImportLineErrorResponse present(final ImportLineError output) {
+        return new ImportLineErrorResponse(output.line(), output.errors());
+    }
+
+    static ImportSummaryResponse present(final ImportOutput output) {
+        return new ImportSummaryResponse(output.total(), output.imported(), output.failed());
+    }
+}
@@ -0,0 +1,117 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.search;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchIndex;
+import com.fullcycle.admin.catalogo.infrastructure.cache.CacheInvalidationListener;
+import com.fullcycle.admin.catalogo.infrastructure.cache.CacheInvalidationLog;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.search.TrigramIndex;
+import com.fullcycle.admin.catalogo.infrastructure.search.TrigramIndex.Field;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Component
+public class CategoryInMemorySearchIndex implements CategorySearchIndex, CacheInvalidationListener {
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final CategoryRepository repository;
+    private final boolean enabled;
+    private final int maxMatches;
+    private final TrigramIndex index = new TrigramIndex();
+    private volatile boolean ready;
+
+    public CategoryInMemorySearchIndex(
+            final CategoryRepository repository,
+            @Value("${search.index.enabled:false}") final boolean enabled,
+            @Value("${search.index.max-matches:1000}") final int maxMatches
+    ) {
+        this.repository = repository;
+        this.enabled = enabled;
+        this.maxMatches = maxMatches;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    // Reconstrói o índice a partir da tabela; enquanto não termina as buscas caem no LIKE
+    public void rebuild() {
+        this.ready = false;
+        this.index.clear();
+
+        // Keyset no id em vez de OFFSET: cada lote custa o mesmo, do início ao fim da tabela
+        var page = this.repository.findAllAfter(UuidUtils.MIN, PageRequest.of(0, REBUILD_BATCH_SIZE));
+        while (!page.isEmpty()) {
+            page.forEach(this::put);
+            page = this.repository.findAllAfter(page.get(page.size() - 1).getId(), PageRequest.of(0, REBUILD_BATCH_SIZE));
+        }
+
+        this.ready = true;
+    }
+
+    @Override
+    public void index(final Category aCategory) {
+        if (enabled) {
+            put(CategoryJpaEntity.from(aCategory));
+        }
+    }
+
+    @Override
+    public void remove(final CategoryID anId) {
+        if (enabled) {
+            this.index.remove(anId.getValue());
+        }
+    }
+
+    @Override
+    public String cacheName() {
+        return CacheInvalidationLog.CATEGORIES;
+    }
+
+    // Escritas feitas em outros nós: relê as linhas e reindexa; as que não existem mais saem do índice
+    @Override
+    public void invalidate(final List<String> keys) {
+        if (!enabled) {
+            return;
+        }
+
+        final var found = this.repository.findAllById(keys.stream().filter(UuidUtils::isUuid).toList());
+        found.forEach(this::put);
+
+        final var foundIds = found.stream().map(CategoryJpaEntity::getId).collect(Collectors.toSet());
+        keys.stream().filter(key -> !foundIds.contains(key)).forEach(this.index::remove);
+    }
+
+    @Override
+    public Optional<List<CategoryID>> search(final String terms) {
+        if (!enabled || !ready) {
+            return Optional.empty();
+        }
+
+        return this.index.search(terms, this.maxMatches)
+                .map(ids -> ids.stream().map(CategoryID::from).toList());
+    }
+
+    private void put(final CategoryJpaEntity anEntity) {
+        this.index.put(anEntity.getId(), List.of(
+                Field.of(anEntity.getName(), NAME_WEIGHT),
+                Field.of(anEntity.getDescription(), DESCRIPTION_WEIGHT)
+        ));
+    }
+}
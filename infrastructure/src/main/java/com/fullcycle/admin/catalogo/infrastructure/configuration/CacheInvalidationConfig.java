@@ -0,0 +1,30 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.cache.CacheInvalidationListener;
+import com.fullcycle.admin.catalogo.infrastructure.cache.CacheInvalidationPoller;
+import com.fullcycle.admin.catalogo.infrastructure.cache.persistence.CacheInvalidationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+public class CacheInvalidationConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(name = "cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+    public CacheInvalidationPoller cacheInvalidationPoller(
+            final CacheInvalidationRepository repository,
+            final List<CacheInvalidationListener> listeners,
+            @Value("${cache.invalidation.batch-size:500}") final int batchSize,
+            @Value("${cache.invalidation.interval:1s}") final Duration interval,
+            @Value("${cache.invalidation.grace:10s}") final Duration grace,
+            @Value("${cache.invalidation.retention:1h}") final Duration retention
+    ) {
+        return new CacheInvalidationPoller(repository, listeners, batchSize, interval, grace, retention, Clock.systemUTC());
+    }
+}
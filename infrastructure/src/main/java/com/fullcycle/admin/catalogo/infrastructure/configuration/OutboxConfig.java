@@ -0,0 +1,56 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.outbox.FileOutboxPublisher;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.InMemoryOutboxPublisher;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.OutboxPublisher;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.OutboxRelay;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+
+// Um publisher de verdade (Kafka, SNS...) entra declarando outro bean de OutboxPublisher.
+// memory e file ficam nos perfis locais (development); em produção não há quem consuma o que eles recebem
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "outbox.publisher", havingValue = "file")
+    public OutboxPublisher fileOutboxPublisher(@Value("${outbox.file:outbox.ndjson}") final Path file) {
+        return new FileOutboxPublisher(file);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "outbox.publisher", havingValue = "memory")
+    public OutboxPublisher inMemoryOutboxPublisher(@Value("${outbox.memory.capacity:10000}") final int capacity) {
+        return new InMemoryOutboxPublisher(capacity);
+    }
+
+    // O relay apaga as linhas depois de publicar: sem publisher não sobe, em vez de descartar eventos
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true")
+    public OutboxRelay outboxRelay(
+            final OutboxRepository repository,
+            final ObjectProvider<OutboxPublisher> publishers,
+            final PlatformTransactionManager transactionManager,
+            @Value("${outbox.relay.batch-size:500}") final int batchSize,
+            @Value("${outbox.relay.interval:1s}") final Duration interval,
+            final ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        final var publisher = publishers.getIfAvailable(() -> {
+            throw new IllegalStateException(
+                    "outbox.relay.enabled=true requires an OutboxPublisher bean; declare one or set outbox.publisher=file|memory in a local profile");
+        });
+        final var relay = new OutboxRelay(repository, publisher, transactionManager, batchSize, interval, Clock.systemUTC());
+        meterRegistry.ifAvailable(relay::bindTo);
+        return relay;
+    }
+}
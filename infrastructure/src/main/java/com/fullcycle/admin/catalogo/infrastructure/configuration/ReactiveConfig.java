@@ -0,0 +1,54 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+
+// Só o DatabaseClient vira bean: um ConnectionFactory no contexto faz o Spring Boot desistir do DataSource,
+// e o JPA continua por baixo do outbox, da invalidação de cache e dos índices em memória também neste perfil
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig {
+
+    private ConnectionPool pool;
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(
+            @Value("${reactive.r2dbc.url}") final String url,
+            @Value("${reactive.r2dbc.username}") final String username,
+            @Value("${reactive.r2dbc.password}") final String password,
+            @Value("${reactive.r2dbc.pool.initial-size:10}") final int initialSize,
+            @Value("${reactive.r2dbc.pool.max-size:20}") final int maxSize,
+            @Value("${reactive.r2dbc.pool.max-acquire-time:250ms}") final Duration maxAcquireTime
+    ) {
+        final var options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("reactive")
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxAcquireTime(maxAcquireTime)
+                .build());
+
+        return DatabaseClient.create(this.pool);
+    }
+
+    @PreDestroy
+    void closePool() {
+        if (this.pool != null) {
+            this.pool.dispose();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.concurrency.ConcurrencyLimitProxy;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.concurrency.VirtualThreads;
+import com.fullcycle.admin.catalogo.infrastructure.genre.GenreMySQLGateway;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+// Opcional e só no Java 21: cada requisição (e o corpo dos exports/imports em streaming) roda numa virtual thread
+// em vez dos workers do Undertow. O pool do Hikari passa a ser o único limite, por isso o semáforo nos gateways.
+@Configuration
+@ConditionalOnProperty(name = "server.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    private static final Set<String> STREAMING_METHODS = Set.of("streamAllPreviews");
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadExecutor() {
+        return VirtualThreads.newPerTaskExecutor();
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> virtualThreadUndertowCustomizer(
+            final ExecutorService virtualThreadExecutor
+    ) {
+        return factory -> factory.addDeploymentInfoCustomizers(deploymentInfo -> deploymentInfo
+                .setExecutor(virtualThreadExecutor)
+                .setAsyncExecutor(virtualThreadExecutor));
+    }
+
+    @Bean
+    public WebMvcConfigurer virtualThreadAsyncSupport(final ExecutorService virtualThreadExecutor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+                configurer.setTaskExecutor(new TaskExecutorAdapter(virtualThreadExecutor));
+            }
+        };
+    }
+
+    @Bean
+    public static Semaphore gatewayPermits(@Value("${server.virtual-threads.gateway-permits:20}") final int permits) {
+        return new Semaphore(permits, true);
+    }
+
+    // Só os gateways MySQL: acertos do cache (os decoradores @Primary) não disputam permissão.
+    // O import já chega em lotes (createAll por lote), então cada lote toma e devolve a sua
+    @Bean
+    public static BeanPostProcessor gatewayConcurrencyLimit(
+            final Semaphore gatewayPermits,
+            @Value("${server.virtual-threads.gateway-acquire-timeout:5s}") final Duration timeout
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (bean instanceof CategoryMySQLGateway || bean instanceof GenreMySQLGateway) {
+                    return ConcurrencyLimitProxy.of(bean, gatewayPermits, timeout, STREAMING_METHODS);
+                }
+                return bean;
+            }
+        };
+    }
+
+    // gateway.permits.available e gateway.permits.waiting em /actuator/metrics
+    @Bean
+    public MeterBinder gatewayPermitsMetrics(final Semaphore gatewayPermits) {
+        return registry -> {
+            Gauge.builder("gateway.permits.available", gatewayPermits, Semaphore::availablePermits).register(registry);
+            Gauge.builder("gateway.permits.waiting", gatewayPermits, Semaphore::getQueueLength).register(registry);
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.concurrency;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Com virtual threads não há mais o limite do pool de workers: milhares de requisições chegariam juntas
+// ao Hikari e estourariam o connection-timeout. As excedentes esperam aqui, estacionadas, por uma permissão.
+public final class ConcurrencyLimitProxy {
+
+    private ConcurrencyLimitProxy() {
+    }
+
+    public static <T> T of(final T aTarget, final Semaphore permits, final Duration timeout) {
+        return of(aTarget, permits, timeout, Set.of());
+    }
+
+    // Métodos em streaming ficam de fora: a permissão duraria o tempo do consumidor (um download lento),
+    // não o do banco. Cada chamada deles já ocupa uma conexão do Hikari, que continua sendo o limite
+    @SuppressWarnings("unchecked")
+    public static <T> T of(final T aTarget, final Semaphore permits, final Duration timeout, final Set<String> exempt) {
+        final var factory = new ProxyFactory(aTarget);
+        factory.setProxyTargetClass(true);
+        factory.addAdvice((MethodInterceptor) invocation -> {
+            if (invocation.getMethod().getDeclaringClass() == Object.class
+                    || exempt.contains(invocation.getMethod().getName())) {
+                return invocation.proceed();
+            }
+            if (!permits.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new GatewayBusyException(timeout);
+            }
+            try {
+                return invocation.proceed();
+            } finally {
+                permits.release();
+            }
+        });
+        return (T) factory.getProxy();
+    }
+}
@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.concurrency;
+
+import java.time.Duration;
+
+public class GatewayBusyException extends RuntimeException {
+
+    public GatewayBusyException(final Duration timeout) {
+        super("No database permit was released within %d ms".formatted(timeout.toMillis()), null, true, false);
+    }
+}
@@ -0,0 +1,83 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+
+// Sem replica.enabled=true nada daqui é criado e o Spring Boot monta o pool único de sempre
+@Configuration
+@ConditionalOnProperty(name = "replica.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties primaryDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(
+            @Qualifier("primaryDataSourceProperties") final DataSourceProperties properties
+    ) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("replica.datasource")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("replica.datasource.hikari")
+    public HikariDataSource replicaDataSource(
+            @Qualifier("replicaDataSourceProperties") final DataSourceProperties properties
+    ) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") final DataSource replica,
+            @Value("${replica.lag-query:SHOW REPLICA STATUS}") final String lagQuery,
+            @Value("${replica.max-lag:5s}") final Duration maxLag,
+            @Value("${replica.lag-check-interval:1s}") final Duration interval
+    ) {
+        return new ReplicaLagMonitor(replica, lagQuery, maxLag, interval);
+    }
+
+    // O proxy só pede a conexão no primeiro comando SQL, quando a rota da thread já está definida
+    // (o JpaTransactionManager pediria logo no início da transação)
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") final DataSource primary,
+            @Qualifier("replicaDataSource") final DataSource replica,
+            final ReplicaLagMonitor lagMonitor
+    ) {
+        return new LazyConnectionDataSourceProxy(new RoutingDataSource(primary, replica, lagMonitor));
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${replica.sticky-window:0s}") final Duration window
+    ) {
+        final var registration = new FilterRegistrationBean<>(new ReadYourWritesFilter(window, Clock.systemUTC()));
+        registration.setEnabled(!window.isZero());
+        return registration;
+    }
+}
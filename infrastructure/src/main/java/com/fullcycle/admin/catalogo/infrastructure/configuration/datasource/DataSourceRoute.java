@@ -0,0 +1,6 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.datasource;
+
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
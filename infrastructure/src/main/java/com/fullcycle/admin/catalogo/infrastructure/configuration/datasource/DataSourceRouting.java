@@ -0,0 +1,41 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.datasource;
+
+// Intenção da thread atual: o RoutingDataSource consulta na hora de abrir a conexão
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> REPLICA_REQUESTED = ThreadLocal.withInitial(() -> false);
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = ThreadLocal.withInitial(() -> false);
+
+    private DataSourceRouting() {
+    }
+
+    // Leitura que aceita dados levemente atrasados
+    public static Scope useReplica() {
+        return enter(REPLICA_REQUESTED);
+    }
+
+    // Vence o useReplica: usado para o cliente enxergar as próprias escritas
+    public static Scope usePrimary() {
+        return enter(PRIMARY_REQUIRED);
+    }
+
+    public static boolean replicaRequested() {
+        return REPLICA_REQUESTED.get();
+    }
+
+    public static boolean primaryRequired() {
+        return PRIMARY_REQUIRED.get();
+    }
+
+    private static Scope enter(final ThreadLocal<Boolean> aFlag) {
+        final var previous = aFlag.get();
+        aFlag.set(true);
+        return () -> aFlag.set(previous);
+    }
+
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.datasource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+
+// Os casos de uso não conhecem o Spring: a marcação de somente leitura fica na configuração dos beans
+public final class ReadOnlyProxy {
+
+    private ReadOnlyProxy() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T of(final T aTarget) {
+        final var factory = new ProxyFactory(aTarget);
+        factory.setProxyTargetClass(true);
+        factory.addAdvice((MethodInterceptor) invocation -> {
+            try (final var ignored = DataSourceRouting.useReplica()) {
+                return invocation.proceed();
+            }
+        });
+        return (T) factory.getProxy();
+    }
+}
@@ -0,0 +1,74 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.datasource;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+
+// Depois de uma escrita o cliente recebe um cookie e, até ele expirar, suas leituras vão para o primário.
+// O prazo fica no próprio cookie, então funciona com várias instâncias da aplicação sem estado compartilhado
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "read-primary-until";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Duration window;
+    private final Clock clock;
+
+    public ReadYourWritesFilter(final Duration window, final Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain chain
+    ) throws ServletException, IOException {
+        if (!SAFE_METHODS.contains(request.getMethod())) {
+            final var aCookie = new Cookie(COOKIE_NAME, String.valueOf(clock.millis() + window.toMillis()));
+            aCookie.setMaxAge(Math.toIntExact(Math.max(1, window.toSeconds())));
+            aCookie.setPath("/");
+            aCookie.setHttpOnly(true);
+            response.addCookie(aCookie);
+            chain.doFilter(request, response);
+            return;
+        }
+
+        if (wroteRecently(request)) {
+            try (final var ignored = DataSourceRouting.usePrimary()) {
+                chain.doFilter(request, response);
+            }
+            return;
+        }
+
+        chain.doFilter(request, response);
+    }
+
+    private boolean wroteRecently(final HttpServletRequest request) {
+        final var cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+
+        return Arrays.stream(cookies)
+                .filter(aCookie -> COOKIE_NAME.equals(aCookie.getName()))
+                .anyMatch(aCookie -> {
+                    try {
+                        return Long.parseLong(aCookie.getValue()) > clock.millis();
+                    } catch (final NumberFormatException ex) {
+                        return false;
+                    }
+                });
+    }
+}
@@ -0,0 +1,95 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Mede o atraso da réplica em segundo plano; acima do limite (ou sem resposta) as leituras voltam para o primário
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String SECONDS_BEHIND_COLUMN = "Seconds_Behind_Source";
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final Duration interval;
+
+    private volatile boolean healthy;
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(
+            final DataSource replica,
+            final String lagQuery,
+            final Duration maxLag,
+            final Duration interval
+    ) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+        this.interval = interval;
+    }
+
+    public void start() {
+        check();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            final var thread = new Thread(r, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::check, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+        }
+    }
+
+    public boolean isHealthy() {
+        return this.healthy;
+    }
+
+    void check() {
+        final var wasHealthy = this.healthy;
+        final var lag = lagInSeconds();
+        this.healthy = lag != null && lag <= this.maxLag.toSeconds();
+
+        if (wasHealthy != this.healthy) {
+            log.warn("Replica {} (lag: {}s, max: {}s)", this.healthy ? "back in rotation" : "out of rotation", lag, this.maxLag.toSeconds());
+        }
+    }
+
+    // SHOW REPLICA STATUS devolve Seconds_Behind_Source (NULL com a replicação parada);
+    // outras consultas devem devolver os segundos de atraso na primeira coluna
+    private Long lagInSeconds() {
+        try (final var conn = this.replica.getConnection();
+             final var st = conn.createStatement();
+             final var rs = st.executeQuery(this.lagQuery)) {
+            if (!rs.next()) {
+                return null;
+            }
+
+            final var metadata = rs.getMetaData();
+            var column = 1;
+            for (int i = 1; i <= metadata.getColumnCount(); i++) {
+                if (SECONDS_BEHIND_COLUMN.equalsIgnoreCase(metadata.getColumnLabel(i))) {
+                    column = i;
+                }
+            }
+
+            final var lag = rs.getLong(column);
+            return rs.wasNull() ? null : lag;
+        } catch (final SQLException ex) {
+            log.debug("Replica lag check failed", ex);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.json;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+import java.util.concurrent.Callable;
+
+public enum Csv {
+    INSTANCE;
+
+    // Cabeçalho do arquivo: os nomes das colunas viram o schema das linhas seguintes
+    public static CsvSchema readHeader(final String line) {
+        final String[] columns = invoke(() -> INSTANCE.mapper
+                .readerFor(String[].class)
+                .with(CsvParser.Feature.WRAP_AS_ARRAY)
+                .readValue(line));
+
+        final var builder = CsvSchema.builder();
+        for (final var column : columns) {
+            builder.addColumn(column.trim());
+        }
+        return builder.build();
+    }
+
+    public static <T> T readValue(final String line, final CsvSchema schema, final Class<T> clazz) {
+        return invoke(() -> INSTANCE.mapper.readerFor(clazz).with(schema).readValue(line));
+    }
+
+    private final CsvMapper mapper = CsvMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .build();
+
+    private static <T> T invoke(final Callable<T> callable) {
+        try {
+            return callable.call();
+        } catch (final Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
+import java.io.OutputStream;
 import java.util.concurrent.Callable;
 
 public enum Json {
@@ -23,6 +24,15 @@ public enum Json {
         return invoke(() -> INSTANCE.mapper.writeValueAsString(obj));
     }
 
+    // Uma linha de NDJSON: o objeto serializado seguido de quebra de linha
+    public static void writeLine(final OutputStream out, final Object obj) {
+        invoke(() -> {
+            out.write(INSTANCE.mapper.writeValueAsBytes(obj));
+            out.write('\n');
+            return null;
+        });
+    }
+
     public static <T> T readValue(final String json, final Class<T> clazz) {
         return invoke(() -> INSTANCE.mapper.readValue(json, clazz));
     }
@@ -1,16 +1,29 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
 
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.DefaultCreateCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.DefaultImportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.ImportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.DefaultDeleteCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DefaultDeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.export.DefaultExportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryVersionUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryVersionUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.DefaultListCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.DefaultUpdateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryQueryGateway;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.datasource.ReadOnlyProxy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -18,9 +31,17 @@ import org.springframework.context.annotation.Configuration;
 public class CategoryUseCaseConfig {
 
     private final CategoryGateway categoryGateway;
+    private final CategoryQueryGateway categoryQueryGateway;
+    private final int importBatchSize;
 
-    public CategoryUseCaseConfig(final CategoryGateway categoryGateway) {
+    public CategoryUseCaseConfig(
+            final CategoryGateway categoryGateway,
+            final CategoryQueryGateway categoryQueryGateway,
+            @Value("${import.batch-size:500}") final int importBatchSize
+    ) {
         this.categoryGateway = categoryGateway;
+        this.categoryQueryGateway = categoryQueryGateway;
+        this.importBatchSize = importBatchSize;
     }
 
     @Bean
@@ -28,6 +49,16 @@ public class CategoryUseCaseConfig {
         return new DefaultCreateCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    public CreateCategoriesUseCase createCategoriesUseCase() {
+        return new DefaultCreateCategoriesUseCase(categoryGateway);
+    }
+
+    @Bean
+    public ImportCategoriesUseCase importCategoriesUseCase() {
+        return new DefaultImportCategoriesUseCase(categoryGateway, importBatchSize);
+    }
+
     @Bean
     public UpdateCategoryUseCase updateCategoryUseCase() {
         return new DefaultUpdateCategoryUseCase(categoryGateway);
@@ -35,16 +66,31 @@ public class CategoryUseCaseConfig {
 
     @Bean
     public GetCategoryByIdUseCase getCategoryByIdUseCase() {
-        return new DefaultGetCategoryByIdUseCase(categoryGateway);
+        return ReadOnlyProxy.of(new DefaultGetCategoryByIdUseCase(categoryGateway));
+    }
+
+    @Bean
+    public GetCategoryVersionUseCase getCategoryVersionUseCase() {
+        return ReadOnlyProxy.of(new DefaultGetCategoryVersionUseCase(categoryGateway));
     }
 
     @Bean
     public ListCategoriesUseCase listCategoriesUseCase() {
-        return new DefaultListCategoriesUseCase(categoryGateway);
+        return ReadOnlyProxy.of(new DefaultListCategoriesUseCase(categoryQueryGateway));
+    }
+
+    @Bean
+    public ExportCategoriesUseCase exportCategoriesUseCase() {
+        return ReadOnlyProxy.of(new DefaultExportCategoriesUseCase(categoryQueryGateway));
     }
 
     @Bean
     public DeleteCategoryUseCase deleteCategoryUseCase() {
         return new DefaultDeleteCategoryUseCase(categoryGateway);
     }
+
+    @Bean
+    public DeleteCategoriesUseCase deleteCategoriesUseCase() {
+        return new DefaultDeleteCategoriesUseCase(categoryGateway);
+    }
 }
@@ -0,0 +1,100 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
+
+import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.create.DefaultCreateGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.create.DefaultImportGenresUseCase;
+import com.fullcycle.admin.catalogo.application.genre.create.ImportGenresUseCase;
+import com.fullcycle.admin.catalogo.application.genre.delete.DefaultDeleteGenresUseCase;
+import com.fullcycle.admin.catalogo.application.genre.delete.DefaultDeleteGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.delete.DeleteGenresUseCase;
+import com.fullcycle.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.export.DefaultExportGenresUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.export.ExportGenresUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.get.DefaultGetGenreByIdUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.get.DefaultGetGenreVersionUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.get.GetGenreVersionUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.DefaultListGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.DefaultListGenresByCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ListGenresByCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.genre.update.DefaultUpdateGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.update.UpdateGenreUseCase;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreQueryGateway;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.datasource.ReadOnlyProxy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class GenreUseCaseConfig {
+
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+    private final GenreQueryGateway genreQueryGateway;
+    private final int importBatchSize;
+
+    public GenreUseCaseConfig(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final GenreQueryGateway genreQueryGateway,
+            @Value("${import.batch-size:500}") final int importBatchSize
+    ) {
+        this.categoryGateway = categoryGateway;
+        this.genreGateway = genreGateway;
+        this.genreQueryGateway = genreQueryGateway;
+        this.importBatchSize = importBatchSize;
+    }
+
+    @Bean
+    public CreateGenreUseCase createGenreUseCase() {
+        return new DefaultCreateGenreUseCase(categoryGateway, genreGateway);
+    }
+
+    @Bean
+    public ImportGenresUseCase importGenresUseCase() {
+        return new DefaultImportGenresUseCase(categoryGateway, genreGateway, importBatchSize);
+    }
+
+    @Bean
+    public UpdateGenreUseCase updateGenreUseCase() {
+        return new DefaultUpdateGenreUseCase(categoryGateway, genreGateway);
+    }
+
+    @Bean
+    public GetGenreByIdUseCase getGenreByIdUseCase() {
+        return ReadOnlyProxy.of(new DefaultGetGenreByIdUseCase(genreGateway));
+    }
+
+    @Bean
+    public GetGenreVersionUseCase getGenreVersionUseCase() {
+        return ReadOnlyProxy.of(new DefaultGetGenreVersionUseCase(genreGateway));
+    }
+
+    @Bean
+    public ListGenreUseCase listGenreUseCase() {
+        return ReadOnlyProxy.of(new DefaultListGenreUseCase(genreQueryGateway));
+    }
+
+    @Bean
+    public ListGenresByCategoryUseCase listGenresByCategoryUseCase() {
+        return ReadOnlyProxy.of(new DefaultListGenresByCategoryUseCase(categoryGateway, genreGateway));
+    }
+
+    @Bean
+    public ExportGenresUseCase exportGenresUseCase() {
+        return ReadOnlyProxy.of(new DefaultExportGenresUseCase(genreQueryGateway));
+    }
+
+    @Bean
+    public DeleteGenreUseCase deleteGenreUseCase() {
+        return new DefaultDeleteGenreUseCase(genreGateway);
+    }
+
+    @Bean
+    public DeleteGenresUseCase deleteGenresUseCase() {
+        return new DefaultDeleteGenresUseCase(genreGateway);
+    }
+}
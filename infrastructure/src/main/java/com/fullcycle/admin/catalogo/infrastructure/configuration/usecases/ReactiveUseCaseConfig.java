@@ -0,0 +1,51 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.ReactiveCategoryGateway;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultReactiveGetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.ReactiveGetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.DefaultReactiveListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.ReactiveListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.ReactiveGenreGateway;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.get.DefaultReactiveGetGenreByIdUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.get.ReactiveGetGenreByIdUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.DefaultReactiveListGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ReactiveListGenreUseCase;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("reactive")
+public class ReactiveUseCaseConfig {
+
+    private final ReactiveCategoryGateway categoryGateway;
+    private final ReactiveGenreGateway genreGateway;
+
+    public ReactiveUseCaseConfig(
+            final ReactiveCategoryGateway categoryGateway,
+            final ReactiveGenreGateway genreGateway
+    ) {
+        this.categoryGateway = categoryGateway;
+        this.genreGateway = genreGateway;
+    }
+
+    @Bean
+    public ReactiveGetCategoryByIdUseCase reactiveGetCategoryByIdUseCase() {
+        return new DefaultReactiveGetCategoryByIdUseCase(categoryGateway);
+    }
+
+    @Bean
+    public ReactiveListCategoriesUseCase reactiveListCategoriesUseCase() {
+        return new DefaultReactiveListCategoriesUseCase(categoryGateway);
+    }
+
+    @Bean
+    public ReactiveGetGenreByIdUseCase reactiveGetGenreByIdUseCase() {
+        return new DefaultReactiveGetGenreByIdUseCase(genreGateway);
+    }
+
+    @Bean
+    public ReactiveListGenreUseCase reactiveListGenreUseCase() {
+        return new DefaultReactiveListGenreUseCase(genreGateway);
+    }
+}
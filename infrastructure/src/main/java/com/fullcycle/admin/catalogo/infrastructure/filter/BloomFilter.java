@@ -0,0 +1,92 @@
+package com.fullcycle.admin.catalogo.infrastructure.filter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Filtro de Bloom thread-safe: "não contém" é definitivo, "talvez contém" precisa ser confirmado
+public class BloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray bits;
+    private final long numBits;
+    private final int numHashFunctions;
+    private final long expectedInsertions;
+
+    public BloomFilter(final long expectedInsertions, final double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+
+        final var optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        final var words = Math.toIntExact((optimalBits + Long.SIZE - 1) / Long.SIZE);
+
+        this.bits = new AtomicLongArray(words);
+        this.numBits = (long) words * Long.SIZE;
+        this.numHashFunctions = Math.max(1, (int) Math.round((double) optimalBits / expectedInsertions * Math.log(2)));
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    public void put(final String aValue) {
+        final var hash1 = hash(aValue);
+        final var hash2 = mix(hash1 ^ FNV_PRIME);
+
+        for (int i = 0; i < numHashFunctions; i++) {
+            final var bit = Math.floorMod(hash1 + i * hash2, numBits);
+            setBit(bit);
+        }
+    }
+
+    public boolean mightContain(final String aValue) {
+        final var hash1 = hash(aValue);
+        final var hash2 = mix(hash1 ^ FNV_PRIME);
+
+        for (int i = 0; i < numHashFunctions; i++) {
+            final var bit = Math.floorMod(hash1 + i * hash2, numBits);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long expectedInsertions() {
+        return expectedInsertions;
+    }
+
+    private void setBit(final long bit) {
+        final var index = (int) (bit >>> 6);
+        final var mask = 1L << bit;
+
+        long current;
+        do {
+            current = bits.get(index);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(index, current, current | mask));
+    }
+
+    // FNV-1a de 64 bits seguido do finalizador do MurmurHash3 para espalhar os bits
+    private static long hash(final String aValue) {
+        var hash = FNV_OFFSET_BASIS;
+        for (final byte b : aValue.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -1,99 +1,621 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-import org.springframework.data.domain.PageRequest;
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.fullcycle.admin.catalogo.domain.AggregateVersion;
+import com.fullcycle.admin.catalogo.domain.BatchResult;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.genre.CategoryMatch;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreEvent;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.genre.GenrePreview;
+import com.fullcycle.admin.catalogo.domain.genre.GenreQueryGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreSearchIndex;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
+import com.fullcycle.admin.catalogo.domain.pagination.Cursor;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreCategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreCategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalogo.infrastructure.cache.CacheInvalidationLog;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.datasource.DataSourceRouting;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.Outbox;
+import com.fullcycle.admin.catalogo.infrastructure.utils.EstimateUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ScrollUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SliceUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SortPlanner;
 import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidUtils;
 
 @Service
-public class GenreMySQLGateway implements GenreGateway {
+public class GenreMySQLGateway implements GenreGateway, GenreQueryGateway {
+
+    private static final Logger log = LoggerFactory.getLogger(GenreMySQLGateway.class);
+
+    static final String DEFAULT_SORT = "name";
+
+    static final SortPlanner SORTS = SortPlanner.builder(DEFAULT_SORT)
+            .allow("name")
+            .allow("createdAt", "created_at")
+            .allow("updatedAt", "updated_at")
+            .allow("active", "is_active")
+            .allow("deletedAt", "deleted_at")
+            .build();
+    private static final String TABLE_NAME = "genres";
+
+    // Cada transação grava (ou remove) no máximo CHUNK_SIZE registros
+    private static final int CHUNK_SIZE = 500;
+
+    private static final List<String> COLUMNS =
+            List.of("id", "name", "active", "createdAt", "updatedAt", "deletedAt", "version");
 
     private final GenreRepository repository;
+    private final EntityManager entityManager;
+    private final GenreSearchIndex searchIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final int exportFetchSize;
+    private final Outbox outbox;
+    private final CacheInvalidationLog invalidations;
 
-    public GenreMySQLGateway(final GenreRepository repository) {
+    public GenreMySQLGateway(
+            final GenreRepository repository,
+            final EntityManager entityManager,
+            final GenreSearchIndex searchIndex,
+            final PlatformTransactionManager transactionManager,
+            @Value("${export.fetch-size:" + Integer.MIN_VALUE + "}") final int exportFetchSize,
+            final Outbox outbox,
+            final CacheInvalidationLog invalidations
+    ) {
         this.repository = repository;
+        this.entityManager = entityManager;
+        this.searchIndex = searchIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.exportFetchSize = exportFetchSize;
+        this.outbox = outbox;
+        this.invalidations = invalidations;
     }
 
     @Override
     public Genre create(final Genre aGenre) {
-        return save(aGenre);
+        // Agregado novo: persist gera o INSERT do gênero e, em cascata, os INSERTs em lote de
+        // genres_categories, sem o findById e sem o SELECT que o merge do repository.save faria antes
+        final var result = this.transactionTemplate.execute(status -> {
+            final var anEntity = GenreJpaEntity.from(aGenre);
+            this.entityManager.persist(anEntity);
+            this.outbox.append(Outbox.eventsOf(aGenre, () -> GenreEvent.created(aGenre.getId())));
+            this.invalidations.publish(CacheInvalidationLog.GENRES, List.of(aGenre.getId().getValue()));
+            return anEntity.toAggregate();
+        });
+
+        aGenre.clearEvents();
+        this.searchIndex.index(result);
+        return result;
+    }
+
+    @Override
+    public BatchResult<Genre> createAll(final List<Genre> someGenres) {
+        final var created = new ArrayList<Genre>(someGenres.size());
+        final var failures = new ArrayList<BatchResult.Failure<Genre>>();
+
+        for (int from = 0; from < someGenres.size(); from += CHUNK_SIZE) {
+            final var chunk = someGenres.subList(from, Math.min(from + CHUNK_SIZE, someGenres.size()));
+            try {
+                this.transactionTemplate.executeWithoutResult(status -> persistAll(chunk));
+                chunk.forEach(Genre::clearEvents);
+                created.addAll(chunk);
+            } catch (final RuntimeException ex) {
+                // Só o lote com falha é desfeito; os itens dele voltam como falha, com o motivo
+                log.warn("Could not persist a batch of {} genres; the batch was rolled back", chunk.size(), ex);
+                failures.add(new BatchResult.Failure<>(chunk, NestedExceptionUtils.getMostSpecificCause(ex)));
+            }
+        }
+
+        created.forEach(this.searchIndex::index);
+        return new BatchResult<>(created, failures);
     }
 
+    // DELETE direto pelo id: sem o existsById e sem carregar a entidade
     @Override
     public void deleteById(final GenreID anId) {
-        final String anIdValue = anId.getValue();
-        if (this.repository.existsById(anIdValue)) {
-            this.repository.deleteById(anIdValue);
+        if (!UuidUtils.isUuid(anId.getValue())) {
+            return;
+        }
+
+        final var deleted = this.transactionTemplate.execute(status -> {
+            if (this.repository.deleteOneById(anId.getValue()) == 0) {
+                return false;
+            }
+            this.outbox.append(List.of(GenreEvent.deleted(anId)));
+            this.invalidations.publish(CacheInvalidationLog.GENRES, List.of(anId.getValue()));
+            return true;
+        });
+
+        if (Boolean.TRUE.equals(deleted)) {
+            this.searchIndex.remove(anId);
         }
     }
 
+    @Override
+    public void deleteAllById(final List<GenreID> someIds) {
+        final var ids = someIds.stream().map(GenreID::getValue).filter(UuidUtils::isUuid).distinct().toList();
+
+        // Como nas categorias, o evento sai para todos os ids de um lote que removeu algo
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            final var chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            this.transactionTemplate.executeWithoutResult(status -> {
+                if (this.repository.deleteAllByIdIn(chunk) > 0) {
+                    this.outbox.append(chunk.stream().map(id -> GenreEvent.deleted(GenreID.from(id))).toList());
+                    this.invalidations.publish(CacheInvalidationLog.GENRES, chunk);
+                }
+            });
+        }
+
+        someIds.forEach(this.searchIndex::remove);
+    }
+
     @Override
     public Optional<Genre> findById(final GenreID anId) {
-        return this.repository.findById(anId.getValue())
+        // Ids fora do formato UUID não cabem na coluna BINARY(16)
+        if (!UuidUtils.isUuid(anId.getValue())) {
+            return Optional.empty();
+        }
+        return this.repository.findWithCategoriesById(anId.getValue())
                 .map(GenreJpaEntity::toAggregate);
     }
 
+    @Override
+    public Optional<Genre> findByIdForUpdate(final GenreID anId) {
+        try (final var ignored = DataSourceRouting.usePrimary()) {
+            return findById(anId);
+        }
+    }
+
+    @Override
+    public Optional<AggregateVersion> findVersionById(final GenreID anId) {
+        if (!UuidUtils.isUuid(anId.getValue())) {
+            return Optional.empty();
+        }
+        return this.repository.findVersionById(anId.getValue());
+    }
+
     @Override
     public Genre update(final Genre aGenre) {
-        return save(aGenre);
+        final var result = this.transactionTemplate.execute(status -> {
+            final var anId = aGenre.getId().getValue();
+
+            this.outbox.append(Outbox.eventsOf(aGenre, () -> GenreEvent.updated(aGenre.getId())));
+            this.invalidations.publish(CacheInvalidationLog.GENRES, List.of(anId));
+
+            // UPDATE direto, sem carregar o gênero: a junção é sincronizada à parte, só pela diferença
+            final var updated = this.repository.updateIfVersion(
+                    anId,
+                    aGenre.getVersion(),
+                    aGenre.getName(),
+                    aGenre.isActive(),
+                    aGenre.getUpdatedAt(),
+                    aGenre.getDeletedAt()
+            );
+            if (updated == 0) {
+                if (this.repository.existsById(anId)) {
+                    throw ConflictException.with(Genre.class, aGenre.getId(), aGenre.getVersion());
+                }
+                final var anEntity = GenreJpaEntity.from(aGenre);
+                this.entityManager.persist(anEntity);
+                return anEntity.toAggregate();
+            }
+
+            final var categories = aGenre.getCategories().stream()
+                    .map(CategoryID::getValue)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            syncCategories(anId, categories);
+
+            return Genre.with(
+                    aGenre.getId(),
+                    aGenre.getName(),
+                    aGenre.isActive(),
+                    aGenre.getCreatedAt(),
+                    aGenre.getUpdatedAt(),
+                    aGenre.getDeletedAt(),
+                    categories.stream().map(CategoryID::from).collect(Collectors.toCollection(ArrayList::new)),
+                    aGenre.getVersion() + 1
+            );
+        });
+
+        aGenre.clearEvents();
+        this.searchIndex.index(result);
+        return result;
     }
 
     @Override
     public Pagination<Genre> findAll(final SearchQuery aQuery) {
-        // Paginação
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort())
+        final var rows = search(aQuery, null);
+        final var categories = categoriesOf(rows.items());
+        return rows.map(row -> toAggregate(row, categories));
+    }
+
+    @Override
+    public Pagination<Genre> findAllByCategories(
+            final List<CategoryID> categoryIds,
+            final CategoryMatch match,
+            final SearchQuery aQuery
+    ) {
+        final var requested = categoryIds.stream().map(CategoryID::getValue).distinct().toList();
+        final var ids = requested.stream().filter(UuidUtils::isUuid).toList();
+
+        // Um id fora do formato UUID não está em nenhum gênero: no ALL isso já esvazia o resultado
+        if (ids.isEmpty() || (match == CategoryMatch.ALL && ids.size() != requested.size())) {
+            return new Pagination<>(aQuery.page(), aQuery.perPage(), 0, List.of());
+        }
+
+        final var rows = search(aQuery, withCategories(ids, match));
+        final var categories = categoriesOf(rows.items());
+        return rows.map(row -> toAggregate(row, categories));
+    }
+
+    @Override
+    public Pagination<GenrePreview> findAllPreviews(final SearchQuery aQuery, final boolean withCategories) {
+        final var rows = search(aQuery, null);
+        final var categories = withCategories ? categoriesOf(rows.items()) : Map.<String, List<CategoryID>>of();
+        return rows.map(row -> toPreview(row, categories));
+    }
+
+    // Um único cursor com LEFT JOIN em genres_categories, ordenado pelo id do gênero: as linhas de um mesmo
+    // gênero chegam juntas e ele é emitido quando o id muda. Uma segunda consulta por gênero não é possível,
+    // pois a conexão fica presa ao resultado em streaming até o fim
+    @Override
+    public void streamAllPreviews(final String terms, final Consumer<GenrePreview> aConsumer) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(Object[].class);
+        final var root = query.from(GenreJpaEntity.class);
+        final var categories = root.join("categories", JoinType.LEFT);
+
+        query.multiselect(
+                root.get("id"),
+                root.get("name"),
+                root.get("active"),
+                root.get("createdAt"),
+                root.get("updatedAt"),
+                root.get("deletedAt"),
+                categories.get("id").get("categoryId")
         );
+        if (terms != null && !terms.isBlank()) {
+            query.where(SpecificationUtils.<GenreJpaEntity>like("name", terms).toPredicate(root, query, cb));
+        }
+        query.orderBy(cb.asc(root.get("id")));
+
+        final var current = new ArrayList<Object[]>();
+        final var categoryIds = new ArrayList<CategoryID>();
+
+        this.readOnlyTransactionTemplate.executeWithoutResult(status -> ScrollUtils.forEach(
+                this.entityManager,
+                query,
+                this.exportFetchSize,
+                aRow -> {
+                    if (!current.isEmpty() && !current.get(0)[0].equals(aRow[0])) {
+                        aConsumer.accept(toPreview(current.get(0), categoryIds));
+                        current.clear();
+                        categoryIds.clear();
+                    }
+                    if (current.isEmpty()) {
+                        current.add(aRow);
+                    }
+                    if (aRow[6] != null) {
+                        categoryIds.add(CategoryID.from((String) aRow[6]));
+                    }
+                }
+        ));
+
+        if (!current.isEmpty()) {
+            aConsumer.accept(toPreview(current.get(0), categoryIds));
+        }
+    }
+
+    private Pagination<Tuple> search(final SearchQuery aQuery, final Specification<GenreJpaEntity> aFilter) {
+        final var terms = Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank());
+
+        // Busca pelo índice invertido; indisponível, com termo curto ou com resultados demais cai no LIKE.
+        // Assim o IN com os ids encontrados nunca passa de search.index.max-matches
+        final var matches = terms.flatMap(this.searchIndex::search);
+        if (matches.isPresent() && matches.get().isEmpty()) {
+            return new Pagination<>(aQuery.page(), aQuery.perPage(), 0, List.of());
+        }
+        // O ranking do índice não conhece o filtro: com filtro, os ids encontrados viram só mais um critério
+        if (matches.isPresent() && aQuery.isRelevance() && aFilter == null) {
+            return findAllByRelevance(aQuery, matches.get());
+        }
+
+        final var query = aQuery.withSort(aQuery.isRelevance() ? DEFAULT_SORT : SORTS.property(aQuery.sort()));
+
+        final var direction = SortPlanner.direction(query.direction());
+        final var sort = SORTS.sort(query.sort(), direction);
 
         // Busca dinamica pelo criterio terms (name)
-        final Specification<GenreJpaEntity> specifications = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isBlank())
-                .map(str -> SpecificationUtils.<GenreJpaEntity>like("name", str))
-                .orElse(null);
+        final Specification<GenreJpaEntity> specifications = Specification.where(matches
+                .map(GenreMySQLGateway::idIn)
+                .or(() -> terms.map(str -> SpecificationUtils.<GenreJpaEntity>like("name", str)))
+                .orElse(null))
+                .and(aFilter);
+
+        final var whereClause = query.isCursor()
+                ? Specification.where(specifications)
+                        .and(SpecificationUtils.after(SliceUtils.cursor(query), direction.isAscending()))
+                : Specification.where(specifications);
+        final var offset = query.isCursor() ? 0L : (long) query.page() * query.perPage();
+
+        // Busca perPage + 1 para saber se existe uma próxima página
+        final var rows = SliceUtils.slice(
+                this.entityManager,
+                GenreJpaEntity.class,
+                whereClause,
+                sort,
+                offset,
+                query.perPage() + 1,
+                COLUMNS
+        );
+
+        final var hasMore = rows.size() > query.perPage();
+        final var items = hasMore ? rows.subList(0, query.perPage()) : rows;
+
+        return new Pagination<>(
+                query.page(),
+                query.perPage(),
+                total(query, specifications, matches, aFilter != null),
+                items,
+                hasMore ? SliceUtils.next(items.get(items.size() - 1), query.sort()) : null,
+                hasMore
+        );
+    }
+
+    // Uma única consulta na tabela de junção para todos os gêneros da página
+    private Map<String, List<CategoryID>> categoriesOf(final List<Tuple> rows) {
+        if (rows.isEmpty()) {
+            return Map.of();
+        }
+
+        final var ids = rows.stream().map(row -> row.get("id", String.class)).toList();
+        return this.repository.findCategoryIdsByGenreIds(ids).stream()
+                .collect(Collectors.groupingBy(
+                        GenreCategoryID::getGenreId,
+                        Collectors.mapping(gc -> CategoryID.from(gc.getCategoryId()), Collectors.toList())
+                ));
+    }
+
+    private Long total(
+            final SearchQuery aQuery,
+            final Specification<GenreJpaEntity> specifications,
+            final Optional<List<GenreID>> matches,
+            final boolean filtered
+    ) {
+        // O índice é local e pode ainda guardar ids removidos em outro nó: só a estimativa se contenta com ele
+        if (matches.isPresent() && !filtered && aQuery.count() == CountMode.ESTIMATED) {
+            return (long) matches.get().size();
+        }
+
+        // As estatísticas da tabela não enxergam o filtro por categoria
+        final Long estimate = switch (aQuery.count()) {
+            case NONE -> null;
+            case ESTIMATED -> filtered ? null : estimate(aQuery);
+            case EXACT -> this.repository.count(Specification.where(specifications));
+        };
+
+        // Sem estatísticas disponíveis (ex.: H2) a estimativa cai para a contagem exata
+        return estimate == null && aQuery.count() == CountMode.ESTIMATED
+                ? this.repository.count(Specification.where(specifications))
+                : estimate;
+    }
+
+    private Long estimate(final SearchQuery aQuery) {
+        final var terms = aQuery.terms();
+        if (terms == null || terms.isBlank()) {
+            return EstimateUtils.tableRows(this.entityManager, TABLE_NAME);
+        }
+
+        return EstimateUtils.explainRows(
+                this.entityManager,
+                "SELECT id FROM genres WHERE UPPER(name) LIKE ?1",
+                List.of("%" + terms.toUpperCase() + "%")
+        );
+    }
+
+    // Os ids já vêm ranqueados pelo índice: só a página pedida é carregada do banco
+    private Pagination<Tuple> findAllByRelevance(final SearchQuery aQuery, final List<GenreID> ranked) {
+        final int from;
+        if (aQuery.isCursor()) {
+            final var lastId = GenreID.from(SliceUtils.cursor(aQuery).id());
+            final var position = ranked.indexOf(lastId);
+            if (position < 0) {
+                throw DomainException.with(new Error("'after' cursor is no longer part of the search results"));
+            }
+            from = position + 1;
+        } else {
+            from = Math.min(aQuery.page() * aQuery.perPage(), ranked.size());
+        }
+
+        final var to = Math.min(from + aQuery.perPage(), ranked.size());
+        final var pageIds = ranked.subList(from, to);
+
+        final var rows = pageIds.isEmpty()
+                ? List.<Tuple>of()
+                : SliceUtils.slice(
+                        this.entityManager,
+                        GenreJpaEntity.class,
+                        idIn(pageIds),
+                        Sort.unsorted(),
+                        0,
+                        pageIds.size(),
+                        COLUMNS
+                );
+
+        final var rowsById = rows.stream()
+                .collect(Collectors.toMap(row -> row.get("id", String.class), Function.identity()));
+
+        final var items = pageIds.stream()
+                .map(id -> rowsById.get(id.getValue()))
+                .filter(Objects::nonNull)
+                .toList();
 
-        final var pageResult =
-                this.repository.findAll(Specification.where(specifications), page);
+        final var next = to < ranked.size() && !pageIds.isEmpty()
+                ? Cursor.of(aQuery.sort(), null, pageIds.get(pageIds.size() - 1).getValue()).encode()
+                : null;
 
         return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(GenreJpaEntity::toAggregate).toList()
+                aQuery.page(),
+                aQuery.perPage(),
+                total(aQuery, idIn(ranked), Optional.of(ranked), false),
+                items,
+                next,
+                next != null
+        );
+    }
+
+    private static Genre toAggregate(final Tuple aRow, final Map<String, List<CategoryID>> categories) {
+        final var anId = aRow.get("id", String.class);
+        return Genre.with(
+                GenreID.from(anId),
+                aRow.get("name", String.class),
+                aRow.get("active", Boolean.class),
+                aRow.get("createdAt", Instant.class),
+                aRow.get("updatedAt", Instant.class),
+                aRow.get("deletedAt", Instant.class),
+                new ArrayList<>(categories.getOrDefault(anId, List.of())),
+                aRow.get("version", Long.class)
+        );
+    }
+
+    // Compara com o que está gravado e aplica só a diferença: um INSERT IGNORE em lote para as novas
+    // e um DELETE ... IN para as removidas. Sem mudanças nas categorias, nenhuma linha da junção é tocada
+    private void syncCategories(final String aGenreId, final Set<String> categories) {
+        final var persisted = this.repository.findCategoryIdsByGenreIds(List.of(aGenreId)).stream()
+                .map(GenreCategoryID::getCategoryId)
+                .collect(Collectors.toSet());
+
+        final var added = categories.stream().filter(id -> !persisted.contains(id)).toList();
+        final var removed = persisted.stream().filter(id -> !categories.contains(id)).toList();
+
+        if (added.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+
+        for (int from = 0; from < added.size(); from += CHUNK_SIZE) {
+            insertCategories(aGenreId, added.subList(from, Math.min(from + CHUNK_SIZE, added.size())));
+        }
+        for (int from = 0; from < removed.size(); from += CHUNK_SIZE) {
+            this.repository.deleteCategories(aGenreId, removed.subList(from, Math.min(from + CHUNK_SIZE, removed.size())));
+        }
+
+        // A coleção em memória (se já carregada) ficou para trás dos comandos diretos no banco
+        this.entityManager.flush();
+        this.entityManager.clear();
+    }
+
+    private void insertCategories(final String aGenreId, final List<String> categoryIds) {
+        final var sql = "INSERT IGNORE INTO genres_categories (genre_id, category_id) VALUES "
+                + String.join(", ", Collections.nCopies(categoryIds.size(), "(?, ?)"));
+
+        final var query = this.entityManager.createNativeQuery(sql);
+        final var genreId = UuidUtils.toBytes(aGenreId);
+        var position = 1;
+        for (final var categoryId : categoryIds) {
+            query.setParameter(position++, genreId);
+            query.setParameter(position++, UuidUtils.toBytes(categoryId));
+        }
+        query.executeUpdate();
+    }
+
+    private void persistAll(final List<Genre> someGenres) {
+        someGenres.forEach(aGenre -> this.entityManager.persist(GenreJpaEntity.from(aGenre)));
+        this.outbox.append(someGenres.stream()
+                .flatMap(aGenre -> Outbox.eventsOf(aGenre, () -> GenreEvent.created(aGenre.getId())).stream())
+                .toList());
+        this.invalidations.publish(
+                CacheInvalidationLog.GENRES,
+                someGenres.stream().map(aGenre -> aGenre.getId().getValue()).toList()
         );
+        this.entityManager.flush();
+        this.entityManager.clear();
+    }
+
+    private static GenrePreview toPreview(final Tuple aRow, final Map<String, List<CategoryID>> categories) {
+        final var anId = aRow.get("id", String.class);
+        return new GenrePreview(
+                GenreID.from(anId),
+                aRow.get("name", String.class),
+                aRow.get("active", Boolean.class),
+                categories.getOrDefault(anId, List.of()),
+                aRow.get("createdAt", Instant.class),
+                aRow.get("updatedAt", Instant.class),
+                aRow.get("deletedAt", Instant.class)
+        );
+    }
+
+    private static GenrePreview toPreview(final Object[] aRow, final List<CategoryID> categories) {
+        return new GenrePreview(
+                GenreID.from((String) aRow[0]),
+                (String) aRow[1],
+                (Boolean) aRow[2],
+                List.copyOf(categories),
+                (Instant) aRow[3],
+                (Instant) aRow[4],
+                (Instant) aRow[5]
+        );
+    }
+
+    // IN sobre genres_categories, resolvido pelo índice de category_id; no ALL o GROUP BY/HAVING
+    // mantém só os gêneros que têm todas as categorias pedidas
+    private static Specification<GenreJpaEntity> withCategories(final List<String> categoryIds, final CategoryMatch match) {
+        return (root, query, cb) -> {
+            final var subquery = query.subquery(String.class);
+            final var genreCategory = subquery.from(GenreCategoryJpaEntity.class);
+            final Path<String> genreId = genreCategory.get("id").get("genreId");
+
+            subquery.select(genreId)
+                    .where(genreCategory.get("id").get("categoryId").in(categoryIds));
+            if (match == CategoryMatch.ALL) {
+                subquery.groupBy(genreId)
+                        .having(cb.equal(cb.count(genreCategory), (long) categoryIds.size()));
+            }
+            return root.get("id").in(subquery);
+        };
     }
 
-    private Genre save(final Genre aGenre) {
-        final var entity = this.repository.findById(aGenre.getId().getValue())
-                .map(existingEntity -> {
-                    existingEntity.setName(aGenre.getName());
-                    existingEntity.setActive(aGenre.isActive());
-                    existingEntity.setCreatedAt(aGenre.getCreatedAt());
-                    existingEntity.setUpdatedAt(aGenre.getUpdatedAt());
-                    existingEntity.setDeletedAt(aGenre.getDeletedAt());
-                    
-                    // Limpar a coleção existente em vez de criar uma nova
-                    // para manter a referência gerenciada pelo Hibernate
-                    final var categories = existingEntity.getCategories();
-                    categories.clear();
-                    aGenre.getCategories().forEach(existingEntity::addCategory);
-                    return existingEntity;
-                })
-                .orElseGet(() -> GenreJpaEntity.from(aGenre));
-        
-        return this.repository.save(entity).toAggregate();
+    private static Specification<GenreJpaEntity> idIn(final List<GenreID> ids) {
+        return SpecificationUtils.in("id", ids.stream().map(GenreID::getValue).toList());
     }
 }
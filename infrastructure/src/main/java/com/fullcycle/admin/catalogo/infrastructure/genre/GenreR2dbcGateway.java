@@ -0,0 +1,201 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre;
+
+import com.fullcycle.admin.catalogo.application.genre.retrieve.ReactiveGenreGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.genre.GenrePreview;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.utils.R2dbcUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SortPlanner;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidUtils;
+import io.r2dbc.spi.Row;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.fullcycle.admin.catalogo.infrastructure.genre.GenreMySQLGateway.DEFAULT_SORT;
+import static com.fullcycle.admin.catalogo.infrastructure.genre.GenreMySQLGateway.SORTS;
+
+@Service
+@Profile("reactive")
+public class GenreR2dbcGateway implements ReactiveGenreGateway {
+
+    private static final String SELECT_BY_ID = """
+            SELECT id, name, active, created_at, updated_at, deleted_at, version
+            FROM genres
+            WHERE id = :id""";
+
+    private static final String SELECT_PREVIEWS = """
+            SELECT id, name, active, created_at, updated_at, deleted_at, version
+            FROM genres %s
+            ORDER BY %s %s, id %s
+            LIMIT %d OFFSET %d""";
+
+    private static final String COUNT = "SELECT COUNT(*) AS total FROM genres %s";
+
+    private static final String WHERE_TERMS = "WHERE UPPER(name) LIKE :name";
+
+    private static final String SELECT_CATEGORIES =
+            "SELECT genre_id, category_id FROM genres_categories WHERE genre_id IN (:ids)";
+
+    private final DatabaseClient client;
+
+    public GenreR2dbcGateway(final DatabaseClient client) {
+        this.client = Objects.requireNonNull(client);
+    }
+
+    @Override
+    public Mono<Genre> findById(final GenreID anId) {
+        if (!UuidUtils.isUuid(anId.getValue())) {
+            return Mono.empty();
+        }
+
+        final var id = UuidUtils.toBytes(anId.getValue());
+        final var categories = this.client.sql(SELECT_CATEGORIES)
+                .bind("ids", List.of(id))
+                .map(row -> CategoryID.from(R2dbcUtils.id(row, "category_id")))
+                .all()
+                .collectList();
+
+        // As categorias só são buscadas se o gênero existir
+        return this.client.sql(SELECT_BY_ID)
+                .bind("id", id)
+                .map(GenreR2dbcGateway::toRow)
+                .one()
+                .flatMap(row -> categories.map(row::toAggregate));
+    }
+
+    @Override
+    public Mono<Pagination<GenrePreview>> findAllPreviews(final SearchQuery aQuery, final boolean withCategories) {
+        return Mono.defer(() -> {
+            if (aQuery.isCursor()) {
+                return Mono.error(DomainException.with(
+                        new Error("'after' is not supported by the reactive API, use 'page'")));
+            }
+
+            final var sort = R2dbcUtils.column(aQuery.isRelevance() ? DEFAULT_SORT : SORTS.property(aQuery.sort()));
+            final var direction = SortPlanner.direction(aQuery.direction()).name();
+            final var terms = Optional.ofNullable(aQuery.terms()).filter(str -> !str.isBlank());
+            final var where = terms.isPresent() ? WHERE_TERMS : "";
+
+            // Busca perPage + 1 para saber se existe uma próxima página
+            final var sql = SELECT_PREVIEWS.formatted(
+                    where, sort, direction, direction, aQuery.perPage() + 1, (long) aQuery.page() * aQuery.perPage());
+
+            final var rows = bindTerms(this.client.sql(sql), terms)
+                    .map(GenreR2dbcGateway::toRow)
+                    .all()
+                    .collectList();
+
+            return Mono.zip(rows, total(aQuery, where, terms)).flatMap(result -> {
+                final var hasMore = result.getT1().size() > aQuery.perPage();
+                final var items = hasMore ? result.getT1().subList(0, aQuery.perPage()) : result.getT1();
+
+                return categoriesOf(items, withCategories).map(categories -> new Pagination<>(
+                        aQuery.page(),
+                        aQuery.perPage(),
+                        result.getT2().orElse(null),
+                        items.stream().map(row -> row.toPreview(categories)).toList(),
+                        null,
+                        hasMore
+                ));
+            });
+        });
+    }
+
+    // Uma única consulta na tabela de junção para todos os gêneros da página
+    private Mono<Map<String, List<CategoryID>>> categoriesOf(final List<GenreRow> rows, final boolean withCategories) {
+        if (!withCategories || rows.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        final var ids = rows.stream().map(row -> UuidUtils.toBytes(row.id())).toList();
+        return this.client.sql(SELECT_CATEGORIES)
+                .bind("ids", ids)
+                .map(row -> Map.entry(R2dbcUtils.id(row, "genre_id"), CategoryID.from(R2dbcUtils.id(row, "category_id"))))
+                .all()
+                .collect(Collectors.groupingBy(
+                        Map.Entry::getKey,
+                        Collectors.mapping(Map.Entry::getValue, Collectors.toList())
+                ));
+    }
+
+    private Mono<Optional<Long>> total(final SearchQuery aQuery, final String where, final Optional<String> terms) {
+        if (aQuery.count() == CountMode.NONE) {
+            return Mono.just(Optional.empty());
+        }
+
+        return bindTerms(this.client.sql(COUNT.formatted(where)), terms)
+                .map(row -> Optional.ofNullable(row.get("total", Long.class)))
+                .one();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindTerms(
+            final DatabaseClient.GenericExecuteSpec aSpec,
+            final Optional<String> terms
+    ) {
+        return terms.map(str -> aSpec.bind("name", R2dbcUtils.like(str))).orElse(aSpec);
+    }
+
+    private static GenreRow toRow(final Row aRow) {
+        return new GenreRow(
+                R2dbcUtils.id(aRow, "id"),
+                aRow.get("name", String.class),
+                Boolean.TRUE.equals(aRow.get("active", Boolean.class)),
+                R2dbcUtils.instant(aRow, "created_at"),
+                R2dbcUtils.instant(aRow, "updated_at"),
+                R2dbcUtils.instant(aRow, "deleted_at"),
+                Objects.requireNonNullElse(aRow.get("version", Long.class), 0L)
+        );
+    }
+
+    private record GenreRow(
+            String id,
+            String name,
+            boolean active,
+            Instant createdAt,
+            Instant updatedAt,
+            Instant deletedAt,
+            long version
+    ) {
+
+        Genre toAggregate(final List<CategoryID> categories) {
+            return Genre.with(
+                    GenreID.from(this.id),
+                    this.name,
+                    this.active,
+                    this.createdAt,
+                    this.updatedAt,
+                    this.deletedAt,
+                    new ArrayList<>(categories),
+                    this.version
+            );
+        }
+
+        GenrePreview toPreview(final Map<String, List<CategoryID>> categories) {
+            return new GenrePreview(
+                    GenreID.from(this.id),
+                    this.name,
+                    this.active,
+                    categories.getOrDefault(this.id, List.of()),
+                    this.createdAt,
+                    this.updatedAt,
+                    this.deletedAt
+            );
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.fullcycle.admin.catalogo.domain.AggregateVersion;
+import com.fullcycle.admin.catalogo.domain.BatchResult;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.CategoryMatch;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.genre.GenrePreview;
+import com.fullcycle.admin.catalogo.domain.genre.GenreQueryGateway;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.cache.CacheInvalidationListener;
+import com.fullcycle.admin.catalogo.infrastructure.cache.CacheInvalidationLog;
+import com.fullcycle.admin.catalogo.infrastructure.cache.ReplicaCachePolicy;
+import com.fullcycle.admin.catalogo.infrastructure.cache.WriteGenerations;
+import com.fullcycle.admin.catalogo.infrastructure.genre.GenreMySQLGateway;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Primary
+@Component
+public class CachedGenreGateway implements GenreGateway, GenreQueryGateway, CacheInvalidationListener {
+
+    private static final String CACHE_NAME = CacheInvalidationLog.GENRES;
+
+    private static final int PAGE_BYTES = 128;
+    private static final int PREVIEW_BYTES = 256;
+    private static final int CATEGORY_ID_BYTES = 96;
+
+    private final GenreMySQLGateway delegate;
+    private final Cache<GenreID, Genre> cache;
+    private final Cache<PageKey, Pagination<GenrePreview>> pages;
+    private final WriteGenerations generations;
+    private final ReplicaCachePolicy replicaCache;
+
+    public CachedGenreGateway(
+            final GenreMySQLGateway delegate,
+            @Value("${cache.genres.max-size:10000}") final long maxSize,
+            @Value("${cache.genres.ttl:5m}") final Duration ttl,
+            @Value("${cache.genres.pages.max-bytes:16MB}") final DataSize pagesMaxBytes,
+            @Value("${cache.genres.pages.ttl:1m}") final Duration pagesTtl,
+            final WriteGenerations generations,
+            final ReplicaCachePolicy replicaCache,
+            final ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.generations = generations;
+        this.replicaCache = replicaCache;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(replicaCache.expireAfterWrite(ttl))
+                .recordStats()
+                .build();
+        this.pages = Caffeine.newBuilder()
+                .maximumWeight(pagesMaxBytes.toBytes())
+                .weigher(CachedGenreGateway::weigh)
+                .expireAfter(replicaCache.expireAfterWrite(pagesTtl))
+                .recordStats()
+                .build();
+
+        // hits, misses e evictions ficam em /actuator/metrics/cache.* com a tag cache=genres
+        meterRegistry.ifAvailable(registry -> {
+            CaffeineCacheMetrics.monitor(registry, this.cache, CACHE_NAME);
+            CaffeineCacheMetrics.monitor(registry, this.pages, CACHE_NAME + "-pages");
+        });
+    }
+
+    @Override
+    public Genre create(final Genre genre) {
+        final var result = this.delegate.create(genre);
+        nextGeneration();
+        this.cache.invalidate(result.getId());
+        return result;
+    }
+
+    @Override
+    public BatchResult<Genre> createAll(final List<Genre> genres) {
+        final var result = this.delegate.createAll(genres);
+        nextGeneration();
+        result.created().forEach(aGenre -> this.cache.invalidate(aGenre.getId()));
+        return result;
+    }
+
+    @Override
+    public void deleteById(final GenreID id) {
+        this.delegate.deleteById(id);
+        nextGeneration();
+        this.cache.invalidate(id);
+    }
+
+    @Override
+    public void deleteAllById(final List<GenreID> ids) {
+        this.delegate.deleteAllById(ids);
+        nextGeneration();
+        this.cache.invalidateAll(ids);
+    }
+
+    // O agregado é mutável: o cache guarda e entrega sempre cópias.
+    // Uma escrita entre a leitura no banco e o put avança a geração; nesse caso a cópia lida pode ser
+    // anterior à escrita e é descartada, em vez de ficar no cache até o TTL
+    @Override
+    public Optional<Genre> findById(final GenreID id) {
+        if (this.replicaCache.bypass()) {
+            return this.delegate.findById(id);
+        }
+
+        final var cached = this.cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(copy(cached));
+        }
+
+        final var generation = this.generations.current(CACHE_NAME);
+        final var result = this.delegate.findById(id);
+        result.ifPresent(aGenre -> {
+            this.cache.put(id, copy(aGenre));
+            if (this.generations.current(CACHE_NAME) != generation) {
+                this.cache.invalidate(id);
+            }
+        });
+        return result;
+    }
+
+    // A escrita confere a versão contra o banco: a entrada em cache pode estar atrás de outro nó
+    @Override
+    public Optional<Genre> findByIdForUpdate(final GenreID id) {
+        return this.delegate.findByIdForUpdate(id);
+    }
+
+    @Override
+    public Optional<AggregateVersion> findVersionById(final GenreID id) {
+        final var cached = this.replicaCache.bypass() ? null : this.cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(new AggregateVersion(cached.getVersion(), cached.getUpdatedAt()));
+        }
+        return this.delegate.findVersionById(id);
+    }
+
+    @Override
+    public Genre update(final Genre genre) {
+        final var result = this.delegate.update(genre);
+        nextGeneration();
+        this.cache.invalidate(result.getId());
+        return result;
+    }
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    // Inclui os gêneros tocados pela remoção de uma categoria, escrita que não passa por este gateway
+    @Override
+    public void invalidate(final List<String> keys) {
+        nextGeneration();
+        this.cache.invalidateAll(keys.stream().map(GenreID::from).toList());
+    }
+
+    @Override
+    public Pagination<Genre> findAll(final SearchQuery query) {
+        return this.delegate.findAll(query);
+    }
+
+    @Override
+    public Pagination<Genre> findAllByCategories(
+            final List<CategoryID> categoryIds,
+            final CategoryMatch match,
+            final SearchQuery query
+    ) {
+        return this.delegate.findAllByCategories(categoryIds, match, query);
+    }
+
+    @Override
+    public Pagination<GenrePreview> findAllPreviews(final SearchQuery query, final boolean withCategories) {
+        if (this.replicaCache.bypass()) {
+            return this.delegate.findAllPreviews(query, withCategories);
+        }
+
+        final var aKey = new PageKey(this.generations.current(CACHE_NAME), query, withCategories);
+        return this.pages.get(aKey, key -> {
+            final var page = this.delegate.findAllPreviews(key.query(), key.withCategories());
+            return new Pagination<>(
+                    page.currentPage(), page.perPage(), page.total(), List.copyOf(page.items()), page.next(), page.hasMore());
+        });
+    }
+
+    @Override
+    public void streamAllPreviews(final String terms, final Consumer<GenrePreview> aConsumer) {
+        this.delegate.streamAllPreviews(terms, aConsumer);
+    }
+
+    private void nextGeneration() {
+        this.generations.bump(CACHE_NAME);
+        this.pages.invalidateAll();
+    }
+
+    private static int weigh(final PageKey aKey, final Pagination<GenrePreview> aPage) {
+        return PAGE_BYTES + aPage.items().stream()
+                .mapToInt(aPreview -> PREVIEW_BYTES
+                        + 2 * (aPreview.name() != null ? aPreview.name().length() : 0)
+                        + CATEGORY_ID_BYTES * (aPreview.categories() != null ? aPreview.categories().size() : 0))
+                .sum();
+    }
+
+    // Genre.with(Genre) reaproveita a mesma lista de categorias, por isso a cópia explícita
+    private static Genre copy(final Genre aGenre) {
+        return Genre.with(
+                aGenre.getId(),
+                aGenre.getName(),
+                aGenre.isActive(),
+                aGenre.getCreatedAt(),
+                aGenre.getUpdatedAt(),
+                aGenre.getDeletedAt(),
+                new ArrayList<>(aGenre.getCategories()),
+                aGenre.getVersion()
+        );
+    }
+
+    private record PageKey(long generation, SearchQuery query, boolean withCategories) {
+    }
+}
@@ -14,16 +14,20 @@ import javax.persistence.Id;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.Type;
+
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.UuidBinaryType;
 
 @Entity
 @Table(name = "genres")
 public class GenreJpaEntity {
 
     @Id
-    @Column(name = "id", nullable = false)
+    @Type(type = UuidBinaryType.NAME)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -41,7 +45,10 @@ public class GenreJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
-    @OneToMany(mappedBy = "genre", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @OneToMany(mappedBy = "genre", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<GenreCategoryJpaEntity> categories;
 
     public GenreJpaEntity() {
@@ -79,6 +86,7 @@ public class GenreJpaEntity {
                 genre.getUpdatedAt(),
                 genre.getDeletedAt()
         );
+        entity.version = genre.getVersion();
         entity.categories = new HashSet<>();
         genre.getCategories().forEach(entity::addCategory);
 
@@ -107,7 +115,8 @@ public class GenreJpaEntity {
                 Objects.nonNull(getCategories()) ? new ArrayList<>(getCategories().stream().
                         map(gc -> CategoryID.from(gc.getId().getCategoryId()))
                         .toList())
-                        : new ArrayList<>()
+                        : new ArrayList<>(),
+                getVersion()
         );
     }
 
@@ -159,6 +168,14 @@ public class GenreJpaEntity {
         this.deletedAt = deletedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public Set<GenreCategoryJpaEntity> getCategories() {
         return Objects.isNull(categories) ? new HashSet<>() : categories;
     }
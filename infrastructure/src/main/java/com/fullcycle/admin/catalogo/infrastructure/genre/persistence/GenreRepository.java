@@ -1,11 +1,76 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
 
+import com.fullcycle.admin.catalogo.domain.AggregateVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
 
     Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> whereClause, Pageable page);
+
+    long count(Specification<GenreJpaEntity> whereClause);
+
+    // genres_categories sai junto pelo ON DELETE CASCADE da fk_genre_id
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = " delete from GenreJpaEntity g where g.id = :id")
+    int deleteOneById(@Param("id") String id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = " delete from GenreJpaEntity g where g.id in :ids")
+    int deleteAllByIdIn(@Param("ids") List<String> ids);
+
+    // As categorias são LAZY: o detalhe traz o gênero e a coleção num único SELECT com join
+    @Query(value = " select distinct g from GenreJpaEntity g left join fetch g.categories where g.id = :id")
+    Optional<GenreJpaEntity> findWithCategoriesById(@Param("id") String id);
+
+    // Versão do gênero para o GET condicional: só as colunas, sem a junção com as categorias
+    @Query(value = " select new com.fullcycle.admin.catalogo.domain.AggregateVersion(g.version, g.updatedAt)"
+            + " from GenreJpaEntity g where g.id = :id")
+    Optional<AggregateVersion> findVersionById(@Param("id") String id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = " update GenreJpaEntity g set g.name = :name, g.active = :active, g.updatedAt = :updatedAt,"
+            + " g.deletedAt = :deletedAt, g.version = g.version + 1 where g.id = :id and g.version = :version")
+    int updateIfVersion(
+            @Param("id") String id,
+            @Param("version") long version,
+            @Param("name") String name,
+            @Param("active") boolean active,
+            @Param("updatedAt") Instant updatedAt,
+            @Param("deletedAt") Instant deletedAt
+    );
+
+    @Query(value = " select distinct gc.id.genreId from GenreCategoryJpaEntity gc where gc.id.categoryId in :categoryIds")
+    List<String> findGenreIdsByCategoryIds(@Param("categoryIds") Collection<String> categoryIds);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = " update GenreJpaEntity g set g.updatedAt = :updatedAt, g.version = g.version + 1 where g.id in :ids")
+    int touchAll(@Param("ids") Collection<String> ids, @Param("updatedAt") Instant updatedAt);
+
+    // Só as linhas removidas da junção, num único DELETE
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query(value = " delete from GenreCategoryJpaEntity gc where gc.id.genreId = :genreId and gc.id.categoryId in :categoryIds")
+    int deleteCategories(@Param("genreId") String genreId, @Param("categoryIds") Collection<String> categoryIds);
+
+    @Query(value = " select gc.id from GenreCategoryJpaEntity gc where gc.id.genreId in :ids")
+    List<GenreCategoryID> findCategoryIdsByGenreIds(@Param("ids") List<String> ids);
+
+    @Query(value = " select g from GenreJpaEntity g where g.id > :after order by g.id")
+    List<GenreJpaEntity> findAllAfter(@Param("after") String after, Pageable page);
 }
@@ -0,0 +1,31 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// Uma linha de NDJSON por evento, acrescentada ao arquivo a cada lote
+public class FileOutboxPublisher implements OutboxPublisher {
+
+    private final Path file;
+
+    public FileOutboxPublisher(final Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public synchronized void publish(final List<OutboxMessage> messages) {
+        try (final var out = new BufferedOutputStream(Files.newOutputStream(
+                this.file, StandardOpenOption.CREATE, StandardOpenOption.APPEND))) {
+            messages.forEach(message -> Json.writeLine(out, message));
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import java.util.ArrayDeque;
+import java.util.List;
+
+// Para testes locais: guarda só os últimos 'capacity' eventos, descartando os mais antigos
+public class InMemoryOutboxPublisher implements OutboxPublisher {
+
+    private final int capacity;
+    private final ArrayDeque<OutboxMessage> messages = new ArrayDeque<>();
+
+    public InMemoryOutboxPublisher(final int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void publish(final List<OutboxMessage> someMessages) {
+        for (final var message : someMessages) {
+            if (this.messages.size() == this.capacity) {
+                this.messages.removeFirst();
+            }
+            this.messages.addLast(message);
+        }
+    }
+
+    public synchronized List<OutboxMessage> messages() {
+        return List.copyOf(this.messages);
+    }
+
+    public synchronized void clear() {
+        this.messages.clear();
+    }
+}
@@ -0,0 +1,67 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fullcycle.admin.catalogo.domain.AggregateRoot;
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+@Component
+public class Outbox {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final EntityManager entityManager;
+    private final boolean enabled;
+
+    // Sem relay ninguém drena a tabela: por padrão só grava quando ele está ligado
+    public Outbox(
+            final EntityManager entityManager,
+            @Value("${outbox.enabled:${outbox.relay.enabled:false}}") final boolean enabled
+    ) {
+        this.entityManager = entityManager;
+        this.enabled = enabled;
+    }
+
+    // Os eventos só existem se o agregado for gravado: fora da transação dele é erro
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(final List<? extends DomainEvent> events) {
+        if (!this.enabled) {
+            return;
+        }
+        for (int from = 0; from < events.size(); from += CHUNK_SIZE) {
+            insert(events.subList(from, Math.min(from + CHUNK_SIZE, events.size())));
+        }
+    }
+
+    // Agregado remontado (ex.: Category.with) não registra eventos; a gravação ainda gera o da operação
+    public static List<DomainEvent> eventsOf(
+            final AggregateRoot<?> anAggregate,
+            final Supplier<? extends DomainEvent> aDefault
+    ) {
+        return anAggregate.getEvents().isEmpty() ? List.of(aDefault.get()) : List.copyOf(anAggregate.getEvents());
+    }
+
+    private void insert(final List<? extends DomainEvent> events) {
+        final var sql = "INSERT INTO outbox (aggregate_type, aggregate_id, event_type, payload, occurred_on) VALUES "
+                + String.join(", ", Collections.nCopies(events.size(), "(?, ?, ?, ?, ?)"));
+
+        final var query = this.entityManager.createNativeQuery(sql);
+        var position = 1;
+        for (final var event : events) {
+            query.setParameter(position++, event.aggregateType());
+            query.setParameter(position++, event.aggregateId());
+            query.setParameter(position++, event.type().name());
+            query.setParameter(position++, Json.writeValueAsString(event));
+            query.setParameter(position++, event.occurredOn());
+        }
+        query.executeUpdate();
+    }
+}
@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import java.time.Instant;
+
+public record OutboxMessage(
+        Long id,
+        String aggregateType,
+        String aggregateId,
+        String eventType,
+        String payload,
+        Instant occurredOn
+) {
+}
@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import java.util.List;
+
+// Entrega pelo menos uma vez: uma exceção mantém o lote no outbox e ele é reenviado no próximo ciclo
+public interface OutboxPublisher {
+
+    void publish(List<OutboxMessage> messages);
+}
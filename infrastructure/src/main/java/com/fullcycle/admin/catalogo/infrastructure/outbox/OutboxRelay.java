@@ -0,0 +1,125 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Esvazia o outbox em segundo plano: lotes em ordem de id, publicados e apagados na mesma transação
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxRepository repository;
+    private final OutboxPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration interval;
+    private final Clock clock;
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private ScheduledExecutorService scheduler;
+
+    public OutboxRelay(
+            final OutboxRepository repository,
+            final OutboxPublisher publisher,
+            final PlatformTransactionManager transactionManager,
+            final int batchSize,
+            final Duration interval,
+            final Clock clock
+    ) {
+        this.repository = repository;
+        this.publisher = publisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.interval = interval;
+        this.clock = clock;
+    }
+
+    // Vazão em outbox.relay.published (taxa do contador) e atraso do evento mais antigo em outbox.relay.lag
+    public OutboxRelay bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("outbox.relay.published", this.published, AtomicLong::get)
+                .description("Events published by the outbox relay")
+                .register(registry);
+        FunctionCounter.builder("outbox.relay.failures", this.failures, AtomicLong::get)
+                .description("Batches that failed to publish and stayed in the outbox")
+                .register(registry);
+        Gauge.builder("outbox.relay.lag", this.lagMillis, lag -> lag.get() / 1000.0)
+                .description("Age of the oldest event still waiting in the outbox")
+                .baseUnit("seconds")
+                .register(registry);
+        return this;
+    }
+
+    public void start() {
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            final var thread = new Thread(r, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::drain, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+        }
+    }
+
+    public long published() {
+        return this.published.get();
+    }
+
+    public Duration lag() {
+        return Duration.ofMillis(this.lagMillis.get());
+    }
+
+    // Lote cheio indica que há mais esperando: segue sem aguardar o próximo ciclo
+    public void drain() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == this.batchSize);
+        } catch (final RuntimeException ex) {
+            this.failures.incrementAndGet();
+            log.warn("Outbox relay failed; the batch stays in the outbox and is retried", ex);
+        }
+    }
+
+    int relayBatch() {
+        final Integer relayed = this.transactionTemplate.execute(status -> {
+            final var batch = this.repository.findNextBatch(PageRequest.of(0, this.batchSize));
+            if (batch.isEmpty()) {
+                this.lagMillis.set(0);
+                return 0;
+            }
+
+            final var oldest = batch.get(0).getOccurredOn();
+            this.lagMillis.set(Math.max(0, Duration.between(oldest, this.clock.instant()).toMillis()));
+
+            this.publisher.publish(batch.stream().map(OutboxJpaEntity::toMessage).toList());
+            this.repository.deleteAllByIdIn(batch.stream().map(OutboxJpaEntity::getId).toList());
+            return batch.size();
+        });
+
+        final var count = relayed != null ? relayed : 0;
+        this.published.addAndGet(count);
+        return count;
+    }
+}
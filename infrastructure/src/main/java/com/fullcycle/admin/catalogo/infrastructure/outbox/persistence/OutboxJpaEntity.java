@@ -0,0 +1,67 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox.persistence;
+
+import com.fullcycle.admin.catalogo.infrastructure.outbox.OutboxMessage;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+
+@Entity(name = "Outbox")
+@Table(name = "outbox")
+public class OutboxJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Column(name = "aggregate_type", nullable = false)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private String aggregateId;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "occurred_on", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant occurredOn;
+
+    public OutboxJpaEntity() {
+    }
+
+    public OutboxMessage toMessage() {
+        return new OutboxMessage(getId(), getAggregateType(), getAggregateId(), getEventType(), getPayload(), getOccurredOn());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    public String getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public Instant getOccurredOn() {
+        return occurredOn;
+    }
+}
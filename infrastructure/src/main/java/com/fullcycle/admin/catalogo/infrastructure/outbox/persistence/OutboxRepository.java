@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.List;
+
+public interface OutboxRepository extends JpaRepository<OutboxJpaEntity, Long> {
+
+    // FOR UPDATE: com mais de uma instância, um relay espera o outro terminar o lote em vez de publicá-lo de novo
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(value = " select o from Outbox o order by o.id")
+    List<OutboxJpaEntity> findNextBatch(Pageable page);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = " delete from Outbox o where o.id in :ids")
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
+}
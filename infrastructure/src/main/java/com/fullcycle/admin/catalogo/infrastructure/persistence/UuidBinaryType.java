@@ -0,0 +1,71 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidUtils;
+import org.hibernate.type.AbstractSingleColumnStandardBasicType;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractTypeDescriptor;
+import org.hibernate.type.descriptor.sql.BinaryTypeDescriptor;
+
+// Ids continuam String no código (forma canônica do UUID) e vão para o banco como BINARY(16).
+// É um tipo do Hibernate e não um AttributeConverter porque a JPA não aplica @Convert em @Id
+public class UuidBinaryType extends AbstractSingleColumnStandardBasicType<String> {
+
+    public static final String NAME = "com.fullcycle.admin.catalogo.infrastructure.persistence.UuidBinaryType";
+
+    public UuidBinaryType() {
+        super(BinaryTypeDescriptor.INSTANCE, UuidStringDescriptor.INSTANCE);
+    }
+
+    @Override
+    public String getName() {
+        return "uuid-binary-string";
+    }
+
+    private static final class UuidStringDescriptor extends AbstractTypeDescriptor<String> {
+
+        private static final UuidStringDescriptor INSTANCE = new UuidStringDescriptor();
+
+        private UuidStringDescriptor() {
+            super(String.class);
+        }
+
+        @Override
+        public String toString(final String value) {
+            return value;
+        }
+
+        @Override
+        public String fromString(final String string) {
+            return string;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <X> X unwrap(final String value, final Class<X> type, final WrapperOptions options) {
+            if (value == null) {
+                return null;
+            }
+            if (byte[].class.isAssignableFrom(type)) {
+                return (X) UuidUtils.toBytes(value);
+            }
+            if (String.class.isAssignableFrom(type)) {
+                return (X) value;
+            }
+            throw unknownUnwrap(type);
+        }
+
+        @Override
+        public <X> String wrap(final X value, final WrapperOptions options) {
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof byte[] bytes) {
+                return UuidUtils.fromBytes(bytes);
+            }
+            if (value instanceof String string) {
+                return string;
+            }
+            throw unknownWrap(value.getClass());
+        }
+    }
+}
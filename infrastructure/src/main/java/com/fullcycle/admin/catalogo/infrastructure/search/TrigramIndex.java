@@ -0,0 +1,185 @@
+package com.fullcycle.admin.catalogo.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+public class TrigramIndex {
+
+    private static final int GRAM_SIZE = 3;
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private final Map<String, Set<String>> postings = new HashMap<>();
+    private final Map<String, List<Field>> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(final String anId, final List<Field> fields) {
+        final var normalized = fields.stream()
+                .filter(field -> field.text() != null && !field.text().isBlank())
+                .map(field -> new Field(normalize(field.text()), field.weight()))
+                .toList();
+
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(anId);
+            documents.put(anId, normalized);
+            normalized.forEach(field -> grams(field.text())
+                    .forEach(gram -> postings.computeIfAbsent(gram, key -> new HashSet<>()).add(anId)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(final String anId) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(anId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Retorna os ids ordenados por relevância; mantém a semântica de substring do antigo LIKE '%TERMO%'.
+    // Vazio quando o índice não ajuda: termo curto demais para um trigrama ou mais de maxMatches resultados
+    public Optional<List<String>> search(final String aTerm, final int maxMatches) {
+        final var term = normalize(aTerm);
+        final var grams = grams(term);
+        if (grams.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final var hits = new ArrayList<Hit>();
+
+        lock.readLock().lock();
+        try {
+            for (final var anId : candidates(grams)) {
+                final var score = score(documents.get(anId), term);
+                if (score > 0) {
+                    hits.add(new Hit(anId, score));
+                }
+                if (hits.size() > maxMatches) {
+                    return Optional.empty();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return Optional.of(hits.stream()
+                .sorted(Comparator.comparingInt(Hit::score).reversed().thenComparing(Hit::id))
+                .map(Hit::id)
+                .toList());
+    }
+
+    private Set<String> candidates(final Set<String> grams) {
+        Set<String> result = null;
+        for (final var gram : grams) {
+            final var ids = postings.get(gram);
+            if (ids == null) {
+                return Set.of();
+            }
+            if (result == null) {
+                result = new HashSet<>(ids);
+            } else {
+                result.retainAll(ids);
+            }
+            if (result.isEmpty()) {
+                return result;
+            }
+        }
+        return result;
+    }
+
+    private void removeUnlocked(final String anId) {
+        final var previous = documents.remove(anId);
+        if (previous == null) {
+            return;
+        }
+        previous.forEach(field -> grams(field.text()).forEach(gram -> {
+            final var ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(anId);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }));
+    }
+
+    private static int score(final List<Field> fields, final String term) {
+        if (fields == null) {
+            return 0;
+        }
+
+        var score = 0;
+        for (final var field : fields) {
+            final var text = field.text();
+            var index = text.indexOf(term);
+            if (index < 0) {
+                continue;
+            }
+            if (index == 0) {
+                score += field.weight();
+            }
+            while (index >= 0) {
+                score += field.weight();
+                index = text.indexOf(term, index + 1);
+            }
+        }
+        return score;
+    }
+
+    private static Set<String> grams(final String text) {
+        final var grams = new HashSet<String>();
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    // Mesma equivalência da collation _ai_ci do MySQL usada pelo LIKE: sem acentos e sem caixa
+    // (NFD separa o acento da letra; upper e depois lower dobra casos como 'ß' -> 'ss')
+    private static String normalize(final String text) {
+        final var decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return MARKS.matcher(decomposed).replaceAll("").toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+    }
+
+    public record Field(String text, int weight) {
+
+        public static Field of(final String aText, final int aWeight) {
+            return new Field(aText, aWeight);
+        }
+    }
+
+    private record Hit(String id, int score) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+public final class ETagUtils {
+
+    private static final String ANY = "*";
+
+    private ETagUtils() {
+    }
+
+    // ETag forte: id + versão; toda escrita soma 1 na versão, então qualquer mudança troca o valor
+    public static String of(final String anId, final long version) {
+        return "\"%s-%d\"".formatted(anId, version);
+    }
+
+    // Hash do corpo serializado: depende só do conteúdo, então qualquer nó gera a mesma ETag para a mesma página
+    public static String ofContent(final Object aBody) {
+        return "\"%s\"".formatted(DigestUtils.md5DigestAsHex(Json.writeValueAsString(aBody).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // Sem If-None-Match/If-Modified-Since não há o que comparar: o GET segue direto para a leitura completa
+    public static boolean isConditional(final WebRequest aRequest) {
+        return aRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || aRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    // max-age zero: o cliente guarda a página mas revalida a cada uso, o que custa só um 304
+    public static CacheControl revalidate(final Duration maxAge) {
+        return maxAge.isZero()
+                ? CacheControl.noCache().cachePrivate()
+                : CacheControl.maxAge(maxAge).cachePrivate().mustRevalidate();
+    }
+
+    // Versão exigida pelo If-Match; nula sem o cabeçalho ou com "*". Uma ETag fraca ou de outro recurso
+    // nunca casa por comparação forte, então responde 412 sem chegar ao caso de uso
+    public static Long expectedVersion(final String ifMatch, final String anId) {
+        if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+
+        final var prefix = "\"" + anId + "-";
+        for (final var candidate : ifMatch.split(",")) {
+            final var aTag = candidate.trim();
+            if (aTag.startsWith(prefix) && aTag.endsWith("\"")) {
+                try {
+                    return Long.parseLong(aTag.substring(prefix.length(), aTag.length() - 1));
+                } catch (final NumberFormatException ex) {
+                    // segue para a próxima ETag da lista
+                }
+            }
+        }
+
+        throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "If-Match does not match the current entity");
+    }
+}
@@ -0,0 +1,56 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+import java.util.List;
+
+public final class EstimateUtils {
+
+    private static final int EXPLAIN_ROWS_COLUMN = 9;
+    private static final int EXPLAIN_FILTERED_COLUMN = 10;
+
+    private EstimateUtils() {
+    }
+
+    // Estatística do InnoDB: não varre a tabela, mas pode divergir do valor real em alguns por cento
+    public static Long tableRows(final EntityManager entityManager, final String aTable) {
+        try {
+            final var result = entityManager.createNativeQuery("""
+                            SELECT TABLE_ROWS FROM information_schema.TABLES
+                            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?1
+                            """)
+                    .setParameter(1, aTable)
+                    .getResultList();
+
+            return result.isEmpty() || result.get(0) == null ? null : ((Number) result.get(0)).longValue();
+        } catch (final PersistenceException ex) {
+            return null;
+        }
+    }
+
+    // Estimativa do otimizador (rows * filtered) para uma consulta com filtro
+    public static Long explainRows(final EntityManager entityManager, final String aSql, final List<?> params) {
+        try {
+            final var query = entityManager.createNativeQuery("EXPLAIN " + aSql);
+            for (int i = 0; i < params.size(); i++) {
+                query.setParameter(i + 1, params.get(i));
+            }
+
+            final var rows = query.getResultList();
+            if (rows.isEmpty() || !(rows.get(0) instanceof Object[] columns) || columns.length <= EXPLAIN_FILTERED_COLUMN) {
+                return null;
+            }
+
+            final var examined = columns[EXPLAIN_ROWS_COLUMN];
+            final var filtered = columns[EXPLAIN_FILTERED_COLUMN];
+            if (!(examined instanceof Number examinedRows)) {
+                return null;
+            }
+
+            final var ratio = filtered instanceof Number percent ? percent.doubleValue() / 100 : 1.0;
+            return Math.round(examinedRows.longValue() * ratio);
+        } catch (final PersistenceException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fullcycle.admin.catalogo.application.imports.ImportLine;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Csv;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+public final class ImportUtils {
+
+    public static final MediaType TEXT_CSV = MediaType.valueOf("text/csv");
+
+    private ImportUtils() {
+    }
+
+    // Lê o corpo sob demanda, uma linha por next(): só a linha corrente fica em memória.
+    // Linhas em branco são ignoradas e uma linha malformada vira erro daquela linha, sem abortar o resto.
+    public static <T, R> Iterator<ImportLine<R>> lines(
+            final InputStream body,
+            final MediaType contentType,
+            final Class<T> aClass,
+            final Function<T, R> aMapper
+    ) {
+        final var reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+
+        if (MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            return new LineIterator<>(reader, line -> aMapper.apply(Json.readValue(line, aClass)));
+        }
+        if (TEXT_CSV.isCompatibleWith(contentType)) {
+            final var header = readLine(reader);
+            if (header == null) {
+                return Collections.emptyIterator();
+            }
+            final CsvSchema schema = Csv.readHeader(header);
+            return new LineIterator<>(reader, 1, line -> aMapper.apply(Csv.readValue(line, schema, aClass)));
+        }
+
+        throw new IllegalArgumentException("Unsupported import content type: %s".formatted(contentType));
+    }
+
+    private static String readLine(final BufferedReader reader) {
+        try {
+            return reader.readLine();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String messageOf(final RuntimeException ex) {
+        if (ex.getCause() instanceof JsonProcessingException jsonEx) {
+            return "Malformed record: %s".formatted(jsonEx.getOriginalMessage());
+        }
+        return "Malformed record: %s".formatted(ex.getMessage());
+    }
+
+    private static final class LineIterator<R> implements Iterator<ImportLine<R>> {
+
+        private final BufferedReader reader;
+        private final Function<String, R> parser;
+        private long lineNumber;
+        private String next;
+
+        private LineIterator(final BufferedReader reader, final Function<String, R> parser) {
+            this(reader, 0, parser);
+        }
+
+        private LineIterator(final BufferedReader reader, final long linesRead, final Function<String, R> parser) {
+            this.reader = reader;
+            this.parser = parser;
+            this.lineNumber = linesRead;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (this.next == null) {
+                final var line = readLine(this.reader);
+                if (line == null) {
+                    return false;
+                }
+                this.lineNumber++;
+                if (!line.isBlank()) {
+                    this.next = line;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public ImportLine<R> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final var line = this.next;
+            this.next = null;
+
+            try {
+                return ImportLine.of(this.lineNumber, this.parser.apply(line));
+            } catch (final RuntimeException ex) {
+                return ImportLine.malformed(this.lineNumber, messageOf(ex));
+            }
+        }
+    }
+}
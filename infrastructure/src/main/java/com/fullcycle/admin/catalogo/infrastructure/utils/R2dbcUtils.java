@@ -0,0 +1,36 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import io.r2dbc.spi.Row;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class R2dbcUtils {
+
+    private static final Pattern UPPER = Pattern.compile("([A-Z])");
+
+    private R2dbcUtils() {
+    }
+
+    public static String id(final Row aRow, final String aColumn) {
+        return UuidUtils.fromBytes(aRow.get(aColumn, byte[].class));
+    }
+
+    // As colunas DATETIME(6) são gravadas em UTC (serverTimezone=UTC no JDBC)
+    public static Instant instant(final Row aRow, final String aColumn) {
+        final var value = aRow.get(aColumn, LocalDateTime.class);
+        return value != null ? value.toInstant(ZoneOffset.UTC) : null;
+    }
+
+    // Propriedade da entidade (a mesma que o SortPlanner devolve) para a coluna: createdAt -> created_at
+    public static String column(final String aProperty) {
+        return UPPER.matcher(aProperty).replaceAll("_$1").toLowerCase(Locale.ROOT);
+    }
+
+    public static String like(final String terms) {
+        return "%" + terms.toUpperCase() + "%";
+    }
+}
@@ -0,0 +1,30 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import org.hibernate.annotations.QueryHints;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaQuery;
+import java.util.function.Consumer;
+
+public final class ScrollUtils {
+
+    private ScrollUtils() {
+    }
+
+    // Percorre o resultado com um cursor só de avanço (ScrollableResults FORWARD_ONLY por baixo do stream).
+    // Com fetchSize = Integer.MIN_VALUE o Connector/J entrega linha a linha em vez de carregar o resultado todo;
+    // a conexão fica ocupada até o fim, então deve rodar dentro de uma transação e sem outras consultas no meio
+    public static void forEach(
+            final EntityManager entityManager,
+            final CriteriaQuery<Object[]> query,
+            final int fetchSize,
+            final Consumer<Object[]> consumer
+    ) {
+        try (final var rows = entityManager.createQuery(query)
+                .setHint(QueryHints.FETCH_SIZE, fetchSize)
+                .setHint(QueryHints.READ_ONLY, true)
+                .getResultStream()) {
+            rows.forEach(consumer);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.Cursor;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+public final class SliceUtils {
+
+    private SliceUtils() {
+    }
+
+    // Busca limitada sem o SELECT COUNT(*) que o Page do Spring Data sempre dispara.
+    // Seleciona apenas as colunas pedidas (mais as de ordenação, usadas no cursor),
+    // sem entidades gerenciadas nem snapshots de dirty checking
+    public static <T> List<Tuple> slice(
+            final EntityManager entityManager,
+            final Class<T> aType,
+            final Specification<T> whereClause,
+            final Sort sort,
+            final long offset,
+            final int limit,
+            final List<String> columns
+    ) {
+        final var cb = entityManager.getCriteriaBuilder();
+        final var query = cb.createTupleQuery();
+        final var root = query.from(aType);
+
+        if (whereClause != null) {
+            final var predicate = whereClause.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+
+        final var properties = new LinkedHashSet<>(columns);
+        sort.forEach(order -> properties.add(order.getProperty()));
+
+        final var selections = new ArrayList<Selection<?>>();
+        properties.forEach(property -> selections.add(root.get(property).alias(property)));
+
+        query.multiselect(selections).orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    public static Cursor cursor(final SearchQuery aQuery) {
+        final var aCursor = Cursor.decode(aQuery.after());
+        if (!Objects.equals(aCursor.sort(), aQuery.sort())) {
+            throw DomainException.with(new Error("'after' cursor was issued for a different sort"));
+        }
+        if (!UuidUtils.isUuid(aCursor.id())) {
+            throw DomainException.with(new Error("'after' is not a valid pagination cursor"));
+        }
+        return aCursor;
+    }
+
+    public static String next(final Tuple aRow, final String sort) {
+        final var value = aRow.get(sort);
+        return Cursor.of(sort, value != null ? value.toString() : null, aRow.get("id", String.class)).encode();
+    }
+}
@@ -0,0 +1,84 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Traduz o 'sort' recebido na API para uma propriedade da entidade com índice próprio.
+// Qualquer outro valor é recusado, para que nenhuma listagem caia num filesort da tabela inteira.
+public final class SortPlanner {
+
+    private static final String TIEBREAKER = "id";
+
+    private final String defaultProperty;
+    private final Map<String, String> properties;
+    private final List<String> accepted;
+
+    private SortPlanner(final String defaultProperty, final Map<String, String> properties, final List<String> accepted) {
+        this.defaultProperty = defaultProperty;
+        this.properties = properties;
+        this.accepted = accepted;
+    }
+
+    public static Builder builder(final String defaultProperty) {
+        return new Builder(defaultProperty);
+    }
+
+    public String property(final String aSort) {
+        if (aSort == null || aSort.isBlank()) {
+            return this.defaultProperty;
+        }
+
+        final var property = this.properties.get(aSort.trim().toLowerCase(Locale.ROOT));
+        if (property == null) {
+            throw DomainException.with(new Error("'sort' must be one of %s".formatted(this.accepted)));
+        }
+        return property;
+    }
+
+    // O id desempata registros com a mesma chave: a ordem fica estável entre páginas e o
+    // índice secundário (que no InnoDB já carrega a PK) atende o ORDER BY inteiro
+    public Sort sort(final String aProperty, final Direction aDirection) {
+        return Sort.by(aDirection, aProperty).and(Sort.by(aDirection, TIEBREAKER));
+    }
+
+    public static Direction direction(final String aDirection) {
+        return Direction.fromOptionalString(aDirection)
+                .orElseThrow(() -> DomainException.with(new Error("'dir' must be 'asc' or 'desc'")));
+    }
+
+    public static final class Builder {
+
+        private final String defaultProperty;
+        private final Map<String, String> properties = new HashMap<>();
+        private final List<String> accepted = new ArrayList<>();
+
+        private Builder(final String defaultProperty) {
+            this.defaultProperty = defaultProperty;
+        }
+
+        public Builder allow(final String aProperty, final String... aliases) {
+            this.properties.put(aProperty.toLowerCase(Locale.ROOT), aProperty);
+            this.accepted.add(aProperty);
+            for (final var alias : aliases) {
+                this.properties.put(alias.toLowerCase(Locale.ROOT), aProperty);
+                this.accepted.add(alias);
+            }
+            return this;
+        }
+
+        public SortPlanner build() {
+            if (!this.properties.containsValue(this.defaultProperty)) {
+                throw new IllegalStateException("Default sort '%s' is not allowed".formatted(this.defaultProperty));
+            }
+            return new SortPlanner(this.defaultProperty, Map.copyOf(this.properties), List.copyOf(this.accepted));
+        }
+    }
+}
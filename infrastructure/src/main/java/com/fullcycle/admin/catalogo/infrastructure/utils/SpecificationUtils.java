@@ -1,7 +1,14 @@
 package com.fullcycle.admin.catalogo.infrastructure.utils;
 
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.Cursor;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
 import org.springframework.data.jpa.domain.Specification;
 
+import javax.persistence.criteria.Path;
+import java.time.Instant;
+import java.util.Collection;
+
 public final class SpecificationUtils {
 
     private SpecificationUtils() {
@@ -11,7 +18,53 @@ public final class SpecificationUtils {
         return (root, query, cb) -> cb.like(cb.upper(root.get(prop)), like(term.toUpperCase()));
     }
 
+    public static <T> Specification<T> in(final String prop, final Collection<?> values) {
+        return (root, query, cb) -> root.get(prop).in(values);
+    }
+
+    // Predicado de keyset: tudo que vem depois de (sort, id) na direção pedida.
+    // O MySQL ordena NULL primeiro no ASC e por último no DESC, por isso o tratamento explícito.
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Specification<T> after(final Cursor aCursor, final boolean ascending) {
+        return (root, query, cb) -> {
+            final Path<Comparable> sortPath = root.get(aCursor.sort());
+            final Path<String> idPath = root.get("id");
+
+            final var afterId = ascending
+                    ? cb.greaterThan(idPath, aCursor.id())
+                    : cb.lessThan(idPath, aCursor.id());
+
+            if (aCursor.value() == null) {
+                return ascending
+                        ? cb.or(cb.isNotNull(sortPath), cb.and(cb.isNull(sortPath), afterId))
+                        : cb.and(cb.isNull(sortPath), afterId);
+            }
+
+            final Comparable value = parse(sortPath.getJavaType(), aCursor.value());
+            final var sameKey = cb.and(cb.equal(sortPath, value), afterId);
+
+            return ascending
+                    ? cb.or(cb.greaterThan(sortPath, value), sameKey)
+                    : cb.or(cb.lessThan(sortPath, value), sameKey, cb.isNull(sortPath));
+        };
+    }
+
     private static String like(final String term) {
         return "%" + term + "%";
     }
+
+    @SuppressWarnings("rawtypes")
+    private static Comparable parse(final Class<?> aType, final String aValue) {
+        try {
+            if (Instant.class.equals(aType)) {
+                return Instant.parse(aValue);
+            }
+            if (Boolean.class.equals(aType) || boolean.class.equals(aType)) {
+                return Boolean.valueOf(aValue);
+            }
+            return aValue;
+        } catch (final RuntimeException ex) {
+            throw DomainException.with(new Error("'after' is not a valid pagination cursor"));
+        }
+    }
 }
@@ -0,0 +1,43 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+public final class UuidUtils {
+
+    // Menor id possível: ponto de partida das varreduras em ordem de id
+    public static final String MIN = "00000000-0000-0000-0000-000000000000";
+
+    // Só a forma canônica (8-4-4-4-12) volta idêntica dos 16 bytes; "1-2-3-4-5" o UUID.fromString aceitaria
+    private static final Pattern CANONICAL =
+            Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+
+    private UuidUtils() {
+    }
+
+    public static boolean isUuid(final String aValue) {
+        return aValue != null && CANONICAL.matcher(aValue).matches();
+    }
+
+    public static byte[] toBytes(final String aValue) {
+        if (!isUuid(aValue)) {
+            throw new IllegalArgumentException("'%s' is not a canonical UUID".formatted(aValue));
+        }
+
+        final var uuid = UUID.fromString(aValue);
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static String fromBytes(final byte[] aValue) {
+        if (aValue.length != 16) {
+            throw new IllegalArgumentException("UUID must have 16 bytes, got %d".formatted(aValue.length));
+        }
+
+        final var buffer = ByteBuffer.wrap(aValue);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+}
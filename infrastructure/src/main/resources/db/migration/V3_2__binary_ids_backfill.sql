@@ -0,0 +1,8 @@
+-- Roda depois dos triggers: linha gravada durante o backfill já chega com a coluna nova preenchida.
+-- Os UPDATEs só tocam linhas ainda sem valor, então podem ser repetidos (ou fatiados com LIMIT) até não sobrar nenhuma.
+UPDATE category SET id_bin = UNHEX(REPLACE(id, '-', '')) WHERE id_bin IS NULL;
+UPDATE genres SET id_bin = UNHEX(REPLACE(id, '-', '')) WHERE id_bin IS NULL;
+UPDATE genres_categories
+SET genre_id_bin = UNHEX(REPLACE(genre_id, '-', '')),
+    category_id_bin = UNHEX(REPLACE(category_id, '-', ''))
+WHERE genre_id_bin IS NULL OR category_id_bin IS NULL;
@@ -0,0 +1,7 @@
+-- Ids passam de VARCHAR(36) para BINARY(16). Etapa 1 (expand): colunas novas ao lado das antigas.
+-- Sai numa release própria, antes do código que lê BINARY(16): o ADD COLUMN não bloqueia escritas no InnoDB,
+-- os triggers do V3_1 mantêm as colunas novas em dia com o que a versão anterior grava e o V3_2 faz o backfill.
+ALTER TABLE category ADD COLUMN id_bin BINARY(16) NULL;
+ALTER TABLE genres ADD COLUMN id_bin BINARY(16) NULL;
+ALTER TABLE genres_categories ADD COLUMN genre_id_bin BINARY(16) NULL;
+ALTER TABLE genres_categories ADD COLUMN category_id_bin BINARY(16) NULL;
@@ -0,0 +1,43 @@
+-- Etapa 2 (contract): troca as colunas. Release seguinte à do expand, junto do código que lê BINARY(16).
+-- A troca de PK reconstrói as tabelas e bloqueia escritas: em produção roda em janela de manutenção
+-- (ver "Ids binários em duas releases" no README).
+DROP TRIGGER IF EXISTS category_id_bin_insert;
+DROP TRIGGER IF EXISTS category_id_bin_update;
+DROP TRIGGER IF EXISTS genres_id_bin_insert;
+DROP TRIGGER IF EXISTS genres_id_bin_update;
+DROP TRIGGER IF EXISTS genres_categories_id_bin_insert;
+DROP TRIGGER IF EXISTS genres_categories_id_bin_update;
+
+-- Rede de segurança para linhas escapadas do backfill; com os triggers ativos não deve sobrar nenhuma
+UPDATE category SET id_bin = UNHEX(REPLACE(id, '-', '')) WHERE id_bin IS NULL;
+UPDATE genres SET id_bin = UNHEX(REPLACE(id, '-', '')) WHERE id_bin IS NULL;
+UPDATE genres_categories
+SET genre_id_bin = UNHEX(REPLACE(genre_id, '-', '')),
+    category_id_bin = UNHEX(REPLACE(category_id, '-', ''))
+WHERE genre_id_bin IS NULL OR category_id_bin IS NULL;
+
+ALTER TABLE genres_categories DROP CONSTRAINT fk_genre_id;
+ALTER TABLE genres_categories DROP CONSTRAINT fk_category_id;
+ALTER TABLE genres_categories DROP CONSTRAINT idx_genre_category;
+ALTER TABLE genres_categories DROP COLUMN genre_id;
+ALTER TABLE genres_categories DROP COLUMN category_id;
+ALTER TABLE genres_categories RENAME COLUMN genre_id_bin TO genre_id;
+ALTER TABLE genres_categories RENAME COLUMN category_id_bin TO category_id;
+
+ALTER TABLE category DROP PRIMARY KEY;
+ALTER TABLE category DROP COLUMN id;
+ALTER TABLE category RENAME COLUMN id_bin TO id;
+ALTER TABLE category ADD PRIMARY KEY (id);
+
+ALTER TABLE genres DROP PRIMARY KEY;
+ALTER TABLE genres DROP COLUMN id;
+ALTER TABLE genres RENAME COLUMN id_bin TO id;
+ALTER TABLE genres ADD PRIMARY KEY (id);
+
+-- A chave composta vira a PK (o InnoDB agrupa as linhas por ela); category_id ganha índice próprio para a FK
+ALTER TABLE genres_categories ADD PRIMARY KEY (genre_id, category_id);
+CREATE INDEX idx_genres_categories_category_id ON genres_categories (category_id);
+ALTER TABLE genres_categories
+    ADD CONSTRAINT fk_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id) ON DELETE CASCADE;
+ALTER TABLE genres_categories
+    ADD CONSTRAINT fk_category_id FOREIGN KEY (category_id) REFERENCES category (id) ON DELETE CASCADE;
@@ -0,0 +1,13 @@
+-- Um índice por chave de ordenação aceita na listagem. No InnoDB o índice secundário já carrega a PK,
+-- então ORDER BY <coluna>, id é atendido pelo índice sem filesort.
+CREATE INDEX idx_category_name ON category (name);
+CREATE INDEX idx_category_created_at ON category (created_at);
+CREATE INDEX idx_category_updated_at ON category (updated_at);
+CREATE INDEX idx_category_active ON category (active);
+CREATE INDEX idx_category_deleted_at ON category (deleted_at);
+
+CREATE INDEX idx_genres_name ON genres (name);
+CREATE INDEX idx_genres_created_at ON genres (created_at);
+CREATE INDEX idx_genres_updated_at ON genres (updated_at);
+CREATE INDEX idx_genres_active ON genres (active);
+CREATE INDEX idx_genres_deleted_at ON genres (deleted_at);
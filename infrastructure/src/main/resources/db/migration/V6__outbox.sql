@@ -0,0 +1,10 @@
+-- Eventos gravados na mesma transação do agregado; o relay lê em ordem de id e apaga o que já publicou
+CREATE TABLE outbox (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id VARCHAR(36) NOT NULL,
+    event_type VARCHAR(20) NOT NULL,
+    payload TEXT NOT NULL,
+    occurred_on DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,10 @@
+-- Log de invalidação entre nós: cada nó lê as linhas acima da sua marca (id) e remove as chaves do cache local
+CREATE TABLE cache_invalidations (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    cache_name VARCHAR(50) NOT NULL,
+    cache_key VARCHAR(36) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_cache_invalidations_created_at ON cache_invalidations (created_at);
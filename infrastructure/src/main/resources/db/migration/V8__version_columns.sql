@@ -0,0 +1,3 @@
+-- Versão para controle otimista: toda escrita faz UPDATE ... WHERE id = ? AND version = ? e soma 1
+ALTER TABLE category ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE genres ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
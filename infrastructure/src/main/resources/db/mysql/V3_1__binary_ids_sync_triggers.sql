@@ -0,0 +1,18 @@
+-- Dual-write entre o expand e o contract: a versão anterior da aplicação só conhece as colunas VARCHAR.
+-- Só MySQL (o H2 exige triggers em Java); os testes no H2 migram tudo de uma vez, sem escrita concorrente.
+CREATE TRIGGER category_id_bin_insert BEFORE INSERT ON category
+    FOR EACH ROW SET NEW.id_bin = UNHEX(REPLACE(NEW.id, '-', ''));
+CREATE TRIGGER category_id_bin_update BEFORE UPDATE ON category
+    FOR EACH ROW SET NEW.id_bin = UNHEX(REPLACE(NEW.id, '-', ''));
+
+CREATE TRIGGER genres_id_bin_insert BEFORE INSERT ON genres
+    FOR EACH ROW SET NEW.id_bin = UNHEX(REPLACE(NEW.id, '-', ''));
+CREATE TRIGGER genres_id_bin_update BEFORE UPDATE ON genres
+    FOR EACH ROW SET NEW.id_bin = UNHEX(REPLACE(NEW.id, '-', ''));
+
+CREATE TRIGGER genres_categories_id_bin_insert BEFORE INSERT ON genres_categories
+    FOR EACH ROW SET NEW.genre_id_bin = UNHEX(REPLACE(NEW.genre_id, '-', '')),
+                     NEW.category_id_bin = UNHEX(REPLACE(NEW.category_id, '-', ''));
+CREATE TRIGGER genres_categories_id_bin_update BEFORE UPDATE ON genres_categories
+    FOR EACH ROW SET NEW.genre_id_bin = UNHEX(REPLACE(NEW.genre_id, '-', '')),
+                     NEW.category_id_bin = UNHEX(REPLACE(NEW.category_id, '-', ''));
@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalogo;
+
+import java.util.HexFormat;
+
+// Funções do MySQL usadas nas migrations que o H2 não tem; registradas pelo INIT da URL do perfil test-integration
+public final class H2Functions {
+
+    private H2Functions() {
+    }
+
+    public static byte[] unhex(final String aValue) {
+        return aValue == null ? null : HexFormat.of().parseHex(aValue);
+    }
+}
@@ -1,7 +1,11 @@
 package com.fullcycle.admin.catalogo;
 
+import com.fullcycle.admin.catalogo.infrastructure.cache.CacheInvalidationLog;
+import com.fullcycle.admin.catalogo.infrastructure.cache.WriteGenerations;
+import com.fullcycle.admin.catalogo.infrastructure.cache.persistence.CacheInvalidationRepository;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxRepository;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
@@ -21,10 +25,18 @@ public class MySQLCleanUpExtension implements BeforeEachCallback {
         cleanUp(
                 List.of(
                         applicationContext.getBean(GenreRepository.class),
-                        applicationContext.getBean(CategoryRepository.class)
+                        applicationContext.getBean(CategoryRepository.class),
+                        applicationContext.getBean(OutboxRepository.class),
+                        applicationContext.getBean(CacheInvalidationRepository.class)
                         )
         );
 
+        // A limpeza apaga direto nos repositórios; avançar a geração descarta as páginas em cache do teste anterior
+        applicationContext.getBeanProvider(WriteGenerations.class).ifAvailable(generations -> {
+            generations.bump(CacheInvalidationLog.CATEGORIES);
+            generations.bump(CacheInvalidationLog.GENRES);
+        });
+
 //        final var testEntityManager = applicationContext.getBean(TestEntityManager.class);
      /*   testEntityManager.flush();
         testEntityManager.clear();*/
@@ -0,0 +1,178 @@
+package com.fullcycle.admin.catalogo.benchmark;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+// N escritores fazendo ler-alterar-gravar na mesma categoria: UPDATE ... WHERE id = ? AND version = ? com
+// nova tentativa a cada conflito, contra o UPDATE cego (último vence). O contador mostra as escritas perdidas.
+// Não roda no build: RUN_BENCHMARKS=true ./gradlew :infrastructure:test --tests '*OptimisticLockingContentionBenchmarkTest'
+@Testcontainers
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+public class OptimisticLockingContentionBenchmarkTest {
+
+    private static final int[] WRITERS = {1, 2, 4, 8, 16, 32};
+    private static final int WRITES_PER_WRITER = 500;
+
+    @Container
+    private static final MySQLContainer MYSQL_CONTAINER = new MySQLContainer("mysql:latest")
+            .withPassword("123456")
+            .withUsername("root")
+            .withDatabaseName("adm_videos");
+
+    @Test
+    public void compareGuardedAndBlindUpdatesUnderContention() throws Exception {
+        try (final var conn = connect(); final var st = conn.createStatement()) {
+            st.execute("""
+                    CREATE TABLE bench_category (
+                        id BINARY(16) NOT NULL PRIMARY KEY,
+                        counter BIGINT NOT NULL,
+                        version BIGINT NOT NULL DEFAULT 0
+                    )""");
+        }
+
+        System.out.printf("%-8s %8s %10s %10s %10s %10s %12s %10s%n",
+                "mode", "writers", "writes", "applied", "lost", "retries", "writes/s", "p99 ms");
+
+        for (final var writers : WRITERS) {
+            final var guarded = run(writers, true);
+            final var blind = run(writers, false);
+            System.out.println(guarded);
+            System.out.println(blind);
+
+            Assertions.assertEquals(0, guarded.lost());
+        }
+    }
+
+    private static Result run(final int writers, final boolean guarded) throws Exception {
+        final var anId = UuidUtils.toBytes(UUID.randomUUID().toString());
+        try (final var conn = connect();
+             final var insert = conn.prepareStatement("INSERT INTO bench_category (id, counter) VALUES (?, 0)")) {
+            insert.setBytes(1, anId);
+            insert.executeUpdate();
+        }
+
+        final var retries = new AtomicLong();
+        final var start = new CountDownLatch(1);
+        final var executor = Executors.newFixedThreadPool(writers);
+        final var futures = new ArrayList<Future<long[]>>(writers);
+
+        for (int w = 0; w < writers; w++) {
+            futures.add(executor.submit(() -> {
+                final var latencies = new long[WRITES_PER_WRITER];
+                try (final var conn = connect()) {
+                    start.await();
+                    for (int i = 0; i < WRITES_PER_WRITER; i++) {
+                        final var begin = System.nanoTime();
+                        while (!write(conn, anId, guarded)) {
+                            retries.incrementAndGet();
+                        }
+                        latencies[i] = System.nanoTime() - begin;
+                    }
+                }
+                return latencies;
+            }));
+        }
+
+        final var begin = System.nanoTime();
+        start.countDown();
+        final var latencies = new ArrayList<Long>(writers * WRITES_PER_WRITER);
+        for (final var aFuture : futures) {
+            Arrays.stream(aFuture.get()).forEach(latencies::add);
+        }
+        final var elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+
+        final long applied;
+        try (final var conn = connect();
+             final var select = conn.prepareStatement("SELECT counter FROM bench_category WHERE id = ?")) {
+            select.setBytes(1, anId);
+            try (final var rs = select.executeQuery()) {
+                rs.next();
+                applied = rs.getLong(1);
+            }
+        }
+
+        final long writes = (long) writers * WRITES_PER_WRITER;
+        latencies.sort(Long::compare);
+        final var p99 = latencies.get((int) (latencies.size() * 0.99)) / 1_000_000d;
+
+        return new Result(
+                guarded ? "guarded" : "blind",
+                writers,
+                writes,
+                applied,
+                writes - applied,
+                retries.get(),
+                writes / (elapsed / 1_000_000_000d),
+                p99
+        );
+    }
+
+    // Lê contador e versão, soma 1 e grava; no modo guardado, 0 linhas afetadas significa que outro escritor venceu
+    private static boolean write(final Connection conn, final byte[] anId, final boolean guarded) throws SQLException {
+        final long counter;
+        final long version;
+        try (final var select = conn.prepareStatement("SELECT counter, version FROM bench_category WHERE id = ?")) {
+            select.setBytes(1, anId);
+            try (final var rs = select.executeQuery()) {
+                rs.next();
+                counter = rs.getLong(1);
+                version = rs.getLong(2);
+            }
+        }
+
+        final var sql = guarded
+                ? "UPDATE bench_category SET counter = ?, version = version + 1 WHERE id = ? AND version = ?"
+                : "UPDATE bench_category SET counter = ?, version = version + 1 WHERE id = ?";
+        try (final var update = conn.prepareStatement(sql)) {
+            update.setLong(1, counter + 1);
+            update.setBytes(2, anId);
+            if (guarded) {
+                update.setLong(3, version);
+            }
+            return update.executeUpdate() > 0;
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(
+                MYSQL_CONTAINER.getJdbcUrl(),
+                MYSQL_CONTAINER.getUsername(),
+                MYSQL_CONTAINER.getPassword()
+        );
+    }
+
+    private record Result(
+            String mode,
+            int writers,
+            long writes,
+            long applied,
+            long lost,
+            long retries,
+            double writesPerSecond,
+            double p99Millis
+    ) {
+
+        @Override
+        public String toString() {
+            return "%-8s %8d %10d %10d %10d %10d %12.0f %10.2f".formatted(
+                    mode, writers, writes, applied, lost, retries, writesPerSecond, p99Millis);
+        }
+    }
+}
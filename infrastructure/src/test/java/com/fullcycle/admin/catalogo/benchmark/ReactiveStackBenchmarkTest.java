@@ -0,0 +1,208 @@
+package com.fullcycle.admin.catalogo.benchmark;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+// Mesmas leituras (GET /categories/{id} e GET /categories?page=N) na pilha servlet e no perfil reactive,
+// ambos sem cache e com 20 conexões no pool. Cliente e servidor dividem a JVM, então o número por núcleo
+// (requisições por segundo de CPU do processo) só vale para comparar as duas pilhas entre si.
+// Não roda no build: RUN_BENCHMARKS=true ./gradlew :infrastructure:test --tests '*ReactiveStackBenchmarkTest'
+@Testcontainers
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+public class ReactiveStackBenchmarkTest {
+
+    private static final int[] CONNECTIONS = {64, 256, 1_024};
+    private static final int CATEGORIES = 1_000;
+    private static final Duration WARM_UP = Duration.ofSeconds(5);
+    private static final Duration MEASURE = Duration.ofSeconds(20);
+    private static final Pattern ID = Pattern.compile("\"id\":\"([^\"]+)\"");
+
+    @Container
+    private static final MySQLContainer MYSQL_CONTAINER = new MySQLContainer("mysql:latest")
+            .withPassword("123456")
+            .withUsername("root")
+            .withDatabaseName("adm_videos");
+
+    @Test
+    public void compareServletAndReactiveStacks() throws Exception {
+        System.out.printf("%-8s %-5s %11s %10s %10s %12s %14s %10s%n",
+                "stack", "read", "connections", "requests", "errors", "requests/s", "req/cpu-second", "p99 ms");
+
+        // O perfil reactive não escreve: as categorias são criadas pela pilha servlet e lidas pelas duas
+        final List<String> ids;
+        try (final var app = start()) {
+            ids = givenCategories(baseUrl(app));
+        }
+
+        final var results = new ArrayList<Result>();
+        for (final var profile : new String[]{"servlet", "reactive"}) {
+            try (final var app = profile.equals("reactive") ? start("reactive") : start()) {
+                final var baseUrl = baseUrl(app);
+                final Function<Integer, String> byId = i -> baseUrl + "/categories/" + ids.get(i % ids.size());
+                final Function<Integer, String> page = i -> baseUrl + "/categories?perPage=20&page=" + i % 50;
+
+                for (final var connections : CONNECTIONS) {
+                    for (final var read : List.of(byId, page)) {
+                        final var name = read == byId ? "get" : "list";
+                        run(profile, name, read, connections, WARM_UP);
+                        final var result = run(profile, name, read, connections, MEASURE);
+                        System.out.println(result);
+                        results.add(result);
+                    }
+                }
+            }
+        }
+
+        results.forEach(result -> Assertions.assertTrue(result.requests() > 0));
+    }
+
+    private static ConfigurableApplicationContext start(final String... profiles) {
+        final var active = new ArrayList<>(List.of("test-e2e"));
+        active.addAll(List.of(profiles));
+        return new SpringApplicationBuilder(WebServerConfig.class)
+                .profiles(active.toArray(String[]::new))
+                .properties(
+                        "server.port=0",
+                        "mysql.port=" + MYSQL_CONTAINER.getMappedPort(3306),
+                        "cache.categories.max-size=0",
+                        "cache.categories.pages.max-bytes=0",
+                        "outbox.relay.enabled=false"
+                )
+                .run();
+    }
+
+    private static String baseUrl(final ConfigurableApplicationContext app) {
+        return "http://localhost:%s/api".formatted(app.getEnvironment().getProperty("local.server.port"));
+    }
+
+    private static List<String> givenCategories(final String baseUrl) throws Exception {
+        final var client = HttpClient.newHttpClient();
+        final var ids = new ArrayList<String>(CATEGORIES);
+        for (int i = 0; i < CATEGORIES; i++) {
+            final var request = HttpRequest.newBuilder(URI.create(baseUrl + "/categories"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"name\":\"Category %d\",\"description\":null,\"is_active\":true}".formatted(i)))
+                    .build();
+            final var matcher = ID.matcher(client.send(request, HttpResponse.BodyHandlers.ofString()).body());
+            Assertions.assertTrue(matcher.find());
+            ids.add(matcher.group(1));
+        }
+        return ids;
+    }
+
+    private static Result run(
+            final String stack,
+            final String read,
+            final Function<Integer, String> url,
+            final int connections,
+            final Duration duration
+    ) throws Exception {
+        final var errors = new AtomicLong();
+        final var start = new CountDownLatch(1);
+        final var os = (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+
+        final var executor = Executors.newFixedThreadPool(connections);
+        try {
+            final var client = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+
+            final var futures = new ArrayList<Future<List<Long>>>(connections);
+            final var deadline = new AtomicLong();
+            for (int c = 0; c < connections; c++) {
+                futures.add(executor.submit(() -> {
+                    final var latencies = new ArrayList<Long>();
+                    start.await();
+                    while (System.nanoTime() < deadline.get()) {
+                        final var request = HttpRequest.newBuilder(URI.create(
+                                        url.apply(ThreadLocalRandom.current().nextInt(CATEGORIES))))
+                                .timeout(Duration.ofSeconds(30))
+                                .GET()
+                                .build();
+                        final var begin = System.nanoTime();
+                        try {
+                            final var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (final Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies.add(System.nanoTime() - begin);
+                    }
+                    return latencies;
+                }));
+            }
+
+            final var cpuBefore = os.getProcessCpuTime();
+            deadline.set(System.nanoTime() + duration.toNanos());
+            start.countDown();
+
+            final var latencies = new ArrayList<Long>();
+            for (final var aFuture : futures) {
+                latencies.addAll(aFuture.get());
+            }
+            final var cpuSeconds = (os.getProcessCpuTime() - cpuBefore) / 1_000_000_000d;
+            latencies.sort(Long::compare);
+
+            return new Result(
+                    stack,
+                    read,
+                    connections,
+                    latencies.size(),
+                    errors.get(),
+                    latencies.size() / (duration.toNanos() / 1_000_000_000d),
+                    cpuSeconds > 0 ? latencies.size() / cpuSeconds : 0,
+                    percentile(latencies, 0.99)
+            );
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static double percentile(final List<Long> sorted, final double p) {
+        return sorted.isEmpty() ? 0 : sorted.get((int) ((sorted.size() - 1) * p)) / 1_000_000d;
+    }
+
+    private record Result(
+            String stack,
+            String read,
+            int connections,
+            long requests,
+            long errors,
+            double requestsPerSecond,
+            double requestsPerCpuSecond,
+            double p99Millis
+    ) {
+
+        @Override
+        public String toString() {
+            return "%-8s %-5s %11d %10d %10d %12.0f %14.0f %10.2f".formatted(
+                    stack, read, connections, requests, errors, requestsPerSecond, requestsPerCpuSecond, p99Millis);
+        }
+    }
+}
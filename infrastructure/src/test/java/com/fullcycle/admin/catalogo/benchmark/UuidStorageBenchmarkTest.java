@@ -0,0 +1,168 @@
+package com.fullcycle.admin.catalogo.benchmark;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+// Compara VARCHAR(36) e BINARY(16) no MySQL: tamanho de dados/índices e latência de busca pela PK.
+// Não roda no build: RUN_BENCHMARKS=true ./gradlew :infrastructure:test --tests '*UuidStorageBenchmarkTest'
+@Testcontainers
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+public class UuidStorageBenchmarkTest {
+
+    private static final int ROWS = 200_000;
+    private static final int CATEGORIES_PER_GENRE = 3;
+    private static final int LOOKUPS = 20_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Container
+    private static final MySQLContainer MYSQL_CONTAINER = new MySQLContainer("mysql:latest")
+            .withPassword("123456")
+            .withUsername("root")
+            .withDatabaseName("adm_videos");
+
+    @Test
+    public void compareVarcharAndBinaryIds() throws SQLException {
+        final var genreIds = randomIds(ROWS);
+        final var categoryIds = randomIds(ROWS / 10);
+
+        try (final var conn = DriverManager.getConnection(
+                MYSQL_CONTAINER.getJdbcUrl() + "?rewriteBatchedStatements=true",
+                MYSQL_CONTAINER.getUsername(),
+                MYSQL_CONTAINER.getPassword()
+        )) {
+            final var varchar = run(conn, "VARCHAR(36)", "varchar", genreIds, categoryIds, id -> id);
+            final var binary = run(conn, "BINARY(16)", "binary", genreIds, categoryIds, UuidUtils::toBytes);
+
+            System.out.printf("%-12s %14s %14s %12s %12s%n", "id type", "data bytes", "index bytes", "avg µs", "p99 µs");
+            System.out.println(varchar);
+            System.out.println(binary);
+
+            Assertions.assertTrue(binary.dataBytes() + binary.indexBytes() < varchar.dataBytes() + varchar.indexBytes());
+        }
+    }
+
+    private static Result run(
+            final Connection conn,
+            final String aType,
+            final String aSuffix,
+            final List<String> genreIds,
+            final List<String> categoryIds,
+            final Function<String, Object> toParam
+    ) throws SQLException {
+        final var genres = "bench_genres_" + aSuffix;
+        final var join = "bench_genres_categories_" + aSuffix;
+
+        try (final var st = conn.createStatement()) {
+            st.execute("CREATE TABLE %s (id %s NOT NULL PRIMARY KEY, name VARCHAR(255) NOT NULL)".formatted(genres, aType));
+            st.execute("""
+                    CREATE TABLE %s (
+                        genre_id %s NOT NULL,
+                        category_id %s NOT NULL,
+                        PRIMARY KEY (genre_id, category_id),
+                        INDEX idx_category_id (category_id)
+                    )""".formatted(join, aType, aType));
+        }
+
+        conn.setAutoCommit(false);
+        try (final var insertGenre = conn.prepareStatement("INSERT INTO %s (id, name) VALUES (?, ?)".formatted(genres));
+             final var insertJoin = conn.prepareStatement("INSERT INTO %s (genre_id, category_id) VALUES (?, ?)".formatted(join))) {
+            for (int i = 0; i < genreIds.size(); i++) {
+                insertGenre.setObject(1, toParam.apply(genreIds.get(i)));
+                insertGenre.setString(2, "Genre " + i);
+                insertGenre.addBatch();
+
+                for (int c = 0; c < CATEGORIES_PER_GENRE; c++) {
+                    insertJoin.setObject(1, toParam.apply(genreIds.get(i)));
+                    insertJoin.setObject(2, toParam.apply(categoryIds.get((i * CATEGORIES_PER_GENRE + c) % categoryIds.size())));
+                    insertJoin.addBatch();
+                }
+
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insertGenre.executeBatch();
+                    insertJoin.executeBatch();
+                    conn.commit();
+                }
+            }
+            insertGenre.executeBatch();
+            insertJoin.executeBatch();
+            conn.commit();
+        }
+        conn.setAutoCommit(true);
+
+        long dataBytes = 0;
+        long indexBytes = 0;
+        try (final var st = conn.createStatement()) {
+            st.execute("SET SESSION information_schema_stats_expiry = 0");
+            st.execute("ANALYZE TABLE %s, %s".formatted(genres, join));
+            try (final var rs = st.executeQuery("""
+                    SELECT SUM(DATA_LENGTH), SUM(INDEX_LENGTH) FROM information_schema.TABLES
+                    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME IN ('%s', '%s')""".formatted(genres, join))) {
+                rs.next();
+                dataBytes = rs.getLong(1);
+                indexBytes = rs.getLong(2);
+            }
+        }
+
+        final var sample = new ArrayList<>(genreIds);
+        Collections.shuffle(sample);
+        final var latencies = new long[LOOKUPS];
+
+        try (final var select = conn.prepareStatement("SELECT id, name FROM %s WHERE id = ?".formatted(genres))) {
+            // Aquecimento: buffer pool e JIT antes de medir
+            for (int i = 0; i < LOOKUPS; i++) {
+                lookup(select, toParam.apply(sample.get(i % sample.size())));
+            }
+            for (int i = 0; i < LOOKUPS; i++) {
+                final var param = toParam.apply(sample.get((i + LOOKUPS) % sample.size()));
+                final var start = System.nanoTime();
+                lookup(select, param);
+                latencies[i] = System.nanoTime() - start;
+            }
+        }
+
+        Arrays.sort(latencies);
+        final var avg = Arrays.stream(latencies).average().orElse(0) / 1_000d;
+        final var p99 = latencies[(int) (LOOKUPS * 0.99)] / 1_000d;
+
+        return new Result(aType, dataBytes, indexBytes, avg, p99);
+    }
+
+    private static void lookup(final PreparedStatement select, final Object anId) throws SQLException {
+        select.setObject(1, anId);
+        try (final var rs = select.executeQuery()) {
+            Assertions.assertTrue(rs.next());
+        }
+    }
+
+    private static List<String> randomIds(final int aCount) {
+        final var ids = new ArrayList<String>(aCount);
+        for (int i = 0; i < aCount; i++) {
+            ids.add(UUID.randomUUID().toString());
+        }
+        return ids;
+    }
+
+    private record Result(String type, long dataBytes, long indexBytes, double avgMicros, double p99Micros) {
+
+        @Override
+        public String toString() {
+            return "%-12s %14d %14d %12.1f %12.1f".formatted(type, dataBytes, indexBytes, avgMicros, p99Micros);
+        }
+    }
+}
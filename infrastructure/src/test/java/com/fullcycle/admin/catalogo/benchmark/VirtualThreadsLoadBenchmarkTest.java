@@ -0,0 +1,193 @@
+package com.fullcycle.admin.catalogo.benchmark;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.concurrency.VirtualThreads;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+// GET /categories/{id} sem cache (todo pedido vai ao banco) com 1k a 10k conexões simultâneas:
+// 64 workers do Undertow contra virtual threads + semáforo de 20 permissões, ambos com Hikari de 20 conexões.
+// Precisa de Java 21 e de ulimit -n acima de 2x o maior nível.
+// Não roda no build: RUN_BENCHMARKS=true ./gradlew :infrastructure:test --tests '*VirtualThreadsLoadBenchmarkTest'
+@Testcontainers
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+public class VirtualThreadsLoadBenchmarkTest {
+
+    private static final int[] CONNECTIONS = {1_000, 2_500, 5_000, 10_000};
+    private static final int CATEGORIES = 1_000;
+    private static final Duration WARM_UP = Duration.ofSeconds(5);
+    private static final Duration MEASURE = Duration.ofSeconds(20);
+    private static final Pattern ID = Pattern.compile("\"id\":\"([^\"]+)\"");
+
+    @Container
+    private static final MySQLContainer MYSQL_CONTAINER = new MySQLContainer("mysql:latest")
+            .withPassword("123456")
+            .withUsername("root")
+            .withDatabaseName("adm_videos");
+
+    @Test
+    public void comparePlatformWorkersAndVirtualThreads() throws Exception {
+        Assumptions.assumeTrue(VirtualThreads.isAvailable(), "requires Java 21");
+
+        System.out.printf("%-8s %11s %10s %10s %12s %10s %10s%n",
+                "mode", "connections", "requests", "errors", "requests/s", "p50 ms", "p99 ms");
+
+        final var results = new ArrayList<Result>();
+        for (final var virtual : new boolean[]{false, true}) {
+            try (final var app = start(virtual)) {
+                final var baseUrl = "http://localhost:%d/api".formatted(
+                        ((ServletWebServerApplicationContext) app).getWebServer().getPort());
+                final var ids = givenCategories(baseUrl);
+
+                for (final var connections : CONNECTIONS) {
+                    run(baseUrl, ids, connections, WARM_UP, virtual);
+                    final var result = run(baseUrl, ids, connections, MEASURE, virtual);
+                    System.out.println(result);
+                    results.add(result);
+                }
+            }
+        }
+
+        results.forEach(result -> Assertions.assertTrue(result.requests() > 0));
+    }
+
+    private static ConfigurableApplicationContext start(final boolean virtual) {
+        return new SpringApplicationBuilder(WebServerConfig.class)
+                .profiles("test-e2e")
+                .properties(
+                        "server.port=0",
+                        "mysql.port=" + MYSQL_CONTAINER.getMappedPort(3306),
+                        "server.virtual-threads.enabled=" + virtual,
+                        "cache.categories.max-size=0",
+                        "bloom-filter.categories.enabled=false",
+                        "outbox.relay.enabled=false"
+                )
+                .run();
+    }
+
+    // Cada modo sobe uma aplicação nova no mesmo banco: as categorias do modo anterior ficam, só somam linhas
+    private static List<String> givenCategories(final String baseUrl) throws Exception {
+        final var client = HttpClient.newHttpClient();
+        final var ids = new ArrayList<String>(CATEGORIES);
+        for (int i = 0; i < CATEGORIES; i++) {
+            final var request = HttpRequest.newBuilder(URI.create(baseUrl + "/categories"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"name\":\"Category %d\",\"description\":null,\"is_active\":true}".formatted(i)))
+                    .build();
+            final var matcher = ID.matcher(client.send(request, HttpResponse.BodyHandlers.ofString()).body());
+            Assertions.assertTrue(matcher.find());
+            ids.add(matcher.group(1));
+        }
+        return ids;
+    }
+
+    private static Result run(
+            final String baseUrl,
+            final List<String> ids,
+            final int connections,
+            final Duration duration,
+            final boolean virtual
+    ) throws Exception {
+        final var errors = new AtomicLong();
+        final var start = new CountDownLatch(1);
+
+        final var executor = VirtualThreads.newPerTaskExecutor();
+        try {
+            final var client = HttpClient.newBuilder()
+                    .executor(executor)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+
+            final var futures = new ArrayList<Future<List<Long>>>(connections);
+            final var deadline = new AtomicLong();
+            for (int c = 0; c < connections; c++) {
+                futures.add(executor.submit(() -> {
+                    final var latencies = new ArrayList<Long>();
+                    start.await();
+                    while (System.nanoTime() < deadline.get()) {
+                        final var anId = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+                        final var request = HttpRequest.newBuilder(URI.create(baseUrl + "/categories/" + anId))
+                                .timeout(Duration.ofSeconds(30))
+                                .GET()
+                                .build();
+                        final var begin = System.nanoTime();
+                        try {
+                            final var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (final Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies.add(System.nanoTime() - begin);
+                    }
+                    return latencies;
+                }));
+            }
+
+            deadline.set(System.nanoTime() + duration.toNanos());
+            start.countDown();
+
+            final var latencies = new ArrayList<Long>();
+            for (final var aFuture : futures) {
+                latencies.addAll(aFuture.get());
+            }
+            latencies.sort(Long::compare);
+
+            return new Result(
+                    virtual ? "virtual" : "platform",
+                    connections,
+                    latencies.size(),
+                    errors.get(),
+                    latencies.size() / (duration.toNanos() / 1_000_000_000d),
+                    percentile(latencies, 0.50),
+                    percentile(latencies, 0.99)
+            );
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static double percentile(final List<Long> sorted, final double p) {
+        return sorted.isEmpty() ? 0 : sorted.get((int) ((sorted.size() - 1) * p)) / 1_000_000d;
+    }
+
+    private record Result(
+            String mode,
+            int connections,
+            long requests,
+            long errors,
+            double requestsPerSecond,
+            double p50Millis,
+            double p99Millis
+    ) {
+
+        @Override
+        public String toString() {
+            return "%-8s %11d %10d %10d %12.0f %10.2f %10.2f".formatted(
+                    mode, connections, requests, errors, requestsPerSecond, p50Millis, p99Millis);
+        }
+    }
+}
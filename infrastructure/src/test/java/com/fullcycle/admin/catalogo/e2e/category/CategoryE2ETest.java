@@ -7,6 +7,9 @@ import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategor
 import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.search.TrigramIndex;
+import com.fullcycle.admin.catalogo.infrastructure.search.TrigramIndex.Field;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +22,9 @@ import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.util.HashSet;
+import java.util.List;
+
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -126,6 +132,38 @@ public class CategoryE2ETest {
                 .andExpect(jsonPath("$.items[0].name", equalTo("Filmes")));
     }
 
+    @Test
+    public void asACatalogAdminIShouldGetTheSameSearchResultsFromTheIndexAndFromTheLike() throws Exception {
+        Assertions.assertTrue(MYSQL_CONTAINER.isRunning());
+        Assertions.assertEquals(0, categoryRepository.count());
+
+        givenACategory("Filmes", "A categoria mais assistida", true);
+        givenACategory("Documentários", null, true);
+        givenACategory("Séries", "Títulos em episódios", true);
+        givenACategory("SERIADOS", "Animação", true);
+
+        // O perfil test-e2e desliga o índice: a API responde pelo LIKE com a collation do MySQL
+        final var index = new TrigramIndex();
+        categoryRepository.findAll().forEach(anEntity -> index.put(anEntity.getId(), List.of(
+                Field.of(anEntity.getName(), 3),
+                Field.of(anEntity.getDescription(), 1)
+        )));
+
+        for (final var term : List.of("serie", "SÉRIE", "documentario", "TITULOS", "animacao", "episodio", "ASSISTIDA")) {
+            final var json = listCategories(0, 10, term)
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse().getContentAsString();
+            final List<String> likeIds = JsonPath.read(json, "$.items[*].id");
+
+            Assertions.assertEquals(
+                    new HashSet<>(likeIds),
+                    new HashSet<>(index.search(term, 10).orElseThrow()),
+                    term
+            );
+        }
+    }
+
     @Test
     public void asACatalogAdminIShouldBeAbleToSortAllCategoriesByDescriptionDesc() throws Exception {
         Assertions.assertTrue(MYSQL_CONTAINER.isRunning());
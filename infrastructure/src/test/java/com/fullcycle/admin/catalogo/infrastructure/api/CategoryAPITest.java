@@ -2,30 +2,51 @@ package com.fullcycle.admin.catalogo.infrastructure.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.ImportCategoriesCommand;
+import com.fullcycle.admin.catalogo.application.category.create.ImportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.export.ExportCategoriesCommand;
+import com.fullcycle.admin.catalogo.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.CategoryOutput;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.CategoryVersionOutput;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryVersionUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ListGenresByCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.imports.ImportLineError;
+import com.fullcycle.admin.catalogo.application.imports.ImportOutput;
+import com.fullcycle.admin.catalogo.domain.AggregateVersion;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.genre.CategoryMatch;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ETagUtils;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 
@@ -50,18 +71,36 @@ public class CategoryAPITest {
     @MockBean
     private CreateCategoryUseCase createCategoryUseCase;
 
+    @MockBean
+    private CreateCategoriesUseCase createCategoriesUseCase;
+
     @MockBean
     private GetCategoryByIdUseCase getCategoryByIdUseCase;
 
+    @MockBean
+    private GetCategoryVersionUseCase getCategoryVersionUseCase;
+
     @MockBean
     private UpdateCategoryUseCase updateCategoryUseCase;
 
     @MockBean
     private DeleteCategoryUseCase deleteCategoryUseCase;
 
+    @MockBean
+    private DeleteCategoriesUseCase deleteCategoriesUseCase;
+
     @MockBean
     private ListCategoriesUseCase listCategoriesUseCase;
 
+    @MockBean
+    private ExportCategoriesUseCase exportCategoriesUseCase;
+
+    @MockBean
+    private ImportCategoriesUseCase importCategoriesUseCase;
+
+    @MockBean
+    private ListGenresByCategoryUseCase listGenresByCategoryUseCase;
+
     @Test
     public void givenAValidCommand_whenCallsCreateCategory_shouldReturnCategoryId() throws Exception {
         // given
@@ -96,6 +135,45 @@ public class CategoryAPITest {
         ));
     }
 
+    @Test
+    public void givenValidAndInvalidCommands_whenCallsCreateCategories_shouldReturnPerItemResults() throws Exception {
+        // given
+        final var expectedMessage = "'name' should not be null";
+
+        final var aInput = List.of(
+                new CreateCategoryRequest("Filmes", null, true),
+                new CreateCategoryRequest(null, null, true)
+        );
+
+        when(createCategoriesUseCase.execute(any()))
+                .thenReturn(List.of(
+                        Right(CreateCategoryOutput.from("123")),
+                        Left(Notification.create(new Error(expectedMessage)))
+                ));
+
+        // when
+        final var request = post("/categories/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(aInput));
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", equalTo("123")))
+                .andExpect(jsonPath("$[0].errors").doesNotExist())
+                .andExpect(jsonPath("$[1].id").doesNotExist())
+                .andExpect(jsonPath("$[1].errors[0].message", equalTo(expectedMessage)));
+
+        verify(createCategoriesUseCase, times(1)).execute(argThat(cmds ->
+                cmds.size() == 2
+                        && Objects.equals("Filmes", cmds.get(0).name())
+                        && Objects.isNull(cmds.get(1).name())
+        ));
+    }
+
     @Test
     public void givenAInvalidName_whenCallsCreateCategory_thenShouldReturnNotification() throws Exception {
         // given
@@ -206,6 +284,81 @@ public class CategoryAPITest {
         verify(getCategoryByIdUseCase, times(1)).execute(eq(expectedId));
     }
 
+    @Test
+    public void givenAnUnconditionalGet_whenCallsGetCategory_shouldReturnETagWithoutVersionLookup() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId().getValue();
+        final var expectedETag = ETagUtils.of(expectedId, aCategory.getVersion());
+
+        when(getCategoryByIdUseCase.execute(any()))
+                .thenReturn(CategoryOutput.from(aCategory));
+
+        // when
+        final var response = this.mvc.perform(get("/categories/{id}", expectedId))
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, equalTo(expectedETag)))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED));
+
+        verify(getCategoryVersionUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenAMatchingIfNoneMatch_whenCallsGetCategory_shouldReturnNotModifiedWithoutLoadingIt() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId().getValue();
+        final var expectedETag = ETagUtils.of(expectedId, aCategory.getVersion());
+
+        when(getCategoryVersionUseCase.execute(any()))
+                .thenReturn(CategoryVersionOutput.with(aCategory.getId(), new AggregateVersion(aCategory.getVersion(), aCategory.getUpdatedAt())));
+
+        // when
+        final var request = get("/categories/{id}", expectedId)
+                .header(HttpHeaders.IF_NONE_MATCH, expectedETag);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, equalTo(expectedETag)))
+                .andExpect(content().string(""));
+
+        verify(getCategoryVersionUseCase, times(1)).execute(eq(expectedId));
+        verify(getCategoryByIdUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenAStaleIfNoneMatch_whenCallsGetCategory_shouldReturnTheCategoryWithTheNewETag() throws Exception {
+        // given
+        final var now = Instant.now();
+        final var aCategory = Category.with(CategoryID.unique(), "Filmes", null, true, now, now, null, 2);
+        final var expectedId = aCategory.getId().getValue();
+        final var staleETag = ETagUtils.of(expectedId, 1);
+        final var expectedETag = ETagUtils.of(expectedId, aCategory.getVersion());
+
+        when(getCategoryVersionUseCase.execute(any()))
+                .thenReturn(CategoryVersionOutput.with(aCategory.getId(), new AggregateVersion(aCategory.getVersion(), aCategory.getUpdatedAt())));
+        when(getCategoryByIdUseCase.execute(any()))
+                .thenReturn(CategoryOutput.from(aCategory));
+
+        // when
+        final var request = get("/categories/{id}", expectedId)
+                .header(HttpHeaders.IF_NONE_MATCH, staleETag);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, equalTo(expectedETag)))
+                .andExpect(jsonPath("$.name", equalTo("Filmes")));
+    }
+
     @Test
     public void givenAInvalidId_whenCallsGetCategory_shouldReturnNotFound() throws Exception {
         // given
@@ -339,6 +492,134 @@ public class CategoryAPITest {
         ));
     }
 
+    @Test
+    public void givenAMatchingIfMatch_whenCallsUpdateCategory_shouldPassTheExpectedVersion() throws Exception {
+        // given
+        final var expectedId = CategoryID.unique().getValue();
+        final var expectedVersion = 4L;
+
+        when(updateCategoryUseCase.execute(any()))
+                .thenReturn(Right(UpdateCategoryOutput.from(expectedId)));
+
+        final var aCommand = new UpdateCategoryRequest("Filmes", null, true);
+
+        // when
+        final var request = put("/categories/{id}", expectedId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, ETagUtils.of(expectedId, expectedVersion))
+                .content(mapper.writeValueAsString(aCommand));
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk());
+
+        verify(updateCategoryUseCase, times(1)).execute(argThat(cmd ->
+                Objects.equals(expectedVersion, cmd.expectedVersion())
+        ));
+    }
+
+    @Test
+    public void givenAnUppercasePathId_whenCallsUpdateCategoryWithItsIfMatch_shouldPassTheExpectedVersion() throws Exception {
+        // given
+        final var expectedId = CategoryID.unique().getValue();
+        final var expectedVersion = 2L;
+
+        when(updateCategoryUseCase.execute(any()))
+                .thenReturn(Right(UpdateCategoryOutput.from(expectedId)));
+
+        final var aCommand = new UpdateCategoryRequest("Filmes", null, true);
+
+        // when
+        final var request = put("/categories/{id}", expectedId.toUpperCase())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, ETagUtils.of(expectedId, expectedVersion))
+                .content(mapper.writeValueAsString(aCommand));
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk());
+
+        verify(updateCategoryUseCase, times(1)).execute(argThat(cmd ->
+                Objects.equals(expectedVersion, cmd.expectedVersion())
+        ));
+    }
+
+    @Test
+    public void givenAStaleIfMatch_whenCallsUpdateCategory_shouldReturnPreconditionFailed() throws Exception {
+        // given
+        final var expectedId = CategoryID.unique();
+        final var expectedErrorMessage = "Category with ID %s is no longer at version 1".formatted(expectedId.getValue());
+
+        when(updateCategoryUseCase.execute(any()))
+                .thenThrow(ConflictException.with(Category.class, expectedId, 1));
+
+        final var aCommand = new UpdateCategoryRequest("Filmes", null, true);
+
+        // when
+        final var request = put("/categories/{id}", expectedId.getValue())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, ETagUtils.of(expectedId.getValue(), 1))
+                .content(mapper.writeValueAsString(aCommand));
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    public void givenAConcurrentWriteWithoutIfMatch_whenCallsUpdateCategory_shouldReturnConflict() throws Exception {
+        // given
+        final var expectedId = CategoryID.unique();
+
+        when(updateCategoryUseCase.execute(any()))
+                .thenThrow(ConflictException.with(Category.class, expectedId, 0));
+
+        final var aCommand = new UpdateCategoryRequest("Filmes", null, true);
+
+        // when
+        final var request = put("/categories/{id}", expectedId.getValue())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(aCommand));
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isConflict());
+
+        verify(updateCategoryUseCase, times(1)).execute(argThat(cmd -> cmd.expectedVersion() == null));
+    }
+
+    @Test
+    public void givenAnIfMatchOfAnotherCategory_whenCallsUpdateCategory_shouldReturnPreconditionFailedWithoutUpdating() throws Exception {
+        // given
+        final var expectedId = CategoryID.unique().getValue();
+        final var otherETag = ETagUtils.of(CategoryID.unique().getValue(), 1);
+
+        final var aCommand = new UpdateCategoryRequest("Filmes", null, true);
+
+        // when
+        final var request = put("/categories/{id}", expectedId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, otherETag)
+                .content(mapper.writeValueAsString(aCommand));
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isPreconditionFailed());
+
+        verify(updateCategoryUseCase, never()).execute(any());
+    }
+
     @Test
     public void givenAValidId_whenCallsDeleteCategory_shouldReturnNoContent() throws Exception {
         // given
@@ -361,6 +642,65 @@ public class CategoryAPITest {
         verify(deleteCategoryUseCase, times(1)).execute(eq(expectedId));
     }
 
+    @Test
+    public void givenValidParams_whenCallsListGenresOfCategory_shouldReturnGenres() throws Exception {
+        // given
+        final var expectedId = "123";
+        final var expectedOther = "456";
+        final var aGenre = Genre.newGenre("Ação", true)
+                .addCategory(CategoryID.from(expectedId))
+                .addCategory(CategoryID.from(expectedOther));
+
+        final var expectedPage = 0;
+        final var expectedPerPage = 10;
+        final var expectedTotal = 1;
+
+        when(listGenresByCategoryUseCase.execute(any()))
+                .thenReturn(new Pagination<>(expectedPage, expectedPerPage, expectedTotal, List.of(GenreListOutput.from(aGenre))));
+
+        // when
+        final var request = get("/categories/{id}/genres", expectedId)
+                .queryParam("categories", expectedOther)
+                .queryParam("match", "all")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.current_page", equalTo(expectedPage)))
+                .andExpect(jsonPath("$.per_page", equalTo(expectedPerPage)))
+                .andExpect(jsonPath("$.total", equalTo(expectedTotal)))
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", equalTo(aGenre.getId().getValue())))
+                .andExpect(jsonPath("$.items[0].name", equalTo(aGenre.getName())));
+
+        verify(listGenresByCategoryUseCase, times(1)).execute(argThat(cmd ->
+                Objects.equals(List.of(CategoryID.from(expectedId), CategoryID.from(expectedOther)), cmd.categoryIds())
+                        && cmd.match() == CategoryMatch.ALL
+                        && Objects.equals("name", cmd.query().sort())
+                        && Objects.equals(expectedPerPage, cmd.query().perPage())
+        ));
+    }
+
+    @Test
+    public void givenAnInvalidMatch_whenCallsListGenresOfCategory_shouldReturnUnprocessableEntity() throws Exception {
+        // when
+        final var request = get("/categories/{id}/genres", "123")
+                .queryParam("match", "some")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", equalTo("'match' must be one of any or all")));
+
+        verify(listGenresByCategoryUseCase, never()).execute(any());
+    }
+
     @Test
     public void givenValidParams_whenCallsListCategories_shouldReturnCategories() throws Exception {
         // given
@@ -413,4 +753,179 @@ public class CategoryAPITest {
                         && Objects.equals(expectedTerms, query.terms())
         ));
     }
+
+    @Test
+    public void givenAnUnchangedPage_whenCallsListCategoriesWithItsETag_shouldReturnNotModified() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        // Cada chamada devolve uma página nova com o mesmo conteúdo, como outro nó da aplicação faria
+        when(listCategoriesUseCase.execute(any()))
+                .thenAnswer(call -> new Pagination<>(0, 10, 1, List.of(CategoryListOutput.from(aCategory))));
+
+        // when
+        final var first = this.mvc.perform(get("/categories").accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andReturn();
+
+        final var expectedETag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        final var second = this.mvc.perform(get("/categories")
+                        .header(HttpHeaders.IF_NONE_MATCH, expectedETag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print());
+
+        // then
+        Assertions.assertEquals(200, first.getResponse().getStatus());
+        Assertions.assertNotNull(expectedETag);
+        Assertions.assertEquals("no-cache, private", first.getResponse().getHeader(HttpHeaders.CACHE_CONTROL));
+
+        second.andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void givenAWriteSinceETag_whenCallsListCategories_shouldReturnTheNewPage() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        // ETag da página antes da escrita, ainda vazia
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 0, List.of()))
+                .thenReturn(new Pagination<>(0, 10, 1, List.of(CategoryListOutput.from(aCategory))));
+
+        final var staleETag = this.mvc.perform(get("/categories").accept(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // when
+        final var response = this.mvc.perform(get("/categories")
+                        .header(HttpHeaders.IF_NONE_MATCH, staleETag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(equalTo(staleETag))))
+                .andExpect(jsonPath("$.items", hasSize(1)));
+
+        verify(listCategoriesUseCase, times(2)).execute(any());
+    }
+
+    @Test
+    public void givenValidParams_whenCallsExportCategories_shouldStreamOneJsonPerLine() throws Exception {
+        // given
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", "As séries", false);
+
+        final var expectedTerms = "s";
+
+        doAnswer(invocation -> {
+            final ExportCategoriesCommand aCommand = invocation.getArgument(0);
+            aCommand.sink().accept(CategoryListOutput.from(movies));
+            aCommand.sink().accept(CategoryListOutput.from(series));
+            return null;
+        }).when(exportCategoriesUseCase).execute(any());
+
+        // when
+        final var request = get("/categories/export")
+                .queryParam("search", expectedTerms)
+                .accept(MediaType.APPLICATION_NDJSON);
+
+        final var asyncResult = this.mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(asyncResult))
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE));
+
+        final var lines = response.andReturn().getResponse().getContentAsString().split("\n");
+
+        Assertions.assertEquals(2, lines.length);
+        Assertions.assertEquals(movies.getId().getValue(), mapper.readTree(lines[0]).get("id").asText());
+        Assertions.assertEquals(series.getId().getValue(), mapper.readTree(lines[1]).get("id").asText());
+        Assertions.assertFalse(mapper.readTree(lines[1]).get("is_active").asBoolean());
+
+        verify(exportCategoriesUseCase, times(1)).execute(argThat(cmd ->
+                Objects.equals(expectedTerms, cmd.terms())
+        ));
+    }
+
+    @Test
+    public void givenAnNdjsonBody_whenCallsImportCategories_shouldStreamLineErrorsAndSummary() throws Exception {
+        // given
+        final var expectedBody = """
+                {"name": "Filmes", "description": "A categoria mais assistida", "is_active": true}
+                {"name": null}
+
+                {"name": "Séries"
+                """;
+
+        doAnswer(invocation -> {
+            final ImportCategoriesCommand aCommand = invocation.getArgument(0);
+            final var lines = aCommand.lines();
+
+            final var filmes = lines.next();
+            Assertions.assertEquals(1, filmes.number());
+            Assertions.assertEquals("Filmes", filmes.value().get().name());
+            Assertions.assertTrue(filmes.value().get().isActive());
+
+            final var nameless = lines.next();
+            Assertions.assertEquals(2, nameless.number());
+            aCommand.errors().accept(ImportLineError.with(2, List.of(new Error("'name' should not be null"))));
+
+            final var malformed = lines.next();
+            Assertions.assertEquals(4, malformed.number());
+            Assertions.assertTrue(malformed.value().isLeft());
+            aCommand.errors().accept(ImportLineError.with(4, malformed.value().getLeft().getErrors()));
+
+            Assertions.assertFalse(lines.hasNext());
+            return ImportOutput.with(3, 1);
+        }).when(importCategoriesUseCase).execute(any());
+
+        // when
+        final var request = post("/categories/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .content(expectedBody);
+
+        final var asyncResult = this.mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(asyncResult))
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE));
+
+        final var lines = response.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+
+        Assertions.assertEquals(3, lines.length);
+        Assertions.assertEquals(2, mapper.readTree(lines[0]).get("line").asLong());
+        Assertions.assertEquals("'name' should not be null", mapper.readTree(lines[0]).get("errors").get(0).get("message").asText());
+        Assertions.assertEquals(4, mapper.readTree(lines[1]).get("line").asLong());
+        Assertions.assertEquals(3, mapper.readTree(lines[2]).get("total").asLong());
+        Assertions.assertEquals(1, mapper.readTree(lines[2]).get("imported").asLong());
+        Assertions.assertEquals(2, mapper.readTree(lines[2]).get("failed").asLong());
+    }
+
+    @Test
+    public void givenAJsonBody_whenCallsImportCategories_shouldReturnUnsupportedMediaType() throws Exception {
+        final var request = post("/categories/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isUnsupportedMediaType());
+
+        verify(importCategoriesUseCase, never()).execute(any());
+    }
 }
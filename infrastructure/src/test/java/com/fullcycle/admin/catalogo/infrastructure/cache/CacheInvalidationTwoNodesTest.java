@@ -0,0 +1,149 @@
+package com.fullcycle.admin.catalogo.infrastructure.cache;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.search.CategoryInMemorySearchIndex;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import com.fullcycle.admin.catalogo.infrastructure.genre.search.GenreInMemorySearchIndex;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+// Dois contextos da aplicação apontando para o mesmo H2: cada um com o próprio cache em memória
+public class CacheInvalidationTwoNodesTest {
+
+    private static final Duration INTERVAL = Duration.ofMillis(100);
+    private static final Duration MAX_DELAY = Duration.ofSeconds(5);
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeB.close();
+        nodeA.close();
+    }
+
+    @Test
+    public void givenACategoryCachedOnBothNodes_whenUpdatedOnOne_shouldBeEvictedOnTheOther() {
+        final var categoriesA = nodeA.getBean(CategoryGateway.class);
+        final var categoriesB = nodeB.getBean(CategoryGateway.class);
+
+        final var aCategory = categoriesA.create(Category.newCategory("Filmes", null, true));
+        Assertions.assertEquals("Filmes", categoriesB.findById(aCategory.getId()).get().getName());
+
+        categoriesA.update(Category.with(aCategory).update("Séries", null, true));
+
+        awaitUntil(() -> categoriesB.findById(aCategory.getId())
+                .map(Category::getName)
+                .filter("Séries"::equals)
+                .isPresent());
+    }
+
+    @Test
+    public void givenAGenreCachedOnTheOtherNode_whenDeleted_shouldBeEvictedOnTheOther() {
+        final var genresA = nodeA.getBean(GenreGateway.class);
+        final var genresB = nodeB.getBean(GenreGateway.class);
+
+        final var aGenre = genresA.create(Genre.newGenre("Ação", true));
+        Assertions.assertTrue(genresB.findById(aGenre.getId()).isPresent());
+
+        genresA.deleteById(aGenre.getId());
+
+        awaitUntil(() -> genresB.findById(aGenre.getId()).isEmpty());
+    }
+
+    @Test
+    public void givenACategoryCachedOnTheOtherNode_whenBulkDeleted_shouldBeEvictedOnTheOther() {
+        final var categoriesA = nodeA.getBean(CategoryGateway.class);
+        final var categoriesB = nodeB.getBean(CategoryGateway.class);
+
+        final var created = categoriesA.createAll(List.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Séries", null, true)
+        ));
+        final var ids = created.created().stream().map(Category::getId).toList();
+        ids.forEach(anId -> Assertions.assertTrue(categoriesB.findById(anId).isPresent()));
+
+        categoriesA.deleteAllById(ids);
+
+        awaitUntil(() -> ids.stream().map(categoriesB::findById).allMatch(Optional::isEmpty));
+    }
+
+    @Test
+    public void givenACategoryWrittenOnOneNode_whenSearchedOnTheOther_shouldFollowTheWrite() {
+        final var categoriesA = nodeA.getBean(CategoryGateway.class);
+        final var searchB = nodeB.getBean(CategoryInMemorySearchIndex.class);
+
+        final var aCategory = categoriesA.create(Category.newCategory("Documentários", null, true));
+        awaitUntil(() -> searchB.search("documentários").orElse(List.of()).contains(aCategory.getId()));
+
+        categoriesA.update(Category.with(aCategory).update("Animações", null, true));
+        awaitUntil(() -> !searchB.search("documentários").orElse(List.of()).contains(aCategory.getId())
+                && searchB.search("animações").orElse(List.of()).contains(aCategory.getId()));
+
+        categoriesA.deleteById(aCategory.getId());
+        awaitUntil(() -> !searchB.search("animações").orElse(List.of()).contains(aCategory.getId()));
+    }
+
+    @Test
+    public void givenAGenreWrittenOnOneNode_whenSearchedOnTheOther_shouldFollowTheWrite() {
+        final var genresA = nodeA.getBean(GenreGateway.class);
+        final var searchB = nodeB.getBean(GenreInMemorySearchIndex.class);
+
+        final var aGenre = genresA.create(Genre.newGenre("Suspense", true));
+        awaitUntil(() -> searchB.search("suspense").orElse(List.of()).contains(aGenre.getId()));
+
+        genresA.deleteById(aGenre.getId());
+        awaitUntil(() -> !searchB.search("suspense").orElse(List.of()).contains(aGenre.getId()));
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(WebServerConfig.class)
+                .profiles("test-integration")
+                // Argumentos, não properties(): as default properties perderiam para o application-test-integration.yml
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:adm_videos_nodes;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;"
+                                + "INIT=CREATE ALIAS IF NOT EXISTS UNHEX FOR \"com.fullcycle.admin.catalogo.H2Functions.unhex\"",
+                        "--cache.invalidation.enabled=true",
+                        "--cache.invalidation.interval=" + INTERVAL.toMillis() + "ms",
+                        "--search.index.enabled=true"
+                );
+    }
+
+    private static void awaitUntil(final Supplier<Boolean> condition) {
+        final var deadline = System.nanoTime() + MAX_DELAY.toNanos();
+        while (!condition.get()) {
+            if (System.nanoTime() > deadline) {
+                Assertions.fail("Cache entry was not invalidated within " + MAX_DELAY);
+            }
+            sleep(INTERVAL);
+        }
+    }
+
+    private static void sleep(final Duration aDuration) {
+        try {
+            Thread.sleep(aDuration.toMillis());
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -3,15 +3,30 @@ package com.fullcycle.admin.catalogo.infrastructure.category;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
+import com.fullcycle.admin.catalogo.domain.pagination.Cursor;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.category.filter.CategoryBloomFilter;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
 @MySQLGatewayTest
 public class CategoryMySQLGatewayTest {
 
@@ -21,6 +36,9 @@ public class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @SpyBean
+    private CategoryBloomFilter bloomFilter;
+
     @Test
     public void givenAValidCategory_whenCallsCreate_shouldReturnANewCategory() {
         final var expectedName = "Filmes";
@@ -102,6 +120,48 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertTrue(aCategory.getUpdatedAt().isBefore(actualCategory.getUpdatedAt()));
         Assertions.assertEquals(aCategory.getDeletedAt(), actualEntity.getDeletedAt());
         Assertions.assertNull(actualEntity.getDeletedAt());
+        Assertions.assertEquals(aCategory.getVersion() + 1, actualCategory.getVersion());
+        Assertions.assertEquals(aCategory.getVersion() + 1, actualEntity.getVersion());
+    }
+
+    @Test
+    public void givenACategoryNotYetInTheTable_whenCallsUpdate_shouldInsertItAndAddItToTheBloomFilter() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+
+        final var actualCategory = categoryGateway.update(aCategory.clone().update("Séries", null, true));
+
+        Assertions.assertEquals("Séries", categoryRepository.findById(aCategory.getId().getValue()).get().getName());
+        Assertions.assertEquals(aCategory.getId(), actualCategory.getId());
+        verify(bloomFilter, times(1)).add(aCategory.getId());
+    }
+
+    @Test
+    public void givenAnExistingCategory_whenCallsUpdate_shouldNotAddItToTheBloomFilterAgain() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        categoryGateway.update(aCategory.clone().update("Séries", null, true));
+
+        verify(bloomFilter, never()).add(any());
+    }
+
+    @Test
+    public void givenACategoryReadBeforeAnotherWrite_whenCallsUpdate_shouldThrowConflictAndKeepTheOtherWrite() {
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var first = aCategory.clone().update("Séries", null, true);
+        final var second = aCategory.clone().update("Documentários", null, true);
+
+        categoryGateway.update(first);
+
+        final var actualException = Assertions.assertThrows(ConflictException.class, () -> categoryGateway.update(second));
+
+        Assertions.assertEquals(
+                "Category with ID %s is no longer at version 0".formatted(aCategory.getId().getValue()),
+                actualException.getMessage()
+        );
+        final var actualEntity = categoryRepository.findById(aCategory.getId().getValue()).get();
+        Assertions.assertEquals("Séries", actualEntity.getName());
+        Assertions.assertEquals(1, actualEntity.getVersion());
     }
 
     @Test
@@ -325,4 +385,223 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertEquals(expectedPerPage, actualResult.items().size());
         Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenFollowCursor_whenCallsFindAllAfter_shouldReturnNextItems() {
+        final var expectedPerPage = 1;
+        final var expectedTotal = 3;
+
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        ));
+
+        var query = new SearchQuery(0, 1, "", "name", "asc");
+        var actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNotNull(actualResult.next());
+
+        query = new SearchQuery(0, 1, "", "name", "asc", actualResult.next());
+        actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNotNull(actualResult.next());
+
+        query = new SearchQuery(0, 1, "", "name", "asc", actualResult.next());
+        actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+        Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNull(actualResult.next());
+    }
+
+    @Test
+    public void givenCursorIssuedForAnotherSort_whenCallsFindAllAfter_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'after' cursor was issued for a different sort";
+
+        final var aCursor = Cursor.of("createdAt", null, CategoryID.unique().getValue()).encode();
+        final var query = new SearchQuery(0, 1, "", "name", "asc", aCursor);
+
+        final var actualException =
+                Assertions.assertThrows(DomainException.class, () -> categoryGateway.findAll(query));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenASortFieldOutsideTheWhitelist_whenCallsFindAll_shouldThrowDomainException() {
+        final var query = new SearchQuery(0, 1, "", "id; DROP TABLE category", "asc");
+
+        final var actualException =
+                Assertions.assertThrows(DomainException.class, () -> categoryGateway.findAll(query));
+
+        Assertions.assertTrue(actualException.getErrors().get(0).message().startsWith("'sort' must be one of"));
+    }
+
+    @Test
+    public void givenASnakeCaseSortAlias_whenCallsFindAllWithCursor_shouldSortByTheMappedColumn() {
+        final var now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        final var expectedFirst = Category.with(CategoryID.unique(), "Séries", null, true, now.minusSeconds(60), now, null, 0);
+        final var expectedSecond = Category.with(CategoryID.unique(), "Filmes", null, true, now, now, null, 0);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(expectedSecond),
+                CategoryJpaEntity.from(expectedFirst)
+        ));
+
+        var actualResult = categoryGateway.findAll(new SearchQuery(0, 1, "", "created_at", "asc"));
+
+        Assertions.assertEquals(expectedFirst.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNotNull(actualResult.next());
+
+        actualResult = categoryGateway.findAll(new SearchQuery(0, 1, "", "created_at", "asc", actualResult.next()));
+
+        Assertions.assertEquals(expectedSecond.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNull(actualResult.next());
+    }
+
+    @Test
+    public void givenValidCategories_whenCallsCreateAll_shouldPersistAll() {
+        final var categories = List.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Séries", null, true),
+                Category.newCategory("Documentários", null, false)
+        );
+
+        Assertions.assertEquals(0, categoryRepository.count());
+
+        final var actualResult = categoryGateway.createAll(categories);
+
+        Assertions.assertEquals(3, actualResult.created().size());
+        Assertions.assertTrue(actualResult.failures().isEmpty());
+        Assertions.assertEquals(3, categoryRepository.count());
+
+        final var actualEntity = categoryRepository.findById(categories.get(2).getId().getValue()).get();
+        Assertions.assertEquals("Documentários", actualEntity.getName());
+        Assertions.assertFalse(actualEntity.isActive());
+    }
+
+    @Test
+    public void givenABatchWithADuplicatedId_whenCallsCreateAll_shouldRollItBackAndReturnTheCause() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        categoryGateway.create(filmes);
+
+        final var series = Category.newCategory("Séries", null, true);
+        final var duplicated = Category.with(filmes);
+
+        final var actualResult = categoryGateway.createAll(List.of(series, duplicated));
+
+        Assertions.assertTrue(actualResult.created().isEmpty());
+        Assertions.assertEquals(1, actualResult.failures().size());
+        Assertions.assertEquals(List.of(series, duplicated), actualResult.failures().get(0).items());
+        Assertions.assertNotNull(actualResult.failures().get(0).cause());
+        Assertions.assertEquals(1, categoryRepository.count());
+    }
+
+    @Test
+    public void givenCountModeNone_whenCallsFindAll_shouldReturnPageWithoutTotal() {
+        final var expectedPerPage = 1;
+
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series)
+        ));
+
+        var query = new SearchQuery(0, 1, "", "name", "asc", null, CountMode.NONE);
+        var actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+        Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNull(actualResult.total());
+        Assertions.assertTrue(actualResult.hasMore());
+
+        query = new SearchQuery(1, 1, "", "name", "asc", null, CountMode.NONE);
+        actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNull(actualResult.total());
+        Assertions.assertFalse(actualResult.hasMore());
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAllPreviews_shouldReturnPreviews() {
+        final var expectedTotal = 2;
+
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", null, false);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series)
+        ));
+
+        final var query = new SearchQuery(0, 10, "", "name", "asc");
+        final var actualResult = categoryGateway.findAllPreviews(query);
+
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        Assertions.assertEquals(expectedTotal, actualResult.items().size());
+
+        final var actualPreview = actualResult.items().get(0);
+        Assertions.assertEquals(filmes.getId(), actualPreview.id());
+        Assertions.assertEquals(filmes.getName(), actualPreview.name());
+        Assertions.assertEquals(filmes.getDescription(), actualPreview.description());
+        Assertions.assertTrue(actualPreview.isActive());
+        Assertions.assertNull(actualPreview.deletedAt());
+
+        Assertions.assertEquals(series.getId(), actualResult.items().get(1).id());
+        Assertions.assertFalse(actualResult.items().get(1).isActive());
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsDeleteAllById_shouldDeleteOnlyThem() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        ));
+
+        Assertions.assertEquals(3, categoryRepository.count());
+
+        categoryGateway.deleteAllById(List.of(filmes.getId(), series.getId(), CategoryID.unique()));
+
+        Assertions.assertEquals(1, categoryRepository.count());
+        Assertions.assertTrue(categoryRepository.existsById(documentarios.getId().getValue()));
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsStreamAllPreviewsWithTerms_shouldEmitOnlyMatchesInIdOrder() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", "Filmes em episódios", true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        ));
+
+        final var expectedIds = List.of(filmes.getId(), series.getId()).stream()
+                .sorted(Comparator.comparing(CategoryID::getValue))
+                .toList();
+
+        final var actualIds = new ArrayList<CategoryID>();
+        categoryGateway.streamAllPreviews("filmes", preview -> actualIds.add(preview.id()));
+
+        Assertions.assertEquals(expectedIds, actualIds);
+    }
+}
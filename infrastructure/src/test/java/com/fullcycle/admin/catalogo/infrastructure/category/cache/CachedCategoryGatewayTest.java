@@ -0,0 +1,264 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.cache;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryPreview;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.cache.CacheInvalidationLog;
+import com.fullcycle.admin.catalogo.infrastructure.cache.ReplicaCachePolicy;
+import com.fullcycle.admin.catalogo.infrastructure.cache.WriteGenerations;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.datasource.DataSourceRouting;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachedCategoryGatewayTest {
+
+    private static final Duration MAX_LAG = Duration.ofMillis(200);
+
+    private CategoryMySQLGateway delegate;
+    private CachedCategoryGateway gateway;
+    private WriteGenerations generations;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        delegate = Mockito.mock(CategoryMySQLGateway.class);
+        generations = new WriteGenerations();
+        gateway = new CachedCategoryGateway(
+                delegate,
+                100,
+                Duration.ofMinutes(5),
+                DataSize.ofMegabytes(1),
+                Duration.ofMinutes(1),
+                generations,
+                new ReplicaCachePolicy(true, MAX_LAG),
+                Mockito.mock(ObjectProvider.class)
+        );
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsFindByIdTwice_shouldHitDatabaseOnce() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        when(delegate.findById(aCategory.getId())).thenReturn(Optional.of(aCategory));
+
+        final var first = gateway.findById(aCategory.getId()).get();
+        final var second = gateway.findById(aCategory.getId()).get();
+
+        Assertions.assertEquals(aCategory.getName(), first.getName());
+        Assertions.assertEquals(aCategory.getName(), second.getName());
+        verify(delegate, times(1)).findById(aCategory.getId());
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallerMutatesIt_shouldNotChangeTheCachedCopy() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        when(delegate.findById(aCategory.getId())).thenReturn(Optional.of(aCategory));
+
+        gateway.findById(aCategory.getId()).get().update("Séries", "Outra", false);
+
+        final var actualCategory = gateway.findById(aCategory.getId()).get();
+
+        Assertions.assertEquals("Filmes", actualCategory.getName());
+        Assertions.assertTrue(actualCategory.isActive());
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsUpdate_shouldInvalidateIt() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        when(delegate.findById(aCategory.getId())).thenReturn(Optional.of(aCategory));
+        when(delegate.update(any())).thenAnswer(call -> call.getArgument(0));
+
+        gateway.findById(aCategory.getId());
+        gateway.update(Category.with(aCategory).update("Séries", null, true));
+        gateway.findById(aCategory.getId());
+
+        verify(delegate, times(2)).findById(aCategory.getId());
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsDeleteById_shouldInvalidateIt() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        when(delegate.findById(aCategory.getId()))
+                .thenReturn(Optional.of(aCategory))
+                .thenReturn(Optional.empty());
+
+        gateway.findById(aCategory.getId());
+        gateway.deleteById(aCategory.getId());
+
+        Assertions.assertTrue(gateway.findById(aCategory.getId()).isEmpty());
+        verify(delegate, times(2)).findById(aCategory.getId());
+    }
+
+    @Test
+    public void givenACachedCategory_whenAnotherNodeInvalidatesIt_shouldReloadIt() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        when(delegate.findById(aCategory.getId())).thenReturn(Optional.of(aCategory));
+
+        gateway.findById(aCategory.getId());
+        gateway.invalidate(List.of(aCategory.getId().getValue()));
+        gateway.findById(aCategory.getId());
+
+        verify(delegate, times(2)).findById(aCategory.getId());
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsFindByIdForUpdate_shouldReadTheDatabaseInsteadOfTheCache() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var updatedElsewhere = Category.with(aCategory).update("Séries", null, true);
+        when(delegate.findById(aCategory.getId())).thenReturn(Optional.of(aCategory));
+        when(delegate.findByIdForUpdate(aCategory.getId())).thenReturn(Optional.of(updatedElsewhere));
+
+        gateway.findById(aCategory.getId());
+
+        Assertions.assertEquals("Séries", gateway.findByIdForUpdate(aCategory.getId()).get().getName());
+        verify(delegate, times(1)).findByIdForUpdate(aCategory.getId());
+    }
+
+    @Test
+    public void givenAnUpdateLandingDuringAMissLoad_whenCallsFindByIdAgain_shouldNotServeTheStaleCopy() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var updated = Category.with(aCategory).update("Séries", null, true);
+        when(delegate.update(any())).thenAnswer(call -> call.getArgument(0));
+        when(delegate.findById(aCategory.getId()))
+                .thenAnswer(call -> {
+                    // A escrita comita e invalida entre a leitura no banco e o put no cache
+                    gateway.update(updated);
+                    return Optional.of(Category.with(aCategory));
+                })
+                .thenReturn(Optional.of(Category.with(updated)));
+
+        Assertions.assertEquals("Filmes", gateway.findById(aCategory.getId()).get().getName());
+        Assertions.assertEquals("Séries", gateway.findById(aCategory.getId()).get().getName());
+
+        verify(delegate, times(2)).findById(aCategory.getId());
+    }
+
+    @Test
+    public void givenARemoteInvalidationLandingDuringAMissLoad_whenCallsFindByIdAgain_shouldReloadIt() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        when(delegate.findById(aCategory.getId()))
+                .thenAnswer(call -> {
+                    gateway.invalidate(List.of(aCategory.getId().getValue()));
+                    return Optional.of(Category.with(aCategory));
+                })
+                .thenReturn(Optional.of(aCategory));
+
+        gateway.findById(aCategory.getId());
+        gateway.findById(aCategory.getId());
+
+        verify(delegate, times(2)).findById(aCategory.getId());
+    }
+
+    @Test
+    public void givenACachedPage_whenCallsTheSameQueryAgain_shouldHitDatabaseOnce() {
+        final var aQuery = new SearchQuery(0, 10, "", "name", "asc");
+        when(delegate.findAllPreviews(aQuery)).thenReturn(pageOf(Category.newCategory("Filmes", null, true)));
+
+        final var first = gateway.findAllPreviews(aQuery);
+        final var second = gateway.findAllPreviews(new SearchQuery(0, 10, "", "name", "asc"));
+        gateway.findAllPreviews(new SearchQuery(1, 10, "", "name", "asc"));
+
+        Assertions.assertEquals(first, second);
+        verify(delegate, times(1)).findAllPreviews(aQuery);
+        verify(delegate, times(1)).findAllPreviews(new SearchQuery(1, 10, "", "name", "asc"));
+    }
+
+    @Test
+    public void givenCachedPages_whenAnyCategoryIsWritten_shouldBumpTheGenerationAndReloadThem() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var aQuery = new SearchQuery(0, 10, "", "name", "asc");
+        when(delegate.findAllPreviews(aQuery)).thenReturn(pageOf(aCategory));
+        when(delegate.update(any())).thenAnswer(call -> call.getArgument(0));
+
+        final var previousGeneration = generations.current(CacheInvalidationLog.CATEGORIES);
+
+        gateway.findAllPreviews(aQuery);
+        gateway.update(Category.with(aCategory).update("Séries", null, true));
+        gateway.findAllPreviews(aQuery);
+        gateway.invalidate(List.of(aCategory.getId().getValue()));
+        gateway.findAllPreviews(aQuery);
+
+        Assertions.assertEquals(previousGeneration + 2, generations.current(CacheInvalidationLog.CATEGORIES));
+        verify(delegate, times(3)).findAllPreviews(aQuery);
+    }
+
+    @Test
+    public void givenALaggingReplica_whenAStickyClientReadsAfterItsOwnWrite_shouldSkipTheCache() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var updated = Category.with(aCategory).update("Séries", null, true);
+        when(delegate.update(any())).thenAnswer(call -> call.getArgument(0));
+        // A réplica ainda não recebeu a escrita; o primário já tem a versão nova
+        when(delegate.findById(aCategory.getId()))
+                .thenAnswer(call -> Optional.of(Category.with(onReplica() ? aCategory : updated)));
+
+        gateway.update(Category.with(updated));
+
+        // Outro cliente lê primeiro, por um caso de uso roteado para a réplica, e preenche o cache
+        try (final var ignored = DataSourceRouting.useReplica()) {
+            Assertions.assertEquals("Filmes", gateway.findById(aCategory.getId()).get().getName());
+        }
+
+        // O cliente que escreveu está preso ao primário pelo cookie e não passa pelo cache
+        try (final var replica = DataSourceRouting.useReplica(); final var primary = DataSourceRouting.usePrimary()) {
+            Assertions.assertEquals("Séries", gateway.findById(aCategory.getId()).get().getName());
+        }
+
+        verify(delegate, times(2)).findById(aCategory.getId());
+    }
+
+    @Test
+    public void givenALaggingReplica_whenAPageIsLoadedByAReplicaRoutedRead_shouldKeepItForAtMostTheMaxLag() throws Exception {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var updated = Category.with(aCategory).update("Séries", null, true);
+        final var aQuery = new SearchQuery(0, 10, "", "name", "asc");
+        when(delegate.findAllPreviews(aQuery))
+                .thenAnswer(call -> pageOf(onReplica() ? aCategory : updated));
+
+        try (final var ignored = DataSourceRouting.useReplica()) {
+            Assertions.assertEquals("Filmes", gateway.findAllPreviews(aQuery).items().get(0).name());
+            Assertions.assertEquals("Filmes", gateway.findAllPreviews(aQuery).items().get(0).name());
+        }
+
+        Thread.sleep(MAX_LAG.multipliedBy(2).toMillis());
+
+        Assertions.assertEquals("Séries", gateway.findAllPreviews(aQuery).items().get(0).name());
+        verify(delegate, times(2)).findAllPreviews(aQuery);
+    }
+
+    @Test
+    public void givenAnEntryLoadedFromThePrimary_whenTheMaxLagPasses_shouldStillServeItFromCache() throws Exception {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        when(delegate.findById(aCategory.getId())).thenReturn(Optional.of(aCategory));
+
+        gateway.findById(aCategory.getId());
+        Thread.sleep(MAX_LAG.multipliedBy(2).toMillis());
+        gateway.findById(aCategory.getId());
+
+        verify(delegate, times(1)).findById(aCategory.getId());
+    }
+
+    // Mesma regra do RoutingDataSource, sem o monitor de atraso
+    private static boolean onReplica() {
+        return DataSourceRouting.replicaRequested() && !DataSourceRouting.primaryRequired();
+    }
+
+    private static Pagination<CategoryPreview> pageOf(final Category... someCategories) {
+        final var items = Arrays.stream(someCategories).map(CategoryPreview::from).toList();
+        return new Pagination<>(0, 10, items.size(), items);
+    }
+}
@@ -0,0 +1,102 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.filter;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class CategoryBloomFilterTest {
+
+    private CategoryRepository repository;
+    private CategoryBloomFilter bloomFilter;
+
+    @BeforeEach
+    void setUp() {
+        repository = Mockito.mock(CategoryRepository.class);
+        bloomFilter = new CategoryBloomFilter(repository, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bloomFilter.stop();
+    }
+
+    @Test
+    public void givenASlowTable_whenTheApplicationIsReady_shouldBuildInBackgroundAndAnswerMaybeUntilDone() throws Exception {
+        final var existing = CategoryID.unique();
+        final var missing = CategoryID.unique();
+        final var scanStarted = new CountDownLatch(1);
+        final var releaseScan = new CountDownLatch(1);
+        final var scanDone = new CountDownLatch(1);
+
+        when(repository.count()).thenReturn(1L);
+        when(repository.findAllIdsAfter(any(), any()))
+                .thenAnswer(call -> {
+                    scanStarted.countDown();
+                    releaseScan.await();
+                    return List.of(existing.getValue());
+                })
+                .thenAnswer(call -> {
+                    scanDone.countDown();
+                    return List.of();
+                });
+
+        // Volta sem esperar a varredura
+        bloomFilter.onApplicationReady();
+
+        Assertions.assertTrue(scanStarted.await(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(bloomFilter.mightContain(missing));
+
+        releaseScan.countDown();
+        Assertions.assertTrue(scanDone.await(5, TimeUnit.SECONDS));
+
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (bloomFilter.mightContain(missing) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        Assertions.assertFalse(bloomFilter.mightContain(missing));
+        Assertions.assertTrue(bloomFilter.mightContain(existing));
+    }
+
+    @Test
+    public void givenAnInitialBuildInProgress_whenAnotherNodeCreatesACategory_shouldKeepItInTheNewFilter() throws Exception {
+        final var remote = CategoryID.unique();
+        final var scanStarted = new CountDownLatch(1);
+        final var releaseScan = new CountDownLatch(1);
+
+        when(repository.count()).thenReturn(0L);
+        when(repository.findAllIdsAfter(any(), any()))
+                .thenAnswer(call -> {
+                    scanStarted.countDown();
+                    releaseScan.await();
+                    return List.of();
+                });
+
+        bloomFilter.onApplicationReady();
+        Assertions.assertTrue(scanStarted.await(5, TimeUnit.SECONDS));
+
+        // A varredura já passou do id criado no outro nó
+        bloomFilter.invalidate(List.of(remote.getValue()));
+        releaseScan.countDown();
+
+        final var other = CategoryID.unique();
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (bloomFilter.mightContain(other) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        Assertions.assertFalse(bloomFilter.mightContain(other));
+        Assertions.assertTrue(bloomFilter.mightContain(remote));
+    }
+}
@@ -0,0 +1,174 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.concurrency;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+public class ConcurrencyLimitProxyTest {
+
+    @Test
+    public void givenMoreCallersThanPermits_whenCallsTheProxy_thenShouldRunAtMostPermitsAtOnce() throws Exception {
+        final var expectedPermits = 3;
+        final var callers = 12;
+
+        final var aTarget = new SlowGateway(Duration.ofMillis(20));
+        final var aProxy = ConcurrencyLimitProxy.of(aTarget, new Semaphore(expectedPermits, true), Duration.ofSeconds(5));
+
+        final var executor = Executors.newFixedThreadPool(callers);
+        final var futures = new ArrayList<Future<String>>(callers);
+        for (int i = 0; i < callers; i++) {
+            futures.add(executor.submit(() -> aProxy.find("id")));
+        }
+        for (final var aFuture : futures) {
+            Assertions.assertEquals("id", aFuture.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        Assertions.assertEquals(callers, aTarget.calls.get());
+        Assertions.assertTrue(aTarget.maxInFlight.get() <= expectedPermits);
+    }
+
+    @Test
+    public void givenNoPermitReleasedInTime_whenCallsTheProxy_thenShouldThrowGatewayBusy() throws Exception {
+        final var expectedTimeout = Duration.ofMillis(50);
+        final var permits = new Semaphore(1, true);
+
+        final var blocked = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var aProxy = ConcurrencyLimitProxy.of(new BlockingGateway(blocked, release), permits, expectedTimeout);
+
+        final var executor = Executors.newSingleThreadExecutor();
+        final var holder = executor.submit(aProxy::find);
+        blocked.await();
+
+        final var actualException = Assertions.assertThrows(GatewayBusyException.class, aProxy::find);
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        Assertions.assertEquals("No database permit was released within 50 ms", actualException.getMessage());
+        Assertions.assertEquals(1, permits.availablePermits());
+    }
+
+    @Test
+    public void givenAFailingTarget_whenCallsTheProxy_thenShouldReleaseThePermit() {
+        final var permits = new Semaphore(1, true);
+        final var aProxy = ConcurrencyLimitProxy.of(new SlowGateway(Duration.ZERO), permits, Duration.ofMillis(50));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> aProxy.find(null));
+        Assertions.assertEquals(1, permits.availablePermits());
+    }
+
+    @Test
+    public void givenASlowConsumerOnAStreamingMethod_whenOtherCallsArrive_thenShouldNotHoldThePermit() throws Exception {
+        final var permits = new Semaphore(1, true);
+        final var aProxy = ConcurrencyLimitProxy.of(
+                new StreamingGateway(List.of("a", "b", "c")), permits, Duration.ofMillis(50), Set.of("streamAll"));
+
+        final var streaming = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var received = new ArrayList<String>();
+        final Consumer<String> slowConsumer = aValue -> {
+            received.add(aValue);
+            streaming.countDown();
+            await(release);
+        };
+
+        final var executor = Executors.newSingleThreadExecutor();
+        final var export = executor.submit(() -> aProxy.streamAll(slowConsumer));
+        streaming.await();
+
+        // O download lento está parado no primeiro item; as demais chamadas seguem com a permissão livre
+        Assertions.assertEquals(1, permits.availablePermits());
+        Assertions.assertEquals("id", aProxy.find("id"));
+        Assertions.assertEquals("id", aProxy.find("id"));
+
+        release.countDown();
+        export.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        Assertions.assertEquals(List.of("a", "b", "c"), received);
+        Assertions.assertEquals(1, permits.availablePermits());
+    }
+
+    private static void await(final CountDownLatch aLatch) {
+        try {
+            aLatch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    static class StreamingGateway {
+
+        private final List<String> rows;
+
+        StreamingGateway(final List<String> rows) {
+            this.rows = rows;
+        }
+
+        public void streamAll(final Consumer<String> aConsumer) {
+            this.rows.forEach(aConsumer);
+        }
+
+        public String find(final String anId) {
+            return anId;
+        }
+    }
+
+    static class SlowGateway {
+
+        private final Duration delay;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+        private final AtomicInteger calls = new AtomicInteger();
+
+        SlowGateway(final Duration delay) {
+            this.delay = delay;
+        }
+
+        public String find(final String anId) throws InterruptedException {
+            if (anId == null) {
+                throw new IllegalArgumentException("'id' should not be null");
+            }
+            this.calls.incrementAndGet();
+            this.maxInFlight.accumulateAndGet(this.inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(this.delay.toMillis());
+                return anId;
+            } finally {
+                this.inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    static class BlockingGateway {
+
+        private final CountDownLatch blocked;
+        private final CountDownLatch release;
+
+        BlockingGateway(final CountDownLatch blocked, final CountDownLatch release) {
+            this.blocked = blocked;
+            this.release = release;
+        }
+
+        public String find() throws InterruptedException {
+            this.blocked.countDown();
+            this.release.await();
+            return "done";
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.datasource;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+// Dois H2 em memória fazem o papel de primário e réplica; cada um responde o próprio nome
+public class RoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        this.primary = givenADatabase("primary");
+        this.replica = givenADatabase("replica");
+    }
+
+    @Test
+    public void givenNoReadOnlyScope_whenOpensAConnection_thenShouldUsePrimary() throws SQLException {
+        final var dataSource = routing(healthyMonitor());
+
+        Assertions.assertEquals("primary", nameOf(dataSource));
+    }
+
+    @Test
+    public void givenAReadOnlyScopeAndAHealthyReplica_whenOpensAConnection_thenShouldUseReplica() throws SQLException {
+        final var dataSource = routing(healthyMonitor());
+
+        try (final var ignored = DataSourceRouting.useReplica()) {
+            Assertions.assertEquals("replica", nameOf(dataSource));
+        }
+        Assertions.assertEquals("primary", nameOf(dataSource));
+    }
+
+    @Test
+    public void givenAReadOnlyScopeAfterAWrite_whenOpensAConnection_thenShouldUsePrimary() throws SQLException {
+        final var dataSource = routing(healthyMonitor());
+
+        try (final var ignored = DataSourceRouting.usePrimary();
+             final var ignoredToo = DataSourceRouting.useReplica()) {
+            Assertions.assertEquals("primary", nameOf(dataSource));
+        }
+    }
+
+    @Test
+    public void givenALaggingReplica_whenOpensAConnectionInAReadOnlyScope_thenShouldFallBackToPrimary() throws SQLException {
+        final var monitor = new ReplicaLagMonitor(this.replica, "SELECT 30", Duration.ofSeconds(5), Duration.ofSeconds(1));
+        monitor.check();
+        final var dataSource = routing(monitor);
+
+        try (final var ignored = DataSourceRouting.useReplica()) {
+            Assertions.assertFalse(monitor.isHealthy());
+            Assertions.assertEquals("primary", nameOf(dataSource));
+        }
+    }
+
+    @Test
+    public void givenAnUnreachableLagQuery_whenChecks_thenShouldMarkReplicaUnhealthy() {
+        final var monitor = new ReplicaLagMonitor(this.replica, "SELECT * FROM missing_table", Duration.ofSeconds(5), Duration.ofSeconds(1));
+
+        monitor.check();
+
+        Assertions.assertFalse(monitor.isHealthy());
+    }
+
+    @Test
+    public void givenAReadOnlyProxy_whenExecutes_thenShouldRunInsideAReplicaScope() {
+        final var aUseCase = ReadOnlyProxy.of(new RouteProbeUseCase());
+
+        Assertions.assertTrue(aUseCase.execute(null));
+        Assertions.assertFalse(DataSourceRouting.replicaRequested());
+    }
+
+    private ReplicaLagMonitor healthyMonitor() {
+        final var monitor = new ReplicaLagMonitor(this.replica, "SELECT 0", Duration.ofSeconds(5), Duration.ofSeconds(1));
+        monitor.check();
+        return monitor;
+    }
+
+    private DataSource routing(final ReplicaLagMonitor monitor) {
+        return new LazyConnectionDataSourceProxy(new RoutingDataSource(this.primary, this.replica, monitor));
+    }
+
+    private static DataSource givenADatabase(final String aName) throws SQLException {
+        final var dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing_%s;DB_CLOSE_DELAY=-1".formatted(aName));
+        try (final var conn = dataSource.getConnection(); final var st = conn.createStatement()) {
+            st.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+            st.execute("DELETE FROM node");
+            st.execute("INSERT INTO node VALUES ('%s')".formatted(aName));
+        }
+        return dataSource;
+    }
+
+    private static String nameOf(final DataSource dataSource) throws SQLException {
+        try (final var conn = dataSource.getConnection();
+             final var st = conn.createStatement();
+             final var rs = st.executeQuery("SELECT name FROM node")) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+
+    public static class RouteProbeUseCase extends UseCase<Void, Boolean> {
+
+        @Override
+        public Boolean execute(final Void anIn) {
+            return DataSourceRouting.replicaRequested();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.fullcycle.admin.catalogo.infrastructure.filter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+public class BloomFilterTest {
+
+    @Test
+    public void givenInsertedValues_whenCallsMightContain_shouldNeverReturnFalseNegatives() {
+        final var filter = new BloomFilter(10_000, 0.01);
+        final var values = IntStream.range(0, 10_000)
+                .mapToObj(i -> UUID.randomUUID().toString())
+                .toList();
+
+        values.forEach(filter::put);
+
+        values.forEach(value -> Assertions.assertTrue(filter.mightContain(value)));
+    }
+
+    @Test
+    public void givenAFilterAtCapacity_whenCallsMightContainWithUnknownValues_shouldKeepFalsePositiveRateLow() {
+        final var filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put(UUID.randomUUID().toString()));
+
+        final var falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightContain(UUID.randomUUID().toString()))
+                .count();
+
+        Assertions.assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    @Test
+    public void givenAnEmptyFilter_whenCallsMightContain_shouldReturnFalse() {
+        final var filter = new BloomFilter(100, 0.01);
+
+        Assertions.assertFalse(filter.mightContain(UUID.randomUUID().toString()));
+    }
+
+    @Test
+    public void givenInvalidParameters_whenCreatesFilter_shouldThrowIllegalArgumentException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1));
+    }
+}
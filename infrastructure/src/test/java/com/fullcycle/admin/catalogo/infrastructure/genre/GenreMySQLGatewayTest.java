@@ -1,15 +1,26 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
+import javax.persistence.EntityManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.AggregateVersion;
 import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalogo.domain.genre.CategoryMatch;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.genre.GenrePreview;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
@@ -27,6 +38,9 @@ public class GenreMySQLGatewayTest {
     @Autowired
     private GenreRepository genreRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     public void testDependenciesInjected() {
         Assertions.assertNotNull(categoryGateway);
@@ -567,4 +581,319 @@ public class GenreMySQLGatewayTest {
         Assertions.assertEquals(1, dramaResult.getCategories().size());
         Assertions.assertTrue(dramaResult.getCategories().contains(filmes.getId()));
     }
+
+    @Test
+    public void givenPrePersistedGenres_whenCallsFindAllPreviews_shouldReturnPreviewsWithCategories() {
+        final var expectedTotal = 2;
+
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+
+        final var acao = Genre.newGenre("Ação", true);
+        acao.addCategory(filmes.getId());
+
+        final var comedia = Genre.newGenre("Comédia", true);
+
+        genreRepository.saveAll(List.of(
+                GenreJpaEntity.from(acao),
+                GenreJpaEntity.from(comedia)
+        ));
+
+        final var query = new SearchQuery(0, 10, "", "name", "asc");
+        final var actualResult = genreGateway.findAllPreviews(query);
+
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        Assertions.assertEquals(expectedTotal, actualResult.items().size());
+
+        final var acaoPreview = actualResult.items().get(0);
+        Assertions.assertEquals(acao.getId(), acaoPreview.id());
+        Assertions.assertEquals(acao.getName(), acaoPreview.name());
+        Assertions.assertEquals(List.of(filmes.getId()), acaoPreview.categories());
+
+        final var comediaPreview = actualResult.items().get(1);
+        Assertions.assertEquals(comedia.getId(), comediaPreview.id());
+        Assertions.assertTrue(comediaPreview.categories().isEmpty());
+    }
+
+    @Test
+    public void givenPrePersistedGenresWithCategories_whenCallsDeleteAllById_shouldDeleteThem() {
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+
+        final var acao = Genre.newGenre("Ação", true);
+        acao.addCategory(filmes.getId());
+
+        final var comedia = Genre.newGenre("Comédia", true);
+        comedia.addCategory(filmes.getId());
+
+        final var drama = Genre.newGenre("Drama", true);
+
+        genreRepository.saveAllAndFlush(List.of(
+                GenreJpaEntity.from(acao),
+                GenreJpaEntity.from(comedia),
+                GenreJpaEntity.from(drama)
+        ));
+
+        Assertions.assertEquals(3, genreRepository.count());
+
+        genreGateway.deleteAllById(List.of(acao.getId(), comedia.getId()));
+
+        Assertions.assertEquals(1, genreRepository.count());
+        Assertions.assertTrue(genreRepository.existsById(drama.getId().getValue()));
+    }
+
+    @Test
+    public void givenPrePersistedGenres_whenCallsStreamAllPreviews_shouldEmitEachGenreOnceWithItsCategories() {
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        final var acao = Genre.newGenre("Ação", true);
+        acao.addCategory(filmes.getId());
+        acao.addCategory(series.getId());
+
+        final var drama = Genre.newGenre("Drama", true);
+
+        genreGateway.create(acao);
+        genreGateway.create(drama);
+
+        final var actualPreviews = new ArrayList<GenrePreview>();
+        genreGateway.streamAllPreviews("", actualPreviews::add);
+
+        Assertions.assertEquals(2, actualPreviews.size());
+
+        final var actualAcao = actualPreviews.stream()
+                .filter(it -> it.id().equals(acao.getId()))
+                .findFirst()
+                .get();
+        final var actualDrama = actualPreviews.stream()
+                .filter(it -> it.id().equals(drama.getId()))
+                .findFirst()
+                .get();
+
+        Assertions.assertEquals(2, actualAcao.categories().size());
+        Assertions.assertTrue(actualAcao.categories().containsAll(List.of(filmes.getId(), series.getId())));
+        Assertions.assertTrue(actualDrama.categories().isEmpty());
+    }
+
+    @Test
+    public void givenAPageOfGenresWithCategories_whenCallsFindAllPreviewsWithoutCategories_shouldRunOnlySliceAndCount() {
+        givenGenresWithCategories(5);
+
+        final var statistics = freshStatistics();
+        final var actualResult = genreGateway.findAllPreviews(new SearchQuery(0, 5, "", "name", "asc"), false);
+
+        Assertions.assertEquals(5, actualResult.items().size());
+        Assertions.assertTrue(actualResult.items().stream().allMatch(preview -> preview.categories().isEmpty()));
+
+        // SELECT da página + SELECT COUNT(*); genres_categories não é tocada
+        Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void givenAPageOfGenresWithCategories_whenCallsFindAllPreviewsWithCategories_shouldAddASingleStatement() {
+        givenGenresWithCategories(5);
+
+        final var statistics = freshStatistics();
+        final var actualResult = genreGateway.findAllPreviews(new SearchQuery(0, 5, "", "name", "asc"), true);
+
+        Assertions.assertEquals(5, actualResult.items().size());
+        Assertions.assertTrue(actualResult.items().stream().allMatch(preview -> preview.categories().size() == 2));
+
+        // Página + COUNT + uma única consulta em genres_categories para a página inteira
+        Assertions.assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void givenAGenreWithCategories_whenCallsFindById_shouldLoadItWithASingleStatement() {
+        final var aGenre = givenGenresWithCategories(1).get(0);
+
+        final var statistics = freshStatistics();
+        final var actualGenre = genreGateway.findById(aGenre.getId()).get();
+
+        Assertions.assertEquals(2, actualGenre.getCategories().size());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void givenAGenreWithCategories_whenCallsFindVersionById_shouldReadOnlyTheGenresTable() {
+        final var aGenre = givenGenresWithCategories(1).get(0);
+        final var expectedGenre = genreGateway.findById(aGenre.getId()).get();
+
+        final var statistics = freshStatistics();
+        final var actualVersion = genreGateway.findVersionById(aGenre.getId());
+
+        Assertions.assertEquals(
+                Optional.of(new AggregateVersion(expectedGenre.getVersion(), expectedGenre.getUpdatedAt())),
+                actualVersion
+        );
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+        Assertions.assertTrue(genreGateway.findVersionById(GenreID.from("123")).isEmpty());
+    }
+
+    @Test
+    public void givenAGenreWithCategories_whenOneCategoryIsDeleted_shouldMoveTheGenreVersion() {
+        final var aGenre = givenGenresWithCategories(1).get(0);
+        final var previousVersion = genreGateway.findVersionById(aGenre.getId()).get();
+
+        categoryGateway.deleteById(aGenre.getCategories().get(0));
+
+        final var actualGenre = genreGateway.findById(aGenre.getId()).get();
+        Assertions.assertEquals(1, actualGenre.getCategories().size());
+        Assertions.assertTrue(actualGenre.getUpdatedAt().isAfter(previousVersion.updatedAt()));
+        Assertions.assertEquals(previousVersion.version() + 1, actualGenre.getVersion());
+    }
+
+    @Test
+    public void givenAGenreReadBeforeAnotherWrite_whenCallsUpdate_shouldThrowConflictAndKeepTheOtherWrite() {
+        final var aGenre = givenGenresWithCategories(1).get(0);
+        final var first = Genre.with(aGenre).update("Ação", true, aGenre.getCategories());
+        final var second = Genre.with(aGenre).update("Aventura", true, aGenre.getCategories());
+
+        final var actualGenre = genreGateway.update(first);
+        Assertions.assertEquals(aGenre.getVersion() + 1, actualGenre.getVersion());
+
+        final var actualException = Assertions.assertThrows(ConflictException.class, () -> genreGateway.update(second));
+
+        Assertions.assertEquals(
+                "Genre with ID %s is no longer at version %d".formatted(aGenre.getId().getValue(), aGenre.getVersion()),
+                actualException.getMessage()
+        );
+        final var actualEntity = genreRepository.findById(aGenre.getId().getValue()).get();
+        Assertions.assertEquals("Ação", actualEntity.getName());
+        Assertions.assertEquals(aGenre.getVersion() + 1, actualEntity.getVersion());
+    }
+
+    @Test
+    public void givenAGenreWithCategories_whenCallsUpdateWithSameCategories_shouldNotTouchJoinRows() {
+        final var aGenre = givenGenresWithCategories(1).get(0);
+        final var aUpdatedGenre = Genre.with(aGenre).update("Ação", false, aGenre.getCategories());
+
+        final var statistics = freshStatistics();
+        final var actualGenre = genreGateway.update(aUpdatedGenre);
+        entityManager.flush();
+
+        // INSERTs no outbox e no log de invalidação + UPDATE condicional do gênero + SELECT das categorias gravadas
+        Assertions.assertEquals(4, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(aGenre.getCategories(), actualGenre.getCategories());
+
+        final var actualEntity = genreRepository.findById(aGenre.getId().getValue()).get();
+        Assertions.assertEquals("Ação", actualEntity.getName());
+        Assertions.assertEquals(2, actualEntity.getCategories().size());
+    }
+
+    @Test
+    public void givenAGenreWithCategories_whenCallsUpdateSwappingOneCategory_shouldApplyOnlyTheDiff() {
+        final var aGenre = givenGenresWithCategories(1).get(0);
+        final var documentarios = categoryGateway.create(Category.newCategory("Documentários", null, true));
+        final var kept = aGenre.getCategories().get(0);
+        final var aUpdatedGenre = Genre.with(aGenre)
+                .update(aGenre.getName(), true, List.of(kept, documentarios.getId(), documentarios.getId()));
+
+        final var statistics = freshStatistics();
+        final var actualGenre = genreGateway.update(aUpdatedGenre);
+        entityManager.flush();
+
+        // INSERTs no outbox e no log de invalidação + UPDATE condicional + SELECT das categorias + um INSERT em lote + um DELETE
+        Assertions.assertEquals(6, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(List.of(kept, documentarios.getId()), actualGenre.getCategories());
+
+        final var actualCategories = genreGateway.findById(aGenre.getId()).get().getCategories();
+        Assertions.assertEquals(2, actualCategories.size());
+        Assertions.assertTrue(actualCategories.containsAll(List.of(kept, documentarios.getId())));
+    }
+
+    @Test
+    public void givenGenresWithCategories_whenCallsFindAllByCategory_shouldReturnOnlyGenresOfThatCategory() {
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        genreGateway.create(Genre.newGenre("Ação", true).addCategory(filmes.getId()));
+        genreGateway.create(Genre.newGenre("Drama", true).addCategory(filmes.getId()).addCategory(series.getId()));
+        genreGateway.create(Genre.newGenre("Terror", true).addCategory(series.getId()));
+        genreGateway.create(Genre.newGenre("Comédia", true));
+
+        final var actualResult = genreGateway.findAllByCategory(filmes.getId(), new SearchQuery(0, 10, "", "name", "asc"));
+
+        Assertions.assertEquals(2, actualResult.total());
+        Assertions.assertEquals(List.of("Ação", "Drama"), actualResult.items().stream().map(Genre::getName).toList());
+        Assertions.assertEquals(2, actualResult.items().get(1).getCategories().size());
+    }
+
+    @Test
+    public void givenGenresWithCategories_whenCallsFindAllByCategoriesWithAnyOrAll_shouldApplyTheMatch() {
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+        final var both = List.of(filmes.getId(), series.getId());
+
+        genreGateway.create(Genre.newGenre("Ação", true).addCategory(filmes.getId()));
+        genreGateway.create(Genre.newGenre("Drama", true).addCategory(filmes.getId()).addCategory(series.getId()));
+        genreGateway.create(Genre.newGenre("Terror", true).addCategory(series.getId()));
+        genreGateway.create(Genre.newGenre("Comédia", true));
+
+        final var aQuery = new SearchQuery(0, 10, "", "name", "asc");
+
+        final var actualAny = genreGateway.findAllByCategories(both, CategoryMatch.ANY, aQuery);
+        Assertions.assertEquals(3, actualAny.total());
+        Assertions.assertEquals(List.of("Ação", "Drama", "Terror"), actualAny.items().stream().map(Genre::getName).toList());
+
+        final var actualAll = genreGateway.findAllByCategories(both, CategoryMatch.ALL, aQuery);
+        Assertions.assertEquals(1, actualAll.total());
+        Assertions.assertEquals("Drama", actualAll.items().get(0).getName());
+
+        final var actualFiltered = genreGateway.findAllByCategories(both, CategoryMatch.ANY, new SearchQuery(0, 10, "ter", "name", "asc"));
+        Assertions.assertEquals(1, actualFiltered.total());
+        Assertions.assertEquals("Terror", actualFiltered.items().get(0).getName());
+    }
+
+    @Test
+    public void givenAnInvalidCategoryId_whenCallsFindAllByCategoriesWithAll_shouldReturnEmpty() {
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        genreGateway.create(Genre.newGenre("Ação", true).addCategory(filmes.getId()));
+
+        final var actualResult = genreGateway.findAllByCategories(
+                List.of(filmes.getId(), CategoryID.from("123")), CategoryMatch.ALL, new SearchQuery(0, 10, "", "name", "asc"));
+
+        Assertions.assertEquals(0, actualResult.total());
+        Assertions.assertTrue(actualResult.items().isEmpty());
+    }
+
+    private List<Genre> givenGenresWithCategories(final int count) {
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        final var genres = new ArrayList<Genre>();
+        for (int i = 0; i < count; i++) {
+            final var aGenre = Genre.newGenre("Gênero " + i, true);
+            aGenre.addCategory(filmes.getId());
+            aGenre.addCategory(series.getId());
+            genres.add(genreGateway.create(aGenre));
+        }
+        return genres;
+    }
+
+    // Descarrega e limpa o contexto de persistência para que nada venha do cache de primeiro nível
+    private Statistics freshStatistics() {
+        entityManager.flush();
+        entityManager.clear();
+
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    @Test
+    public void givenABatchWithAMissingCategory_whenCallsCreateAll_shouldRollItBackAndReturnTheCause() {
+        final var acao = Genre.newGenre("Ação", true);
+        final var drama = Genre.newGenre("Drama", true);
+        drama.addCategory(CategoryID.unique());
+
+        final var actualResult = genreGateway.createAll(List.of(acao, drama));
+
+        Assertions.assertTrue(actualResult.created().isEmpty());
+        Assertions.assertEquals(1, actualResult.failures().size());
+        Assertions.assertEquals(List.of(acao, drama), actualResult.failures().get(0).items());
+        Assertions.assertNotNull(actualResult.failures().get(0).cause());
+        Assertions.assertEquals(0, genreRepository.count());
+    }
 }
@@ -0,0 +1,114 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryEvent;
+import com.fullcycle.admin.catalogo.domain.events.EventType;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreEvent;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.genre.GenreMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+@MySQLGatewayTest
+public class OutboxRelayTest {
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private GenreMySQLGateway genreGateway;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void givenAggregateWrites_whenCallsGateways_shouldAppendOneEventPerWriteInOrder() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        categoryGateway.create(aCategory);
+        Assertions.assertTrue(aCategory.getEvents().isEmpty());
+
+        final var aGenre = genreGateway.create(Genre.newGenre("Ação", true).addCategory(aCategory.getId()));
+        categoryGateway.update(Category.with(aCategory).update("Séries", null, true));
+        genreGateway.deleteById(aGenre.getId());
+
+        final var actualEvents = outboxRepository.findAll(Sort.by("id"));
+
+        Assertions.assertEquals(
+                List.of(CategoryEvent.AGGREGATE_TYPE, GenreEvent.AGGREGATE_TYPE, CategoryEvent.AGGREGATE_TYPE, GenreEvent.AGGREGATE_TYPE),
+                actualEvents.stream().map(OutboxJpaEntity::getAggregateType).toList()
+        );
+        Assertions.assertEquals(
+                List.of(EventType.CREATED.name(), EventType.CREATED.name(), EventType.UPDATED.name(), EventType.DELETED.name()),
+                actualEvents.stream().map(OutboxJpaEntity::getEventType).toList()
+        );
+        Assertions.assertEquals(aGenre.getId().getValue(), actualEvents.get(3).getAggregateId());
+        Assertions.assertTrue(actualEvents.get(0).getPayload().contains(aCategory.getId().getValue()));
+    }
+
+    @Test
+    public void givenPendingEvents_whenRelayDrains_shouldPublishInOrderedBatchesAndEmptyTheOutbox() {
+        final var categories = List.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Séries", null, true),
+                Category.newCategory("Documentários", null, true)
+        );
+        categoryGateway.createAll(categories);
+
+        final var publisher = new InMemoryOutboxPublisher(100);
+        final var now = Instant.now().plusSeconds(10);
+        final var registry = new SimpleMeterRegistry();
+        final var relay = new OutboxRelay(
+                outboxRepository, publisher, transactionManager, 2, Duration.ofSeconds(1), Clock.fixed(now, ZoneOffset.UTC)
+        ).bindTo(registry);
+
+        relay.drain();
+
+        Assertions.assertEquals(
+                categories.stream().map(aCategory -> aCategory.getId().getValue()).toList(),
+                publisher.messages().stream().map(OutboxMessage::aggregateId).toList()
+        );
+        Assertions.assertEquals(0, outboxRepository.count());
+        Assertions.assertEquals(3, relay.published());
+        Assertions.assertEquals(3.0, registry.get("outbox.relay.published").functionCounter().count());
+        // O relógio do relay está 10s à frente da gravação
+        Assertions.assertTrue(registry.get("outbox.relay.lag").gauge().value() >= 10.0);
+    }
+
+    @Test
+    public void givenAFailingPublisher_whenRelayDrains_shouldKeepTheEventsForTheNextCycle() {
+        categoryGateway.create(Category.newCategory("Filmes", null, true));
+
+        final var relay = new OutboxRelay(
+                outboxRepository,
+                messages -> {
+                    throw new IllegalStateException("broker down");
+                },
+                transactionManager,
+                10,
+                Duration.ofSeconds(1),
+                Clock.systemUTC()
+        );
+
+        relay.drain();
+
+        Assertions.assertEquals(1, outboxRepository.count());
+        Assertions.assertEquals(0, relay.published());
+    }
+}
@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryEvent;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class OutboxTest {
+
+    @Test
+    public void givenADisabledOutbox_whenCallsAppend_shouldNotWriteAnyRow() {
+        final var entityManager = Mockito.mock(EntityManager.class);
+        final var outbox = new Outbox(entityManager, false);
+
+        outbox.append(List.of(CategoryEvent.created(CategoryID.unique())));
+
+        verifyNoInteractions(entityManager);
+    }
+}
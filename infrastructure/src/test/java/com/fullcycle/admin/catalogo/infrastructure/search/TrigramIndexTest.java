@@ -0,0 +1,96 @@
+package com.fullcycle.admin.catalogo.infrastructure.search;
+
+import com.fullcycle.admin.catalogo.infrastructure.search.TrigramIndex.Field;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+
+public class TrigramIndexTest {
+
+    private static final int MAX_MATCHES = 100;
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        index.put("filmes", List.of(Field.of("Filmes", 3), Field.of("A categoria mais assistida", 1)));
+        index.put("series", List.of(Field.of("Séries", 3), Field.of("Uma categoria assistida", 1)));
+        index.put("docs", List.of(Field.of("Documentários", 3), Field.of("A categoria menos assistida", 1)));
+        index.put("amazon", List.of(Field.of("Amazon Originals", 3), Field.of("Títulos de autoria da Amazon Prime", 1)));
+        index.put("kids", List.of(Field.of("Kids", 3), Field.of(null, 1)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "fil,filmes",
+            "doc,docs",
+            "ZON,amazon",
+            "MAIS ASSISTIDA,filmes",
+            "da Amazon,amazon",
+    })
+    public void givenATerm_whenCallsSearch_shouldMatchSubstringsLikeTheLikeOperator(
+            final String aTerm,
+            final String expectedId
+    ) {
+        Assertions.assertEquals(List.of(expectedId), index.search(aTerm, MAX_MATCHES).orElseThrow());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "serie,series",
+            "DOCUMENTARIO,docs",
+            "titulos,amazon",
+            "SÉRIES,series",
+            "ÇÃO,''",
+    })
+    public void givenATermWithOtherAccentsOrCase_whenCallsSearch_shouldMatchLikeAnAccentInsensitiveCollation(
+            final String aTerm,
+            final String expectedId
+    ) {
+        final var expected = expectedId.isEmpty() ? List.<String>of() : List.of(expectedId);
+        Assertions.assertEquals(expected, index.search(aTerm, MAX_MATCHES).orElseThrow());
+    }
+
+    @Test
+    public void givenATermMatchingNameAndDescription_whenCallsSearch_shouldRankNameMatchesFirst() {
+        index.put("assistidos", List.of(Field.of("Assistidos", 3), Field.of(null, 1)));
+
+        final var actualResult = index.search("assistid", MAX_MATCHES).orElseThrow();
+
+        Assertions.assertEquals(4, actualResult.size());
+        Assertions.assertEquals("assistidos", actualResult.get(0));
+    }
+
+    @Test
+    public void givenAnUpdatedDocument_whenCallsSearch_shouldOnlyMatchTheNewText() {
+        index.put("filmes", List.of(Field.of("Longas", 3)));
+
+        Assertions.assertTrue(index.search("filmes", MAX_MATCHES).orElseThrow().isEmpty());
+        Assertions.assertEquals(List.of("filmes"), index.search("longa", MAX_MATCHES).orElseThrow());
+        Assertions.assertEquals(5, index.size());
+    }
+
+    @Test
+    public void givenARemovedDocument_whenCallsSearch_shouldNotReturnIt() {
+        index.remove("kids");
+
+        Assertions.assertTrue(index.search("kids", MAX_MATCHES).orElseThrow().isEmpty());
+        Assertions.assertEquals(4, index.size());
+    }
+
+    @Test
+    public void givenATermShorterThanATrigram_whenCallsSearch_shouldLeaveItToTheLike() {
+        Assertions.assertTrue(index.search("KI", MAX_MATCHES).isEmpty());
+    }
+
+    @Test
+    public void givenMoreMatchesThanTheLimit_whenCallsSearch_shouldLeaveItToTheLike() {
+        Assertions.assertTrue(index.search("categoria", 2).isEmpty());
+        Assertions.assertEquals(3, index.search("categoria", 3).orElseThrow().size());
+    }
+}
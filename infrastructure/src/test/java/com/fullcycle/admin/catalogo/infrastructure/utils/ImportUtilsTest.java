@@ -0,0 +1,96 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.application.imports.ImportLine;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
+import com.fullcycle.admin.catalogo.infrastructure.genre.models.CreateGenreRequest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+public class ImportUtilsTest {
+
+    @Test
+    public void givenACsvBody_whenReadsLines_shouldMapColumnsByHeaderAndKeepFileLineNumbers() {
+        final var body = """
+                name,description,is_active
+                Filmes,"A categoria, a mais assistida",true
+
+                Séries,,false
+                """;
+
+        final var actualLines = toList(ImportUtils.lines(
+                stream(body), ImportUtils.TEXT_CSV, CreateCategoryRequest.class, Function.identity()
+        ));
+
+        Assertions.assertEquals(2, actualLines.size());
+
+        Assertions.assertEquals(2, actualLines.get(0).number());
+        Assertions.assertEquals("Filmes", actualLines.get(0).value().get().name());
+        Assertions.assertEquals("A categoria, a mais assistida", actualLines.get(0).value().get().description());
+        Assertions.assertTrue(actualLines.get(0).value().get().active());
+
+        Assertions.assertEquals(4, actualLines.get(1).number());
+        Assertions.assertEquals("Séries", actualLines.get(1).value().get().name());
+        Assertions.assertNull(actualLines.get(1).value().get().description());
+        Assertions.assertFalse(actualLines.get(1).value().get().active());
+    }
+
+    @Test
+    public void givenACsvGenre_whenReadsLines_shouldSplitCategoriesBySemicolon() {
+        final var body = """
+                name,categories_id,is_active
+                Ação,123;456,true
+                """;
+
+        final var actualLines = toList(ImportUtils.lines(
+                stream(body), ImportUtils.TEXT_CSV, CreateGenreRequest.class, Function.identity()
+        ));
+
+        Assertions.assertEquals(1, actualLines.size());
+        Assertions.assertEquals(List.of("123", "456"), actualLines.get(0).value().get().categories());
+    }
+
+    @Test
+    public void givenAMalformedNdjsonLine_whenReadsLines_shouldReportItAndKeepReading() {
+        final var body = """
+                {"name": "Filmes"}
+                {"name":
+                {"name": "Séries"}
+                """;
+
+        final var actualLines = toList(ImportUtils.lines(
+                stream(body), MediaType.APPLICATION_NDJSON, CreateCategoryRequest.class, CreateCategoryRequest::name
+        ));
+
+        Assertions.assertEquals(3, actualLines.size());
+        Assertions.assertEquals("Filmes", actualLines.get(0).value().get());
+        Assertions.assertTrue(actualLines.get(1).value().isLeft());
+        Assertions.assertTrue(actualLines.get(1).value().getLeft().firstError().message().startsWith("Malformed record"));
+        Assertions.assertEquals("Séries", actualLines.get(2).value().get());
+        Assertions.assertEquals(3, actualLines.get(2).number());
+    }
+
+    @Test
+    public void givenAnUnsupportedContentType_whenReadsLines_shouldThrow() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ImportUtils.lines(
+                stream("[]"), MediaType.APPLICATION_JSON, CreateCategoryRequest.class, Function.identity()
+        ));
+    }
+
+    private static ByteArrayInputStream stream(final String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static <T> List<ImportLine<T>> toList(final Iterator<ImportLine<T>> lines) {
+        final var result = new ArrayList<ImportLine<T>>();
+        lines.forEachRemaining(result::add);
+        return result;
+    }
+}
@@ -0,0 +1,53 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+
+import java.util.List;
+
+public class SortPlannerTest {
+
+    private final SortPlanner planner = SortPlanner.builder("name")
+            .allow("name")
+            .allow("createdAt", "created_at")
+            .build();
+
+    @Test
+    public void givenAnAllowedFieldOrAlias_whenCallsProperty_shouldReturnTheEntityProperty() {
+        Assertions.assertEquals("name", planner.property("name"));
+        Assertions.assertEquals("createdAt", planner.property("createdAt"));
+        Assertions.assertEquals("createdAt", planner.property("CREATED_AT"));
+        Assertions.assertEquals("name", planner.property(""));
+        Assertions.assertEquals("name", planner.property(null));
+    }
+
+    @Test
+    public void givenAFieldOutsideTheWhitelist_whenCallsProperty_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'sort' must be one of [name, createdAt, created_at]";
+
+        final var actualException =
+                Assertions.assertThrows(DomainException.class, () -> planner.property("description"));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAProperty_whenCallsSort_shouldAppendIdAsTiebreakerInTheSameDirection() {
+        final var actualSort = planner.sort("createdAt", Direction.DESC);
+
+        Assertions.assertEquals(
+                List.of(Sort.Order.desc("createdAt"), Sort.Order.desc("id")),
+                actualSort.toList()
+        );
+    }
+
+    @Test
+    public void givenAnInvalidDirection_whenCallsDirection_shouldThrowDomainException() {
+        Assertions.assertEquals(Direction.ASC, SortPlanner.direction("asc"));
+        Assertions.assertEquals(Direction.DESC, SortPlanner.direction("DESC"));
+        Assertions.assertThrows(DomainException.class, () -> SortPlanner.direction("sideways"));
+    }
+}
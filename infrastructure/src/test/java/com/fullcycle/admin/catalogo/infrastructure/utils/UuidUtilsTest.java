@@ -0,0 +1,51 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+public class UuidUtilsTest {
+
+    @Test
+    public void givenCanonicalUuids_whenConvertsToBytesAndBack_shouldReturnTheSameString() {
+        IntStream.range(0, 1_000).forEach(i -> {
+            final var expectedId = UUID.randomUUID().toString();
+
+            final var actualBytes = UuidUtils.toBytes(expectedId);
+
+            Assertions.assertEquals(16, actualBytes.length);
+            Assertions.assertEquals(expectedId, UuidUtils.fromBytes(actualBytes));
+        });
+    }
+
+    @Test
+    public void givenUuidsInIdOrder_whenConvertsToBytes_shouldKeepTheSameOrder() {
+        final var ids = IntStream.range(0, 1_000)
+                .mapToObj(i -> UUID.randomUUID().toString())
+                .sorted()
+                .toList();
+
+        for (int i = 1; i < ids.size(); i++) {
+            final var previous = UuidUtils.toBytes(ids.get(i - 1));
+            final var current = UuidUtils.toBytes(ids.get(i));
+            Assertions.assertTrue(Arrays.compareUnsigned(previous, current) < 0);
+        }
+    }
+
+    @Test
+    public void givenNonCanonicalValues_whenCallsIsUuid_shouldReturnFalse() {
+        Assertions.assertFalse(UuidUtils.isUuid(null));
+        Assertions.assertFalse(UuidUtils.isUuid(""));
+        Assertions.assertFalse(UuidUtils.isUuid("123"));
+        Assertions.assertFalse(UuidUtils.isUuid("1-2-3-4-5"));
+        Assertions.assertTrue(UuidUtils.isUuid(UuidUtils.MIN));
+    }
+
+    @Test
+    public void givenANonCanonicalValue_whenCallsToBytes_shouldThrowIllegalArgument() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> UuidUtils.toBytes("invalid"));
+    }
+}